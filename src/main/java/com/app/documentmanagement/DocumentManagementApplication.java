@@ -4,6 +4,8 @@ import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -17,6 +19,8 @@ import io.swagger.v3.oas.annotations.info.Info;
  * @author Zeeshan Hanif
  */
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
 @OpenAPIDefinition(info = @Info(title = "Document Management API", version = "1.0", description = "Doucment Management for Authors"))
 public class DocumentManagementApplication {
 
@@ -0,0 +1,90 @@
+package com.app.documentmanagement.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration of in process caches that sit in front of {@Code DocumentService#getDocumentById} and
+ * {@Code AuthorService#getAuthorById}. Caches are bounded by size and time to live, Caffeine evicts
+ * entries with W-TinyLFU policy so hot documents stay cached. Statistics are recorded and published as
+ * {@Code cache.*} metrics on actuator.
+ * Cached lookups use {@Code @Cacheable(sync = true)}, concurrent misses of the same key are coalesced into
+ * one load by {@Code CoalescingCaffeineCache}. Coalescing is published as {@Code cache.coalescing.requests}
+ * metric tagged with cache name and {@Code role} (leader ran the load, coalesced waited for it) and
+ * {@Code cache.coalescing.in.flight} gauge
+ * 
+ * @author Zeeshan Hanif
+ * @see CacheEvictionListener
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DOCUMENTS_CACHE = "documents";
+    public static final String AUTHORS_CACHE = "authors";
+
+    @Value("${documentmanagement.cache.maximum.size}")
+    private long maximumSize;
+
+    @Value("${documentmanagement.cache.expire.after.write}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CoalescingCaffeineCache(name, cache, isAllowNullValues(), singleFlight(name, meterRegistry));
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(List.of(DOCUMENTS_CACHE, AUTHORS_CACHE));
+        return cacheManager;
+    }
+
+    /**
+     * Creates {@Code SingleFlight} for a cache and registers its metrics
+     * 
+     * @param cacheName name of cache
+     * @param meterRegistry registry of actuator metrics
+     * @return {@Code SingleFlight} of cache
+     */
+    private SingleFlight singleFlight(String cacheName, MeterRegistry meterRegistry) {
+        Counter loads = Counter.builder("cache.coalescing.requests").tag("cache", cacheName).tag("role", "leader")
+                        .description("Cache misses that ran the load").register(meterRegistry);
+        Counter coalesced = Counter.builder("cache.coalescing.requests").tag("cache", cacheName).tag("role", "coalesced")
+                        .description("Cache misses that waited for load of another request").register(meterRegistry);
+        SingleFlight singleFlight = new SingleFlight(new SingleFlight.Listener() {
+            @Override
+            public void onLoad() {
+                loads.increment();
+            }
+
+            @Override
+            public void onCoalesced() {
+                coalesced.increment();
+            }
+        });
+        Gauge.builder("cache.coalescing.in.flight", singleFlight, SingleFlight::inFlightCount).tag("cache", cacheName)
+                        .description("Loads running now").register(meterRegistry);
+        return singleFlight;
+    }
+}
@@ -0,0 +1,67 @@
+package com.app.documentmanagement.cache;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.events.DocumentChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached {@Code DocumentDTO} and {@Code AuthorDTO} entries after a change is committed.
+ * {@Code DocumentDTO} embeds its authors and {@Code AuthorDTO} embeds its documents and their authors,
+ * so every entry that embeds changed data is evicted, not only the entry of changed object
+ * 
+ * @author Zeeshan Hanif
+ * @see CacheConfig
+ */
+@Slf4j
+@Component
+public class CacheEvictionListener {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Evicts changed document and all the authors that embed it
+     * 
+     * @param event {@Code DocumentChangedEvent} published by {@Code DocumentService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        evict(CacheConfig.DOCUMENTS_CACHE, event.getDocumentId());
+        evictAll(CacheConfig.AUTHORS_CACHE, event.getAuthorIds());
+    }
+
+    /**
+     * Evicts changed author, its documents and co-authors whose documents embed this author
+     * 
+     * @param event {@Code AuthorChangedEvent} published by {@Code AuthorService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        evict(CacheConfig.AUTHORS_CACHE, event.getAuthorId());
+        evictAll(CacheConfig.AUTHORS_CACHE, event.getCoAuthorIds());
+        evictAll(CacheConfig.DOCUMENTS_CACHE, event.getDocumentIds());
+    }
+
+    private void evictAll(String cacheName, Collection<Long> ids) {
+        if (ids != null) {
+            ids.forEach(id -> evict(cacheName, id));
+        }
+    }
+
+    private void evict(String cacheName, long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+            log.debug(String.format("Evicted %s from %s cache", id, cacheName));
+        }
+    }
+}
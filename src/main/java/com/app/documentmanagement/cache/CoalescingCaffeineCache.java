@@ -0,0 +1,94 @@
+package com.app.documentmanagement.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * {@Code CoalescingCaffeineCache} is {@Code CaffeineCache} whose synchronized lookups, used by
+ * {@Code @Cacheable(sync = true)}, go through {@Code SingleFlight}. On a miss concurrent callers of the same 
+ * key share one load and its result or exception, instead of each running the same query.
+ * Unlike Caffeine's own {@Code get(key, loader)} no map bin is locked while the query runs.
+ * Every eviction moves generation of its key, load that sees generation moved while it ran does not keep
+ * its result in cache, because it may have read the row before the change that caused eviction
+ * 
+ * @author Zeeshan Hanif
+ * @see SingleFlight
+ */
+public class CoalescingCaffeineCache extends CaffeineCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final SingleFlight singleFlight;
+
+    /**
+     * Generations of keys, keys share a generation by hash so memory does not grow with number of keys.
+     * Eviction of one key also drops concurrent load of other keys of its stripe, which only costs a later miss
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CoalescingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, 
+                        boolean allowNullValues, SingleFlight singleFlight) {
+        super(name, cache, allowNullValues);
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        int stripe = stripeOf(key);
+        try {
+            return singleFlight.execute(key, ()-> {
+                long generation = generations.get(stripe);
+                T value = valueLoader.call();
+                put(key, value);
+                // checked after put, so eviction that ran before put is seen here and one after put removes value itself
+                if (generations.get(stripe) != generation) {
+                    super.evict(key);
+                }
+                return value;
+            });
+        } catch (Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        generations.incrementAndGet(stripeOf(key));
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generations.incrementAndGet(stripeOf(key));
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        moveAllGenerations();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        moveAllGenerations();
+        return super.invalidate();
+    }
+
+    private void moveAllGenerations() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+    }
+
+    private int stripeOf(Object key) {
+        return Math.floorMod(key.hashCode(), GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,85 @@
+package com.app.documentmanagement.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@Code SingleFlight} makes sure only one load runs at a time for a key. First caller of a key runs
+ * the load, callers that arrive while it is running wait for it and get the same result or the same
+ * exception. No lock or monitor is held while load runs, so waiting is safe for virtual threads
+ * 
+ * @author Zeeshan Hanif
+ */
+public class SingleFlight {
+
+    /**
+     * Listener notified of every call, used for metrics
+     */
+    public interface Listener {
+        void onLoad();
+        void onCoalesced();
+    }
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Listener listener;
+
+    public SingleFlight(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Runs load for key, or waits for load of key that is already running
+     * 
+     * @param <T> type of loaded value
+     * @param key key of load
+     * @param loader load to run
+     * @return loaded value
+     * @throws Exception exception thrown by load, same exception is thrown to every waiting caller
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            listener.onCoalesced();
+            return (T) await(running);
+        }
+        listener.onLoad();
+        try {
+            T value = loader.call();
+            future.complete(value);
+            return value;
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+            throw throwable;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns number of loads running now
+     * 
+     * @return number of keys being loaded
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(CompletableFuture<Object> running) throws Exception {
+        try {
+            return running.get();
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof Exception checked) {
+                throw checked;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+}
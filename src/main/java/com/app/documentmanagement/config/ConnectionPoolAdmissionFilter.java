@@ -0,0 +1,131 @@
+package com.app.documentmanagement.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.app.documentmanagement.exceptions.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admission control for virtual thread mode. With platform threads Tomcat's thread pool limits how many 
+ * requests run at once, with virtual threads every request gets a thread and thousands of them would queue 
+ * on the connection pool and time out there. This filter lets in at most 
+ * {@Code documentmanagement.admission.permits.per.connection} requests per pooled connection, further requests
+ * wait up to {@Code documentmanagement.admission.timeout} and are then rejected with SERVICE_UNAVAILABLE.
+ * Request that continues asynchronously, like a streamed export, keeps its permit until it completes
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConnectionPoolAdmissionFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+
+    public ConnectionPoolAdmissionFilter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                        @Value("${documentmanagement.admission.permits.per.connection}") int permitsPerConnection,
+                        @Value("${documentmanagement.admission.timeout}") Duration timeout, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(poolSize * permitsPerConnection, true);
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+        log.info(String.format("Connection Pool Admission: %s concurrent requests for %s connections", 
+                        poolSize * permitsPerConnection, poolSize));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                        throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(response);
+            return;
+        }
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new PermitReleasingListener());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Releases permit of asynchronous request once, when request completes. Error and timeout are
+     * always followed by completion
+     */
+    private class PermitReleasingListener implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // request that starts async again keeps same permit until it completes
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        log.warn(String.format("Connection Pool Admission: StatusCode: %s -- Message: %s", 
+                        HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy"));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, timeout.toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), 
+                        new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server is busy, try again later"));
+    }
+}
@@ -1,8 +1,15 @@
 package com.app.documentmanagement.controllers;
 
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.app.documentmanagement.dto.AuthorComponentDTO;
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.CoAuthorDTO;
+import com.app.documentmanagement.dto.CollaborationPathDTO;
+import com.app.documentmanagement.dto.CollaboratorDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.rabbitmq.service.producer.MessageProducerService;
 import com.app.documentmanagement.services.AuthorService;
 
@@ -17,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -25,6 +33,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
 import jakarta.validation.Valid;
 
@@ -64,7 +74,143 @@ public class AuthorController {
     }
 
     /**
-     * This method is exposing GET 'api/authors/{id}' endpoint to get {@Code Author} specified by id 
+     * This method is exposing GET 'api/authors?ids={id},{id}' endpoint to get many authors {@Code Author}
+     * with one request. Authors are returned in request order and ids that do not exist are listed as missing
+     * 
+     * @return {@Code MultiGetDTO} of {@Code AuthorDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get Authors by ids", description = "Get Authors for list of ids in one request. The response contains List of Author object in request order and ids that were not found",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found requested authors", content = { @Content(schema = @Schema(implementation = MultiGetDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "413", description = "Too many ids requested", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetDTO<AuthorDTO>> getAuthorsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getAuthorsByIds(ids));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors?after={id}&limit={n}' endpoint to get authors {@Code Author}
+     * page by page using keyset pagination. {@Code after} is optional and first page is returned without it
+     * 
+     * @return {@Code KeysetPageDTO} of {@Code AuthorDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get a page of Authors", description = "Get Authors ordered by id that come after the provided cursor. The response contains List of Authors object and nextCursor which should be sent as after to get next page",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found page of authors", content = { @Content(schema = @Schema(implementation = KeysetPageDTO.class), mediaType = "application/json") }),
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<KeysetPageDTO<AuthorDTO>> getAuthorsPage(@RequestParam(defaultValue = "0") long after, 
+                        @RequestParam(defaultValue = "${documentmanagement.pagination.default.limit:100}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getAuthorsPage(after, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors?after={id}' endpoint, request with cursor but without {@Code limit} 
+     * gets page of {@Code documentmanagement.pagination.default.limit} authors instead of all the authors
+     * 
+     * @return {@Code KeysetPageDTO} of {@Code AuthorDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get a page of Authors with default limit", description = "Get Authors ordered by id that come after the provided cursor, at most default limit of them",
+                        tags = { "Get" })
+    @GetMapping(params = {"after", "!limit"})
+    public ResponseEntity<KeysetPageDTO<AuthorDTO>> getAuthorsPageAfter(@RequestParam long after, 
+                        @RequestParam(defaultValue = "${documentmanagement.pagination.default.limit:100}") int limit) {
+        return getAuthorsPage(after, limit);
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/suggest?prefix={text}' endpoint to get authors {@Code Author}
+     * whose name starts with provided prefix, used for type-ahead. {@Code limit} is optional
+     * 
+     * @return {@Code List} of {@Code AuthorDTO} without documents that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Suggest Authors by name prefix", description = "Get Authors whose first or last name starts with provided prefix, case and accents are ignored. The response contains List of Author object with id, first name and last name in alphabetical order",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found matching authors", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AuthorDTO.class))) }),
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<AuthorDTO>> suggestAuthors(@RequestParam String prefix, 
+                        @RequestParam(defaultValue = "${documentmanagement.suggest.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.suggestAuthors(prefix, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/most-connected' endpoint to get authors {@Code Author}
+     * with most distinct co-authors. {@Code limit} is optional
+     * 
+     * @return {@Code List} of {@Code CollaboratorDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get most connected Authors", description = "Get Authors that wrote documents with most distinct co-authors. The response contains List of author id, number of co-authors and number of documents, most connected first",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found most connected authors", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CollaboratorDTO.class))) }),
+    })
+    @GetMapping("/most-connected")
+    public ResponseEntity<List<CollaboratorDTO>> getMostConnectedAuthors(
+                        @RequestParam(defaultValue = "${documentmanagement.coauthors.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getMostConnectedAuthors(limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/components' endpoint to get groups of authors {@Code Author}
+     * that are connected through co-authorship. {@Code limit} is optional
+     * 
+     * @return {@Code List} of {@Code AuthorComponentDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get groups of connected Authors", description = "Get groups of Authors that are connected through a chain of co-authors. The response contains List of smallest author id of group and number of authors in group, largest group first",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found groups of authors", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = AuthorComponentDTO.class))) }),
+    })
+    @GetMapping("/components")
+    public ResponseEntity<List<AuthorComponentDTO>> getCollaborationComponents(
+                        @RequestParam(defaultValue = "${documentmanagement.coauthors.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getCollaborationComponents(limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/{id}/coauthors' endpoint to get authors {@Code Author}
+     * that wrote documents with author specified by id. {@Code limit} is optional
+     * 
+     * @return {@Code List} of {@Code CoAuthorDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get co-authors of Author", description = "Get Authors that wrote at least one document with Author specified by id. The response contains List of author id and number of shared documents, authors sharing most documents first",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found co-authors", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CoAuthorDTO.class))) }),
+        @ApiResponse(responseCode = "404", description = "Author not found", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/{id}/coauthors")
+    public ResponseEntity<List<CoAuthorDTO>> getCoAuthors(@PathVariable long id, 
+                        @RequestParam(defaultValue = "${documentmanagement.coauthors.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getCoAuthors(id, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/{id}/path/{toId}' endpoint to get shortest chain of 
+     * co-authorship between two authors {@Code Author}
+     * 
+     * @return {@Code CollaborationPathDTO} that is returned from {@Code AuthorService} 
+     */
+    @Operation(summary = "Get collaboration path between Authors", description = "Get shortest chain of co-authors from Author specified by id to Author specified by toId. The response contains ids of authors on the path and number of hops, path is empty if authors are not connected",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found collaboration path", content = { @Content(schema = @Schema(implementation = CollaborationPathDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "404", description = "Author not found", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/{id}/path/{toId}")
+    public ResponseEntity<CollaborationPathDTO> getCollaborationPath(@PathVariable long id, @PathVariable long toId) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.getCollaborationPath(id, toId));
+    }
+
+    /**
+     * This method is exposing GET 'api/authors/{id}' endpoint to get {@Code Author} specified by id.
+     * Response carries version tag of author as strong ETag, request with matching {@Code If-None-Match}
+     * header gets 304 Not Modified without body
      * 
      * @return {@Code AuthorDTO} that is returned from {@Code AuthorService} 
      */
@@ -72,11 +218,17 @@ public class AuthorController {
                         tags = { "Get" })
     @ApiResponses(value = { 
         @ApiResponse(responseCode = "200", description = "Found author with specified id", content = { @Content(schema = @Schema(implementation = AuthorDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "304", description = "Author not modified since the version in If-None-Match header", content = @Content),
         @ApiResponse(responseCode = "404", description = "Author not found", content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<AuthorDTO> getAuthorById(@PathVariable long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(authorService.getAuthorById(id));
+    public ResponseEntity<AuthorDTO> getAuthorById(@PathVariable long id, WebRequest webRequest) {
+        // ETag comes from the DTO itself, so cached body is never served with ETag of a newer version
+        AuthorDTO authorDto = authorService.getAuthorById(id);
+        if (webRequest.checkNotModified(authorDto.getVersionTag())) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(authorDto);
     }
 
     /**
@@ -97,7 +249,8 @@ public class AuthorController {
     }
 
     /**
-     * This method is exposing PUT 'api/authors/{id}' endpoint to update {@Code Author} in system 
+     * This method is exposing PUT 'api/authors/{id}' endpoint to update {@Code Author} in system.
+     * If {@Code If-Match} header is provided, author is updated only if its ETag still matches
      * 
      * @return {@Code AuthorDTO} that is returned from {@Code AuthorService} after updated into database
      */
@@ -106,10 +259,13 @@ public class AuthorController {
     @ApiResponses(value = { 
         @ApiResponse(responseCode = "200", description = "Author updated successfully", content = { @Content(schema = @Schema(implementation = AuthorDTO.class), mediaType = "application/json") }),
         @ApiResponse(responseCode = "404", description = "There can be two different erors:<br>1) Author not found with specified id<br>OR<br>2) Document not found, when try to update document of author but that document does not exists in system", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "409", description = "Author was modified by another request while it was being updated", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "412", description = "Author was modified since the version in If-Match header", content = @Content(mediaType = "application/json")),
     })
     @PutMapping("/{id}")
-    public ResponseEntity<AuthorDTO> updateAuthor(@PathVariable long id, @RequestBody AuthorDTO authorDto) {
-        return ResponseEntity.status(HttpStatus.OK).body(authorService.updateAuthor(id, authorDto));
+    public ResponseEntity<AuthorDTO> updateAuthor(@PathVariable long id, @RequestBody AuthorDTO authorDto,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.status(HttpStatus.OK).body(authorService.updateAuthor(id, authorDto, ifMatch));
     }
 
     /**
@@ -150,8 +306,8 @@ public class AuthorController {
     })
     @DeleteMapping("/queue/{id}")
     public ResponseEntity<String> sendEventToDeleteDocumentById(@PathVariable long id){
-        AuthorDTO authorDTO = authorService.getAuthorById(id);
-        messageProducerService.sendAuthorMessage(authorDTO);
+        authorService.ensureAuthorExists(id);
+        messageProducerService.sendAuthorMessage(id);
 
         return ResponseEntity.status(HttpStatus.OK).body("Author Delete Event Sent Successfully");
     }
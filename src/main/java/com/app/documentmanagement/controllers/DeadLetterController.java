@@ -0,0 +1,73 @@
+package com.app.documentmanagement.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.documentmanagement.dto.DeadLetterDTO;
+import com.app.documentmanagement.rabbitmq.service.deadletter.DeadLetterService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * {@Code DeadLetterController} is exposing admin api endpoints to inspect and replay delete events
+ * that ended in dead letter queue
+ * 
+ * @author Zeeshan Hanif
+ */
+@Tag(name = "Dead Letter", description = "Dead Letter Queue Admin APIs")
+@RestController
+@RequestMapping("api/admin/dead-letters")
+public class DeadLetterController {
+
+    @Autowired
+    private DeadLetterService deadLetterService;
+
+    /**
+     * This method is exposing GET 'api/admin/dead-letters' endpoint to look at messages in dead letter
+     * queue, messages stay in the queue
+     * 
+     * @param limit maximum number of messages to return
+     * @return {@Code List} of {@Code DeadLetterDTO}
+     */
+    @Operation(summary = "Inspect dead letters", description = "Get messages from head of dead letter queue without removing them",
+                        tags = { "Dead Letter" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Messages in dead letter queue", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DeadLetterDTO.class))) })
+    })
+    @GetMapping
+    public ResponseEntity<List<DeadLetterDTO>> getDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(deadLetterService.getDeadLetters(limit));
+    }
+
+    /**
+     * This method is exposing POST 'api/admin/dead-letters/replay' endpoint to send messages from dead 
+     * letter queue back to delete queues
+     * 
+     * @param limit maximum number of messages to replay
+     * @return {@Code String} message with number of replayed messages
+     */
+    @Operation(summary = "Replay dead letters", description = "Send messages from dead letter queue back to delete queues with fresh retry budget",
+                        tags = { "Dead Letter" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Messages replayed", content = { @Content(mediaType = "application/json") })
+    })
+    @PostMapping("/replay")
+    public ResponseEntity<String> replayDeadLetters(@RequestParam(defaultValue = "1000") int limit) {
+        int replayed = deadLetterService.replayDeadLetters(limit);
+        return ResponseEntity.status(HttpStatus.OK).body(String.format("Replayed %s Dead Letters", replayed));
+    }
+}
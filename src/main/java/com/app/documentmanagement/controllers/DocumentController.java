@@ -3,20 +3,35 @@ package com.app.documentmanagement.controllers;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.app.documentmanagement.dto.BatchResultDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
+import com.app.documentmanagement.dto.RelatedDocumentDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
 import com.app.documentmanagement.rabbitmq.service.producer.MessageProducerService;
 import com.app.documentmanagement.services.DocumentService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -63,7 +78,108 @@ public class DocumentController {
     }
 
     /**
-     * This method is exposing GET 'api/documents/{id}' endpoint to get {@Code Document} specified by id 
+     * This method is exposing GET 'api/documents?ids={id},{id}' endpoint to get many documents {@Code Document}
+     * with one request. Documents are returned in request order and ids that do not exist are listed as missing
+     * 
+     * @return {@Code MultiGetDTO} of {@Code DocumentDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get Doucments by ids", description = "Get Doucments for list of ids in one request. The response contains List of Doucment object in request order and ids that were not found",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found requested documents", content = { @Content(schema = @Schema(implementation = MultiGetDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "413", description = "Too many ids requested", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetDTO<DocumentDTO>> getDocumentsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.getDocumentsByIds(ids));
+    }
+
+    /**
+     * This method is exposing GET 'api/documents?after={id}&limit={n}' endpoint to get documents {@Code Document}
+     * page by page using keyset pagination. {@Code after} is optional and first page is returned without it
+     * 
+     * @return {@Code KeysetPageDTO} of {@Code DocumentDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get a page of Doucments", description = "Get Doucments ordered by id that come after the provided cursor. The response contains List of Doucment object and nextCursor which should be sent as after to get next page",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found page of documents", content = { @Content(schema = @Schema(implementation = KeysetPageDTO.class), mediaType = "application/json") }),
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<KeysetPageDTO<DocumentDTO>> getDocumentsPage(@RequestParam(defaultValue = "0") long after, 
+                        @RequestParam(defaultValue = "${documentmanagement.pagination.default.limit:100}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.getDocumentsPage(after, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/documents?after={id}' endpoint, request with cursor but without {@Code limit} 
+     * gets page of {@Code documentmanagement.pagination.default.limit} documents instead of all the documents
+     * 
+     * @return {@Code KeysetPageDTO} of {@Code DocumentDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get a page of Documents with default limit", description = "Get Documents ordered by id that come after the provided cursor, at most default limit of them",
+                        tags = { "Get" })
+    @GetMapping(params = {"after", "!limit", "!view"})
+    public ResponseEntity<KeysetPageDTO<DocumentDTO>> getDocumentsPageAfter(@RequestParam long after, 
+                        @RequestParam(defaultValue = "${documentmanagement.pagination.default.limit:100}") int limit) {
+        return getDocumentsPage(after, limit);
+    }
+
+    /**
+     * This method is exposing GET 'api/documents?view=summary' endpoint to get only id and title of documents
+     * {@Code Document} page by page using keyset pagination. {@Code after} and {@Code limit} are optional
+     * 
+     * @return {@Code KeysetPageDTO} of {@Code DocumentSummaryDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get a page of Doucment summaries", description = "Get id and title of Doucments ordered by id that come after the provided cursor. The response contains List of Doucment summaries and nextCursor which should be sent as after to get next page",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found page of document summaries", content = { @Content(schema = @Schema(implementation = KeysetPageDTO.class), mediaType = "application/json") }),
+    })
+    @GetMapping(params = "view=summary")
+    public ResponseEntity<KeysetPageDTO<DocumentSummaryDTO>> getDocumentSummariesPage(@RequestParam(defaultValue = "0") long after, 
+                        @RequestParam(defaultValue = "${documentmanagement.pagination.default.limit:100}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.getDocumentSummariesPage(after, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/documents/search?q={text}' endpoint to search title, body and references
+     * of documents {@Code Document}. Hits are ranked by relevance, {@Code offset} and {@Code limit} are optional
+     * 
+     * @return {@Code SearchPageDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Search Doucments", description = "Search title, body and references of Doucments. The response contains page of hits ranked by relevance with highlighted title and snippet, and total number of matched Doucments",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found page of hits", content = { @Content(schema = @Schema(implementation = SearchPageDTO.class), mediaType = "application/json") }),
+    })
+    @GetMapping("/search")
+    public ResponseEntity<SearchPageDTO> searchDocuments(@RequestParam String q, @RequestParam(defaultValue = "0") int offset, 
+                        @RequestParam(defaultValue = "${documentmanagement.search.default.limit:20}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.searchDocuments(q, offset, limit));
+    }
+
+    /**
+     * This method is exposing GET 'api/documents/export' endpoint to stream all the documents {@Code Document}
+     * as newline delimited JSON. Response is written while documents are read from database
+     * 
+     * @return {@Code StreamingResponseBody} that writes one {@Code DocumentDTO} per line
+     */
+    @Operation(summary = "Export all the Doucments", description = "Stream all the Doucments as newline delimited JSON, one Doucment object with id, title, body, references and authors per line",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Documents streamed successfully", content = { @Content(mediaType = "application/x-ndjson") }),
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDocuments() {
+        StreamingResponseBody responseBody = outputStream -> documentService.exportDocuments(outputStream);
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(responseBody);
+    }
+
+    /**
+     * This method is exposing GET 'api/documents/{id}' endpoint to get {@Code Document} specified by id.
+     * Response carries version tag of document as strong ETag, request with matching {@Code If-None-Match}
+     * header gets 304 Not Modified without body
      * 
      * @return {@Code DocumentDTO} that is returned from {@Code DocumentService} 
      */
@@ -71,11 +187,52 @@ public class DocumentController {
                         tags = { "Get" })
     @ApiResponses(value = { 
         @ApiResponse(responseCode = "200", description = "Found document with specified id", content = { @Content(schema = @Schema(implementation = DocumentDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "304", description = "Document not modified since the version in If-None-Match header", content = @Content),
         @ApiResponse(responseCode = "404", description = "Document not found", content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<DocumentDTO> getDocumentById(@PathVariable long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(documentService.getDocumentById(id));
+    public ResponseEntity<DocumentDTO> getDocumentById(@PathVariable long id, WebRequest webRequest) {
+        // ETag comes from the DTO itself, so cached body is never served with ETag of a newer version
+        DocumentDTO documentDto = documentService.getDocumentById(id);
+        if (webRequest.checkNotModified(documentDto.getVersionTag())) {
+            return null;
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(documentDto);
+    }
+
+    /**
+     * This method is exposing GET 'api/documents/{id}/duplicates' endpoint to get existing documents {@Code Document}
+     * that are near duplicates of document specified by id
+     * 
+     * @return {@Code List} of {@Code DuplicateDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get near duplicates of Doucment", description = "Get Doucments whose title and body are near duplicates of Doucment specified by id. The response contains List of id and estimated similarity, most similar first",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found near duplicates", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DuplicateDTO.class))) }),
+        @ApiResponse(responseCode = "404", description = "Document not found", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<List<DuplicateDTO>> getDuplicates(@PathVariable long id) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.getDuplicates(id));
+    }
+
+    /**
+     * This method is exposing GET 'api/documents/{id}/related' endpoint to get documents {@Code Document}
+     * that cite the same works as document specified by id. {@Code limit} is optional
+     * 
+     * @return {@Code List} of {@Code RelatedDocumentDTO} that is returned from {@Code DocumentService} 
+     */
+    @Operation(summary = "Get related Doucments", description = "Get Doucments that cite the same works as Doucment specified by id, references that differ only in case, accents or punctuation are the same work. The response contains List of id and number of shared references, documents sharing most references first",
+                        tags = { "Get" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found related documents", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = RelatedDocumentDTO.class))) }),
+        @ApiResponse(responseCode = "404", description = "Document not found", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/{id}/related")
+    public ResponseEntity<List<RelatedDocumentDTO>> getRelatedDocuments(@PathVariable long id, 
+                        @RequestParam(defaultValue = "${documentmanagement.citations.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.getRelatedDocuments(id, limit));
     }
 
     /**
@@ -83,12 +240,13 @@ public class DocumentController {
      * 
      * @return {@Code DocumentDTO} that is returned from {@Code DocumentService} after saving into database
      */
-    @Operation(summary = "Add Document into system", description = "Add a Document object into system. The response is a Document object with id, title, body, references and authors",
+    @Operation(summary = "Add Document into system", description = "Add a Document object into system. The response is a Document object with id, title, body, references and authors, and possible duplicates when near duplicates are flagged instead of rejected",
                         tags = { "Post" })
     @ApiResponses(value = { 
         @ApiResponse(responseCode = "200", description = "Document add successfully", content = { @Content(schema = @Schema(implementation = DocumentDTO.class), mediaType = "application/json") }),
         @ApiResponse(responseCode = "400", description = "There can be three different erors:<br>1) Title and body must be provided<br>OR<br>2) References must be provided<br>OR<br>3) Authors must be provided", content = @Content(mediaType = "application/json")),
-        @ApiResponse(responseCode = "404", description = "Author that we are assigning to document not fund", content = @Content(mediaType = "application/json"))
+        @ApiResponse(responseCode = "404", description = "Author that we are assigning to document not fund", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "409", description = "Document has same content as an existing document or is its near duplicate", content = @Content(mediaType = "application/json"))
     })
     @PostMapping
     public ResponseEntity<DocumentDTO> saveDocument(@Valid @RequestBody DocumentDTO documentDto) {
@@ -96,7 +254,25 @@ public class DocumentController {
     }
 
     /**
-     * This method is exposing PUT 'api/documents/{id}' endpoint to update {@Code Document} in system 
+     * This method is exposing POST 'api/documents/batch' endpoint to save many {@Code Document} in system 
+     * with one request. Invalid documents do not fail the batch, they are reported in result
+     * 
+     * @return {@Code BatchResultDTO} with result of every document in the order of request
+     */
+    @Operation(summary = "Add many Documents into system", description = "Add a list of Document objects into system. The response contains result of every document in the order of request, id of created document or error message of failed one",
+                        tags = { "Post" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Batch processed, see result of each document", content = { @Content(schema = @Schema(implementation = BatchResultDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "413", description = "Batch contains more documents than allowed", content = @Content(mediaType = "application/json"))
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDTO> saveDocuments(@RequestBody List<DocumentDTO> documentDtos) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.saveDocuments(documentDtos));
+    }
+
+    /**
+     * This method is exposing PUT 'api/documents/{id}' endpoint to update {@Code Document} in system.
+     * If {@Code If-Match} header is provided, document is updated only if its ETag still matches
      * 
      * @return {@Code DocumentDTO} that is returned from {@Code DocumentService} after updated into database
      */
@@ -105,10 +281,34 @@ public class DocumentController {
     @ApiResponses(value = { 
         @ApiResponse(responseCode = "200", description = "Author updated successfully", content = { @Content(schema = @Schema(implementation = DocumentDTO.class), mediaType = "application/json") }),
         @ApiResponse(responseCode = "404", description = "There can be two different erors:<br>1) Document not found with specified id<br>OR<br>2) Author not found, when try to update author of document but that author does not exists in system", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "409", description = "Document was modified by another request while it was being updated", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "412", description = "Document was modified since the version in If-Match header", content = @Content(mediaType = "application/json")),
     })
     @PutMapping("/{id}")
-    public ResponseEntity<DocumentDTO> updateDocument(@PathVariable long id, @RequestBody DocumentDTO documentDto) {
-        return ResponseEntity.status(HttpStatus.OK).body(documentService.updateDocument(id, documentDto));
+    public ResponseEntity<DocumentDTO> updateDocument(@PathVariable long id, @RequestBody DocumentDTO documentDto,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.updateDocument(id, documentDto, ifMatch));
+    }
+
+    /**
+     * This method is exposing PATCH 'api/documents/{id}' endpoint to change some fields of {@Code Document} 
+     * using JSON Merge Patch. Only title, body and authors can be patched, fields not in patch are not changed
+     * 
+     * @return {@Code DocumentDTO} that is returned from {@Code DocumentService} after patch is applied
+     */
+    @Operation(summary = "Patch document by id", description = "Change title, body or authors of a Document by sending JSON Merge Patch (application/merge-patch+json) with only the fields that need to change. The response is a Document object with id, title, body, references and authors",
+                        tags = { "Patch" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Document patched successfully", content = { @Content(schema = @Schema(implementation = DocumentDTO.class), mediaType = "application/json") }),
+        @ApiResponse(responseCode = "400", description = "Patch is not a JSON object or contains field that can not be patched", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "404", description = "There can be two different erors:<br>1) Document not found with specified id<br>OR<br>2) Author not found, when try to patch author of document but that author does not exists in system", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "409", description = "Document was modified by another request while it was being patched", content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "412", description = "Document was modified since the version in If-Match header", content = @Content(mediaType = "application/json")),
+    })
+    @PatchMapping(value = "/{id}", consumes = "application/merge-patch+json")
+    public ResponseEntity<DocumentDTO> patchDocument(@PathVariable long id, @RequestBody JsonNode mergePatch,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return ResponseEntity.status(HttpStatus.OK).body(documentService.patchDocument(id, mergePatch, ifMatch));
     }
 
     /**
@@ -147,8 +347,8 @@ public class DocumentController {
     })
     @DeleteMapping("/queue/{id}")
     public ResponseEntity<String> sendEventToDeleteDocumentById(@PathVariable long id){
-        DocumentDTO documentDTO = documentService.getDocumentById(id);
-        messageProducerService.sendDocumentMessage(documentDTO);
+        documentService.ensureDocumentExists(id);
+        messageProducerService.sendDocumentMessage(id);
 
         return ResponseEntity.status(HttpStatus.OK).body("Document Delete Event Sent Successfully");
     }
@@ -0,0 +1,67 @@
+package com.app.documentmanagement.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.documentmanagement.dto.JobDTO;
+import com.app.documentmanagement.services.JobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * {@Code JobController} is exposing api endpoints to track background jobs
+ * 
+ * @author Zeeshan Hanif
+ */
+@Tag(name = "Job", description = "Background Job APIs")
+@RestController
+@RequestMapping("api/jobs")
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    /**
+     * This method is exposing GET 'api/jobs/{id}' endpoint to get status and progress of background job
+     * 
+     * @param id id of job
+     * @return {@Code JobDTO} with status and progress of job
+     */
+    @Operation(summary = "Get job by id", description = "Get status and progress of background job by specifying its id",
+                        tags = { "Job" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found the job", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = JobDTO.class)) }),
+        @ApiResponse(responseCode = "404", description = "Job not found with specified id", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDTO> getJobById(@PathVariable long id) {
+        return ResponseEntity.status(HttpStatus.OK).body(jobService.getJobById(id));
+    }
+
+    /**
+     * This method is exposing POST 'api/jobs/content-hash-backfill' endpoint to start background job that 
+     * computes content hash of documents created before content hash existed
+     * 
+     * @return {@Code JobDTO} of started job, or of already running backfill job
+     */
+    @Operation(summary = "Start content hash backfill", description = "Start background job that computes content hash of existing documents in chunks, so exact copies can be rejected",
+                        tags = { "Job" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "202", description = "Job started or already running", content = { @Content(mediaType = "application/json", schema = @Schema(implementation = JobDTO.class)) })
+    })
+    @PostMapping("/content-hash-backfill")
+    public ResponseEntity<JobDTO> startContentHashBackfillJob() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobService.startContentHashBackfillJob());
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.documentmanagement.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.app.documentmanagement.dto.CitedReferenceDTO;
+import com.app.documentmanagement.services.ReferenceService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * {@Code ReferenceController} is exposing api endpoints to look at works cited by documents
+ * 
+ * @author Zeeshan Hanif
+ */
+@Tag(name = "Reference", description = "Reference APIs")
+@RestController
+@RequestMapping("api/references")
+public class ReferenceController {
+
+    /**
+     * {@Code ReferenceService} to get cited works
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ReferenceService referenceService;
+
+    /**
+     * This method is exposing GET 'api/references/top' endpoint to get works cited by most documents.
+     * {@Code limit} is optional
+     * 
+     * @param limit maximum number of works to return
+     * @return {@Code List} of {@Code CitedReferenceDTO} that is returned from {@Code ReferenceService}
+     */
+    @Operation(summary = "Get most cited works", description = "Get works cited by most Doucments, references that differ only in case, accents or punctuation are the same work. The response contains List of reference and number of citing Doucments, most cited first",
+                        tags = { "Reference" })
+    @ApiResponses(value = { 
+        @ApiResponse(responseCode = "200", description = "Found most cited works", content = { @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CitedReferenceDTO.class))) })
+    })
+    @GetMapping("/top")
+    public ResponseEntity<List<CitedReferenceDTO>> getTopReferences(@RequestParam(defaultValue = "${documentmanagement.citations.default.limit:10}") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(referenceService.getTopReferences(limit));
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a group of authors connected through co-authorship
+ * 
+ * @author  Zeeshan Hanif
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class AuthorComponentDTO {
+
+    /**
+     * Smallest id of author in the group, it identifies the group
+     */
+    private long authorId;
+
+    /**
+     * Number of authors in the group
+     */
+    private int size;
+}
@@ -3,6 +3,7 @@ package com.app.documentmanagement.dto;
 import java.util.List;
 
 import com.app.documentmanagement.entities.Author;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -52,6 +53,13 @@ public class AuthorDTO {
      */
     private List<DocumentDTO> documents;
 
+    /**
+     * Version tag of author this DTO was built from, it is used as ETag so cached DTO is always
+     * served with its own ETag. It is not part of JSON
+     */
+    @JsonIgnore
+    private String versionTag;
+
     /**
      * Constructs {@Code AuthorDTO} with specified initial field values
      * 
@@ -65,4 +73,17 @@ public class AuthorDTO {
         this.lastName = lastName;
     }
 
+    /**
+     * Constructs {@Code AuthorDTO} with specified initial field values including documents
+     * 
+     * @param id unique id for author
+     * @param firstName first name of author
+     * @param lastName last name of author
+     * @param documents list of documents of author
+     */
+    public AuthorDTO(long id, String firstName, String lastName, List<DocumentDTO> documents) {
+        this(id, firstName, lastName);
+        this.documents = documents;
+    }
+
 }
@@ -0,0 +1,96 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for result of one item of a batch request. Item is identified by its
+ * position in request, {@Code id} is present when item was created and {@Code error} when it failed.
+ * Created item that is near duplicate of existing documents lists them in {@Code possibleDuplicates}
+ * 
+ * @author  Zeeshan Hanif
+ * @see     BatchResultDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class BatchItemResultDTO {
+
+    /**
+     * Status of a single item of batch
+     */
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    /**
+     * Position of item in request, starting from 0
+     */
+    private int index;
+
+    /**
+     * Outcome of this item
+     */
+    private Status status;
+
+    /**
+     * id assigned to created item
+     */
+    private Long id;
+
+    /**
+     * Reason why item was not created
+     */
+    private String error;
+
+    /**
+     * Existing documents that created item is near duplicate of, present only when duplicates are flagged
+     */
+    private List<DuplicateDTO> possibleDuplicates;
+
+    /**
+     * Creates result for item that was saved into database
+     * 
+     * @param index position of item in request
+     * @param id id assigned to item
+     * @return {@Code BatchItemResultDTO} with CREATED status
+     */
+    public static BatchItemResultDTO created(int index, long id) {
+        return created(index, id, null);
+    }
+
+    /**
+     * Creates result for item that was saved into database and is near duplicate of existing documents
+     * 
+     * @param index position of item in request
+     * @param id id assigned to item
+     * @param possibleDuplicates near duplicates of item, may be null
+     * @return {@Code BatchItemResultDTO} with CREATED status
+     */
+    public static BatchItemResultDTO created(int index, long id, List<DuplicateDTO> possibleDuplicates) {
+        return new BatchItemResultDTO(index, Status.CREATED, id, null, possibleDuplicates);
+    }
+
+    /**
+     * Creates result for item that could not be saved
+     * 
+     * @param index position of item in request
+     * @param error reason of failure
+     * @return {@Code BatchItemResultDTO} with FAILED status
+     */
+    public static BatchItemResultDTO failed(int index, String error) {
+        return new BatchItemResultDTO(index, Status.FAILED, null, error, null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for result of a batch request. It contains totals and one 
+ * {@Code BatchItemResultDTO} for every item of request, in the same order as request
+ * 
+ * @author  Zeeshan Hanif
+ * @see     BatchItemResultDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class BatchResultDTO {
+
+    /**
+     * Number of items in request
+     */
+    private int total;
+
+    /**
+     * Number of items saved into database
+     */
+    private int created;
+
+    /**
+     * Number of items that could not be saved
+     */
+    private int failed;
+
+    /**
+     * Result of every item in the order of request
+     */
+    private List<BatchItemResultDTO> items;
+}
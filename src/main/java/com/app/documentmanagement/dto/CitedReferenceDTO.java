@@ -0,0 +1,36 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a work cited by documents with number of documents citing it
+ * 
+ * @author  Zeeshan Hanif
+ * @see     ReferenceDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class CitedReferenceDTO {
+
+    /**
+     * Reference text as it was first cited, references that differ only in case, accents or punctuation 
+     * are the same work
+     */
+    private String reference;
+
+    /**
+     * Number of documents citing the work
+     */
+    private int citations;
+}
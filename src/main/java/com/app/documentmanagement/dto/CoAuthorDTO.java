@@ -0,0 +1,35 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for an author that wrote documents together with another author
+ * 
+ * @author  Zeeshan Hanif
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class CoAuthorDTO {
+
+    /**
+     * id of co-author
+     */
+    private long id;
+
+    /**
+     * Number of documents written by both authors
+     */
+    private int sharedDocuments;
+}
@@ -0,0 +1,37 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for shortest chain of co-authorship between two authors
+ * 
+ * @author  Zeeshan Hanif
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class CollaborationPathDTO {
+
+    /**
+     * ids of authors on the path, first and last author included. Empty if authors are not connected
+     */
+    private List<Long> authorIds;
+
+    /**
+     * Number of co-authorship links on the path, not present if authors are not connected
+     */
+    private Integer hops;
+}
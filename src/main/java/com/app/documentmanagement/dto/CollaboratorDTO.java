@@ -0,0 +1,40 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for an author with number of distinct authors it wrote documents with
+ * 
+ * @author  Zeeshan Hanif
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class CollaboratorDTO {
+
+    /**
+     * id of author
+     */
+    private long id;
+
+    /**
+     * Number of distinct co-authors
+     */
+    private int coAuthors;
+
+    /**
+     * Number of documents of author
+     */
+    private int documents;
+}
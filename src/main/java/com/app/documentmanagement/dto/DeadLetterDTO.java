@@ -0,0 +1,57 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for message waiting in dead letter queue. {@Code type} and {@Code ids} are
+ * missing when message body could not be read
+ * 
+ * @author  Zeeshan Hanif
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class DeadLetterDTO {
+
+    /**
+     * Id of event, or message id if body could not be read
+     */
+    private String eventId;
+
+    /**
+     * Type of entities to delete
+     */
+    private String type;
+
+    /**
+     * Ids of entities to delete
+     */
+    private List<Long> ids;
+
+    /**
+     * Routing key message is replayed with
+     */
+    private String routingKey;
+
+    /**
+     * Number of delivery attempts made with retry tiers
+     */
+    private Integer attempts;
+
+    /**
+     * Why message was dead-lettered
+     */
+    private String reason;
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.entities.Reference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -68,6 +69,21 @@ public class DocumentDTO {
      */
     @NotEmpty(message = "Authors must not be empty")
     private List<AuthorDTO> authors;
+
+    /**
+     * Existing documents that are near duplicates of this document. It is only returned by save
+     * when near duplicates are flagged instead of rejected, and it is ignored in input
+     * 
+     * @see DuplicateDTO
+     */
+    private List<DuplicateDTO> possibleDuplicates;
+
+    /**
+     * Version tag of document this DTO was built from, it is used as ETag so cached DTO is always
+     * served with its own ETag. It is not part of JSON
+     */
+    @JsonIgnore
+    private String versionTag;
     
     /**
      * Constructs {@Code DocumentDTO} with specified initial field values
@@ -97,4 +113,18 @@ public class DocumentDTO {
         this.references = references;
     }
 
+    /**
+     * Constructs {@Code DocumentDTO} with specified initial field values including references and authors
+     * 
+     * @param id unique id for document
+     * @param title title of document
+     * @param body body of document
+     * @param references list of references of document
+     * @param authors list of authors of document
+     */
+    public DocumentDTO(long id, String title, String body, List<ReferenceDTO> references, List<AuthorDTO> authors) {
+        this(id, title, body, references);
+        this.authors = authors;
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.app.documentmanagement.dto;
+
+import com.app.documentmanagement.entities.Document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Lightweight Data Transfer Object for {@Code Document} listings. It only carries id and title
+ * and it is filled directly by projection query, so body, references and authors are never loaded
+ * 
+ * @author  Zeeshan Hanif
+ * @see     Document
+ * @see     DocumentDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class DocumentSummaryDTO {
+
+    /**
+     * identification of object in database
+     */
+    private long id;
+
+    /**
+     * Document's title
+     */
+    private String title;
+}
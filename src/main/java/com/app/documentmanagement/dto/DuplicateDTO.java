@@ -0,0 +1,35 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a document that is near duplicate of another document
+ * 
+ * @author  Zeeshan Hanif
+ * @see     DocumentDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class DuplicateDTO {
+
+    /**
+     * id of similar document
+     */
+    private long id;
+
+    /**
+     * Estimated Jaccard similarity of title and body shingles, between 0 and 1
+     */
+    private double similarity;
+}
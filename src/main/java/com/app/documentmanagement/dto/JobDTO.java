@@ -0,0 +1,49 @@
+package com.app.documentmanagement.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for {@Code Job} that reports progress of background job
+ * 
+ * @author  Zeeshan Hanif
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class JobDTO {
+
+    private long id;
+    private String type;
+    private String status;
+    private long targetId;
+
+    /**
+     * Number of items job expects to process
+     */
+    private long total;
+
+    /**
+     * Number of items processed so far
+     */
+    private long processed;
+
+    /**
+     * Error message of failed job
+     */
+    private String error;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+}
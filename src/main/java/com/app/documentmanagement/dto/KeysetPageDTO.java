@@ -0,0 +1,45 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a single page of a keyset (cursor) paginated listing.
+ * Items are always ordered by id, and {@Code nextCursor} is the id that should be passed
+ * as {@Code after} to read the following page. It is absent on the last page.
+ * 
+ * @author  Zeeshan Hanif
+ * @see     DocumentDTO
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class KeysetPageDTO<T> {
+
+    /**
+     * Items of this page ordered by id
+     */
+    private List<T> items;
+
+    /**
+     * Maximum number of items that were requested for this page
+     */
+    private int limit;
+
+    /**
+     * Id of last item in this page, null when there are no more items
+     */
+    private Long nextCursor;
+}
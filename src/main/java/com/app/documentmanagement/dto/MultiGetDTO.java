@@ -0,0 +1,40 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for result of getting many items by id in one request. Items are in the
+ * order their ids were requested, ids that do not exist are listed in {@Code missingIds} instead
+ * of failing the whole request
+ * 
+ * @author  Zeeshan Hanif
+ * @see     DocumentDTO
+ * @see     AuthorDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class MultiGetDTO<T> {
+
+    /**
+     * Found items in request order
+     */
+    private List<T> items;
+
+    /**
+     * Requested ids that do not exist, in request order
+     */
+    private List<Long> missingIds;
+}
@@ -0,0 +1,35 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a document that cites some of the works cited by another document
+ * 
+ * @author  Zeeshan Hanif
+ * @see     DocumentDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class RelatedDocumentDTO {
+
+    /**
+     * id of related document
+     */
+    private long id;
+
+    /**
+     * Number of works cited by both documents
+     */
+    private int sharedReferences;
+}
@@ -0,0 +1,46 @@
+package com.app.documentmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a document that matched a search query. Title and snippet are HTML escaped
+ * and matched terms in them are wrapped in {@Code <em>} tags, so they can be rendered as HTML
+ * 
+ * @author  Zeeshan Hanif
+ * @see     SearchPageDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class SearchHitDTO {
+
+    /**
+     * id of matched document
+     */
+    private long id;
+
+    /**
+     * BM25 score of document, higher is better
+     */
+    private double score;
+
+    /**
+     * title of document with matched terms highlighted
+     */
+    private String title;
+
+    /**
+     * part of body or reference around matched terms, with matched terms highlighted
+     */
+    private String snippet;
+}
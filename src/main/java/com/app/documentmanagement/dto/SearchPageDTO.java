@@ -0,0 +1,48 @@
+package com.app.documentmanagement.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Data Transfer Object for a single page of search results. Hits are ordered by score, best first,
+ * and next page is read by passing {@Code offset + limit} as offset
+ * 
+ * @author  Zeeshan Hanif
+ * @see     SearchHitDTO
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@JsonInclude(Include.NON_NULL)
+public class SearchPageDTO {
+
+    /**
+     * Hits of this page, best first
+     */
+    private List<SearchHitDTO> items;
+
+    /**
+     * Number of documents that matched query
+     */
+    private long total;
+
+    /**
+     * Number of best hits skipped before this page
+     */
+    private int offset;
+
+    /**
+     * Maximum number of hits that were requested for this page
+     */
+    private int limit;
+}
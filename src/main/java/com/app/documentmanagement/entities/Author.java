@@ -2,14 +2,19 @@ package com.app.documentmanagement.entities;
 
 import java.util.List;
 
+import com.app.documentmanagement.index.ExistingIdListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,16 +22,19 @@ import lombok.Setter;
 
 /**
  * Database Entity for {@Code Author} that represent table in database
+ * Documents are loaded lazily unless {@Code Author.documents} entity graph is requested
  * 
  * @author  Zeeshan Hanif
  * @see     Document
  * @see     Reference
  */
+@NamedEntityGraph(name = "Author.documents", attributeNodes = @NamedAttributeNode("documents"))
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(ExistingIdListener.class)
 @Table(name = "authors")
 public class Author {
 
@@ -37,6 +45,13 @@ public class Author {
     @GeneratedValue(strategy = GenerationType.AUTO)
     private long id;
 
+    /**
+     * Version of author used for optimistic locking and ETags. It is incremented by hibernate
+     * whenever first or last name is changed
+     */
+    @Version
+    private long version;
+
     /**
      * Author's first name and it should not be empty
      */
@@ -54,7 +69,7 @@ public class Author {
      * 
      * @see {@Code Document}
      */
-    @ManyToMany(mappedBy = "authors", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "authors")
     private List<Document> documents;
     
     /**
@@ -1,47 +1,74 @@
 package com.app.documentmanagement.entities;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.app.documentmanagement.index.ExistingIdListener;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
-import jakarta.persistence.OneToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
  * Database Entity for {@Code Document} that represent table in database
+ * All the associations are lazy, repository methods decide what to fetch using entity graphs 
+ * declared here and rest is loaded in batches (see hibernate.default_batch_fetch_size)
+ * Update statements contain only changed columns, so changing title does not rewrite the body
+ * Hash of normalized content has unique index, so exact copies are found and rejected with one index lookup
  * 
  * @author  Zeeshan Hanif
  * @see     Author
  * @see     Reference
  */
+@NamedEntityGraph(name = "Document.authors", attributeNodes = @NamedAttributeNode("authors"))
+@NamedEntityGraph(name = "Document.references", attributeNodes = @NamedAttributeNode("references"))
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "documents")
+@EntityListeners(ExistingIdListener.class)
+@DynamicUpdate
+@Table(name = "documents", indexes = @Index(name = "uk_documents_content_hash", columnList = "content_hash", unique = true))
 public class Document {
     
     /**
-     * identification of object in database
+     * identification of object in database. Ids are allocated from a pooled sequence, 50 at a time,
+     * so inserting many documents does not need a sequence call per row
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq")
+    @SequenceGenerator(name = "documents_seq", sequenceName = "documents_seq", allocationSize = 50)
     private long id;
 
+    /**
+     * Version of document used for optimistic locking and ETags. It is incremented by hibernate
+     * whenever document or its list of authors is changed
+     */
+    @Version
+    private long version;
+
     /**
      * Document's title and it should not be empty
      */
@@ -54,30 +81,66 @@ public class Document {
     @Size(max = 1000)
     @Column(length = 1000, nullable = false)
     private String body;
+
+    /**
+     * SHA-256 hash of normalized title, body and references, computed by {@Code ContentHasher}.
+     * It is null for rows created before the column existed, until backfill job fills it
+     * 
+     * @see com.app.documentmanagement.index.ContentHasher
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
     
     /**
      * List of Document's references and this list should not be empty
      * {@Code Reference} will be also validated at the time of input
+     * References are citations shared with other documents, document only owns rows of document_reference
+     * table, so saving document with an existing citation writes a link row instead of copying the text.
+     * New citations are persisted with the document
      * 
      * @see Reference
      */
-    @OneToMany(cascade = CascadeType.ALL)
-    @JoinColumn(name = "document_id")
+    @ManyToMany(cascade = CascadeType.PERSIST)
+    @JoinTable(
+        name = "document_reference",
+        joinColumns = {@JoinColumn(name = "document_id", referencedColumnName = "id")},
+        inverseJoinColumns = {@JoinColumn(name = "reference_id", referencedColumnName = "id")},
+        indexes = {@Index(name = "idx_document_reference_reference_id", columnList = "reference_id")}
+    )
+    @OrderColumn(name = "reference_order")
     private List<Reference> references;
 
     /**
-     * List of Document's authors and this list should not be empty
-     * This field works as many to many relationship with {@Code Document}
+     * Set of Document's authors and this set should not be empty
+     * This field works as many to many relationship with {@Code Document}. It is mapped as set, so 
+     * adding or removing one author writes only that row of document_author instead of recreating all rows
      * 
      * @see Author
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
     @JoinTable(
         name = "document_author",
         joinColumns = {@JoinColumn(name="documentId",referencedColumnName = "id")},
         inverseJoinColumns = {@JoinColumn(name="authorId", referencedColumnName = "id")}
     )
-    private List<Author> authors;
+    private Set<Author> authors = new LinkedHashSet<>();
+
+    /**
+     * Constructs {@Code Document} with specified initial field values
+     * 
+     * @param id unique id for document
+     * @param title title of document
+     * @param body body of document
+     * @param references list of references of document
+     * @param authors authors of document, duplicates are ignored
+     */
+    public Document(long id, String title, String body, List<Reference> references, Collection<Author> authors) {
+        this.id = id;
+        this.title = title;
+        this.body = body;
+        this.references = references;
+        setAuthors(authors);
+    }
 
     /**
      * Constructs {@Code Document} with specified initial field values
@@ -92,4 +155,13 @@ public class Document {
         this.references = references;
     }
 
+    /**
+     * Replaces authors of new document. Managed document should be changed through {@Code getAuthors()}
+     * so hibernate can write only the difference
+     * 
+     * @param authors authors of document, duplicates are ignored
+     */
+    public void setAuthors(Collection<Author> authors) {
+        this.authors = authors == null ? new LinkedHashSet<>() : new LinkedHashSet<>(authors);
+    }
 }
@@ -0,0 +1,121 @@
+package com.app.documentmanagement.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Database Entity for {@Code Job} that represent long running background work. Job works in chunks and
+ * saves its checkpoint in the same transaction as each chunk, so after a crash it resumes from last 
+ * committed chunk
+ * 
+ * @author  Zeeshan Hanif
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "jobs")
+public class Job {
+
+    /**
+     * Kind of work job does
+     */
+    public enum Type {
+        AUTHOR_DELETE, CONTENT_HASH_BACKFILL
+    }
+
+    /**
+     * Lifecycle of job
+     */
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * identification of object in database
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 1)
+    private long id;
+
+    /**
+     * Version used for optimistic locking
+     */
+    @Version
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * Id of entity job works on, for example author that is being deleted, 0 for jobs that work on
+     * whole table
+     */
+    private long targetId;
+
+    /**
+     * Number of items job expects to process
+     */
+    private long total;
+
+    /**
+     * Number of items processed so far
+     */
+    private long processed;
+
+    /**
+     * Id of last item of last committed chunk, next chunk starts after it
+     */
+    private long checkpoint;
+
+    /**
+     * Number of runs of job that failed, failed job is run again until it reaches
+     * {@Code documentmanagement.jobs.max.attempts}
+     */
+    private int attempts;
+
+    /**
+     * Error message of failed job
+     */
+    @Column(length = 1000)
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Constructs {@Code Job} in PENDING status
+     * 
+     * @param type kind of work job does
+     * @param targetId id of entity job works on
+     */
+    public Job(Type type, long targetId) {
+        this.type = type;
+        this.targetId = targetId;
+        this.status = Status.PENDING;
+        this.createdAt = Instant.now();
+        this.updatedAt = this.createdAt;
+    }
+}
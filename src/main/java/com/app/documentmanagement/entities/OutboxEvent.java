@@ -0,0 +1,76 @@
+package com.app.documentmanagement.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Database Entity for {@Code OutboxEvent} that represent message waiting to be published to 
+ * message broker. It is written in the same transaction as business change and removed by 
+ * {@Code OutboxRelayService} once broker confirmed it
+ * 
+ * @author  Zeeshan Hanif
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    /**
+     * identification of object in database, it also gives publishing order
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private long id;
+
+    /**
+     * Id of event, sent as message id
+     */
+    @Column(nullable = false, length = 36)
+    private String eventId;
+
+    /**
+     * Routing key message is published with
+     */
+    @Column(nullable = false)
+    private String routingKey;
+
+    /**
+     * Encoded message body
+     */
+    @Column(nullable = false, length = 8192)
+    private byte[] payload;
+
+    /**
+     * Time when event was created
+     */
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Constructs {@Code OutboxEvent} with specified initial field values
+     * 
+     * @param eventId id of event
+     * @param routingKey routing key message is published with
+     * @param payload encoded message body
+     * @param createdAt time when event was created
+     */
+    public OutboxEvent(String eventId, String routingKey, byte[] payload, Instant createdAt) {
+        this.eventId = eventId;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.app.documentmanagement.entities;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Database Entity for {@Code ProcessedEvent} that records id of message event that was already 
+ * processed by a consumer, so redelivered event can be dropped. Event id is stored as native uuid
+ * 
+ * @author  Zeeshan Hanif
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "processed_events")
+public class ProcessedEvent implements Persistable<UUID> {
+
+    /**
+     * Id of processed event
+     */
+    @Id
+    private UUID eventId;
+
+    /**
+     * Time when event was processed, used to prune old rows
+     */
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    /**
+     * Processed event is always inserted, never updated, so it is new until it is persisted or loaded. 
+     * This saves the select that {@Code save} does for entities with assigned id
+     */
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Constructs {@Code ProcessedEvent} with specified initial field values
+     * 
+     * @param eventId id of processed event
+     * @param processedAt time when event was processed
+     */
+    public ProcessedEvent(UUID eventId, Instant processedAt) {
+        this.eventId = eventId;
+        this.processedAt = processedAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
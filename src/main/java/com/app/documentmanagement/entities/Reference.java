@@ -1,51 +1,83 @@
 package com.app.documentmanagement.entities;
 
+import com.app.documentmanagement.index.ContentHasher;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 
 /**
  * Database Entity for {@Code Reference} that represent table in database
- * 
+ * Reference is a citation shared by all the documents that cite the same text, documents are linked to it
+ * through document_reference table. Citation is found by hash of its text, which has unique index, so
+ * text is stored once however many documents cite it. Citation can not be changed once saved
+ *
  * @author  Zeeshan Hanif
  * @see     Author
  * @see     Reference
  */
 @Getter
-@Setter
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "references")
+@Table(name = "references", indexes = @Index(name = "uk_references_hash", columnList = "hash", unique = true))
 public class Reference {
-    
+
     /**
-     * identification of object in database
+     * identification of object in database. Ids are allocated from a pooled sequence, 50 at a time,
+     * so inserting many references does not need a sequence call per row
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "references_seq")
+    @SequenceGenerator(name = "references_seq", sequenceName = "references_seq", allocationSize = 50)
     private long id;
 
     /**
      * Reference's value and it should not be empty
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private String reference;
 
+    /**
+     * SHA-256 hash of reference text, citation is looked up by it
+     */
+    @Column(nullable = false, updatable = false, length = 64)
+    private String hash;
+
     /**
      * Constructs {@Code Reference} with specified initial field values
-     * 
+     *
      * @param reference title of document
      */
     public Reference(String reference) {
         this.reference = reference;
+        this.hash = hashOf(reference);
+    }
+
+    /**
+     * Constructs {@Code Reference} with specified initial field values
+     *
+     * @param id unique id for reference
+     * @param reference title of document
+     */
+    public Reference(long id, String reference) {
+        this(reference);
+        this.id = id;
     }
 
+    /**
+     * Computes hash under which citation with provided text is stored
+     *
+     * @param reference text of reference
+     * @return hash of text, null if text is null
+     */
+    public static String hashOf(String reference) {
+        return reference == null ? null : ContentHasher.hashOf(reference);
+    }
 }
@@ -0,0 +1,40 @@
+package com.app.documentmanagement.events;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published by {@Code AuthorService} whenever an {@Code Author} is created, updated or 
+ * deleted. Listeners that keep derived state (caches, in memory indexes) use it to stay in sync with database
+ * 
+ * @author Zeeshan Hanif
+ * @see ChangeType
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuthorChangedEvent {
+
+    /**
+     * What happened to the author
+     */
+    private final ChangeType changeType;
+
+    /**
+     * id of changed author
+     */
+    private final long authorId;
+
+    /**
+     * ids of documents of the author after the change
+     */
+    private final Set<Long> documentIds;
+
+    /**
+     * ids of other authors that share a document with this author
+     */
+    private final Set<Long> coAuthorIds;
+}
@@ -0,0 +1,14 @@
+package com.app.documentmanagement.events;
+
+/**
+ * Kind of change that happened to {@Code Document} or {@Code Author} in database
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentChangedEvent
+ * @see AuthorChangedEvent
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,35 @@
+package com.app.documentmanagement.events;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published by {@Code DocumentService} whenever a {@Code Document} is created, updated or 
+ * deleted. Listeners that keep derived state (caches, in memory indexes) use it to stay in sync with database
+ * 
+ * @author Zeeshan Hanif
+ * @see ChangeType
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class DocumentChangedEvent {
+
+    /**
+     * What happened to the document
+     */
+    private final ChangeType changeType;
+
+    /**
+     * id of changed document
+     */
+    private final long documentId;
+
+    /**
+     * ids of authors attached to the document before and after the change
+     */
+    private final Set<Long> authorIds;
+}
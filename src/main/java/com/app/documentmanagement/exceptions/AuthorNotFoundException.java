@@ -15,4 +15,19 @@ public class AuthorNotFoundException extends DocumentManagementException {
     public AuthorNotFoundException(String msg) {
         super(msg);
     }
+
+    public AuthorNotFoundException(String msg, boolean writableStackTrace) {
+        super(msg, writableStackTrace);
+    }
+
+    /**
+     * Returns exception without stack trace for lookup of author id that does not exist. 
+     * It is thrown for every miss, so only message is allocated
+     * 
+     * @param id id of author that does not exist
+     * @return {@Code AuthorNotFoundException} with message and no stack trace
+     */
+    public static AuthorNotFoundException forId(long id) {
+        return new AuthorNotFoundException("No Such Author Exists with id "+id, false);
+    }
 }
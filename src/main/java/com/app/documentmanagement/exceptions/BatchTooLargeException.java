@@ -0,0 +1,18 @@
+package com.app.documentmanagement.exceptions;
+
+/**
+ * This {@Code BatchTooLargeException} is Runtime exception and inherits 
+ * from {@Code DocumentManagementException}. This exception will be thrown when batch
+ * request contains more items than system accepts in one request
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentManagementException
+ */
+public class BatchTooLargeException extends DocumentManagementException{
+    
+    public BatchTooLargeException() {}
+
+    public BatchTooLargeException(String msg) {
+        super(msg);
+    }
+}
@@ -13,4 +13,15 @@ public class DocumentManagementException extends RuntimeException {
     public DocumentManagementException(String msg) {
         super(msg);
     }
+
+    /**
+     * Constructs exception that can skip capturing stack trace, used for expected failures
+     * like lookup of missing id where stack trace is never read
+     * 
+     * @param msg error message
+     * @param writableStackTrace {@Code false} to skip filling in stack trace
+     */
+    public DocumentManagementException(String msg, boolean writableStackTrace) {
+        super(msg, null, false, writableStackTrace);
+    }
 }
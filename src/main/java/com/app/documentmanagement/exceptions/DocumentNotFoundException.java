@@ -15,4 +15,19 @@ public class DocumentNotFoundException extends DocumentManagementException{
     public DocumentNotFoundException(String msg) {
         super(msg);
     }
+
+    public DocumentNotFoundException(String msg, boolean writableStackTrace) {
+        super(msg, writableStackTrace);
+    }
+
+    /**
+     * Returns exception without stack trace for lookup of document id that does not exist. 
+     * It is thrown for every miss, so only message is allocated
+     * 
+     * @param id id of document that does not exist
+     * @return {@Code DocumentNotFoundException} with message and no stack trace
+     */
+    public static DocumentNotFoundException forId(long id) {
+        return new DocumentNotFoundException("No Such Document Exists with id "+id, false);
+    }
 }
@@ -1,5 +1,6 @@
 package com.app.documentmanagement.exceptions;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -35,7 +36,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = AuthorNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public @ResponseBody ErrorResponse handleException(AuthorNotFoundException exception){
-        log.error(String.format("AuthorNotFoundException: StatusCode: %s -- Message: %s",HttpStatus.NOT_FOUND.value(),exception.getMessage()));
+        // missing ids are expected and frequent, logging them as errors would flood the log
+        log.debug(String.format("AuthorNotFoundException: StatusCode: %s -- Message: %s",HttpStatus.NOT_FOUND.value(),exception.getMessage()));
         return new ErrorResponse(HttpStatus.NOT_FOUND.value(), exception.getMessage());
     }
 
@@ -91,7 +93,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = DocumentNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public @ResponseBody ErrorResponse handleException(DocumentNotFoundException exception){
-        log.error(String.format("DocumentNotFoundException: StatusCode: %s -- Message: %s",HttpStatus.NOT_FOUND.value(),exception.getMessage()));
+        // missing ids are expected and frequent, logging them as errors would flood the log
+        log.debug(String.format("DocumentNotFoundException: StatusCode: %s -- Message: %s",HttpStatus.NOT_FOUND.value(),exception.getMessage()));
         return new ErrorResponse(HttpStatus.NOT_FOUND.value(), exception.getMessage());
     }
 
@@ -123,6 +126,77 @@ public class GlobalExceptionHandler {
         return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage());
     }
     
+    /**
+     * Handles {@Code InvalidPatchException} exception and returns
+     * {@Code ErrorResponse} with BAD_REQUEST status and error message
+     * 
+     * @param exception {@Code InvalidPatchException}
+     * @return {@Code ErrorResponse} with status code and error message
+     */
+    @ExceptionHandler(value = InvalidPatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public @ResponseBody ErrorResponse handleException(InvalidPatchException exception){
+        log.error(String.format("InvalidPatchException: StatusCode: %s -- Message: %s",HttpStatus.BAD_REQUEST.value(),exception.getMessage()));
+        return new ErrorResponse(HttpStatus.BAD_REQUEST.value(), exception.getMessage());
+    }
+
+    /**
+     * Handles {@Code BatchTooLargeException} exception and returns
+     * {@Code ErrorResponse} with PAYLOAD_TOO_LARGE status and error message
+     * 
+     * @param exception {@Code BatchTooLargeException}
+     * @return {@Code ErrorResponse} with status code and error message
+     */
+    @ExceptionHandler(value = BatchTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public @ResponseBody ErrorResponse handleException(BatchTooLargeException exception){
+        log.error(String.format("BatchTooLargeException: StatusCode: %s -- Message: %s",HttpStatus.PAYLOAD_TOO_LARGE.value(),exception.getMessage()));
+        return new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE.value(), exception.getMessage());
+    }
+
+    /**
+     * Handles {@Code JobNotFoundException} exception and returns
+     * {@Code ErrorResponse} with NOT_FOUND status and error message
+     * 
+     * @param exception {@Code JobNotFoundException}
+     * @return {@Code ErrorResponse} with status code and error message
+     */
+    @ExceptionHandler(value = JobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public @ResponseBody ErrorResponse handleException(JobNotFoundException exception){
+        log.error(String.format("JobNotFoundException: StatusCode: %s -- Message: %s",HttpStatus.NOT_FOUND.value(),exception.getMessage()));
+        return new ErrorResponse(HttpStatus.NOT_FOUND.value(), exception.getMessage());
+    }
+
+    /**
+     * Handles {@Code PreconditionFailedException} exception and returns
+     * {@Code ErrorResponse} with PRECONDITION_FAILED status and error message
+     * 
+     * @param exception {@Code PreconditionFailedException}
+     * @return {@Code ErrorResponse} with status code and error message
+     */
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public @ResponseBody ErrorResponse handleException(PreconditionFailedException exception){
+        log.error(String.format("PreconditionFailedException: StatusCode: %s -- Message: %s",HttpStatus.PRECONDITION_FAILED.value(),exception.getMessage()));
+        return new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), exception.getMessage());
+    }
+
+    /**
+     * Handles {@Code OptimisticLockingFailureException} exception, this exception is thrown when
+     * document or author was changed by another request while it was being updated. Returns
+     * {@Code ErrorResponse} with CONFLICT status and error message
+     * 
+     * @param exception {@Code OptimisticLockingFailureException}
+     * @return {@Code ErrorResponse} with status code and error message
+     */
+    @ExceptionHandler(value = OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public @ResponseBody ErrorResponse handleException(OptimisticLockingFailureException exception){
+        log.error(String.format("OptimisticLockingFailureException: StatusCode: %s -- Message: %s",HttpStatus.CONFLICT.value(),exception.getMessage()));
+        return new ErrorResponse(HttpStatus.CONFLICT.value(), "Resource was modified concurrently, reload it and try again");
+    }
+
     /**
      * Handles {@Code MethodArgumentNotValidException} exception, this exception is thronw by
      * spring boot validation system. When inputs received from client are not expected as specified
@@ -0,0 +1,18 @@
+package com.app.documentmanagement.exceptions;
+
+/**
+ * This {@Code InvalidPatchException} is Runtime exception and inherits 
+ * from {@Code DocumentManagementException}. This exception will be thrown when merge patch
+ * sent by client is not a JSON object or tries to change field that can not be patched
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentManagementException
+ */
+public class InvalidPatchException extends DocumentManagementException{
+    
+    public InvalidPatchException() {}
+
+    public InvalidPatchException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,18 @@
+package com.app.documentmanagement.exceptions;
+
+/**
+ * This {@Code JobNotFoundException} is Runtime exception and inherits 
+ * from {@Code DocumentManagementException}. This exception will be thrown when system
+ * tries to get background job that does not exists
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentManagementException
+ */
+public class JobNotFoundException extends DocumentManagementException{
+    
+    public JobNotFoundException() {}
+
+    public JobNotFoundException(String msg) {
+        super(msg);
+    }
+}
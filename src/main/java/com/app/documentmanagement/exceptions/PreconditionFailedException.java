@@ -0,0 +1,18 @@
+package com.app.documentmanagement.exceptions;
+
+/**
+ * This {@Code PreconditionFailedException} is Runtime exception and inherits 
+ * from {@Code DocumentManagementException}. This exception will be thrown when client
+ * tries to update document or author with {@Code If-Match} header that does not match current ETag
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentManagementException
+ */
+public class PreconditionFailedException extends DocumentManagementException{
+    
+    public PreconditionFailedException() {}
+
+    public PreconditionFailedException(String msg) {
+        super(msg);
+    }
+}
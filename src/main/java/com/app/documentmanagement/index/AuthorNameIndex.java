@@ -0,0 +1,216 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.repositories.AuthorRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code AuthorNameIndex} keeps normalized names of all authors in a sorted map, so authors whose name starts
+ * with a prefix are found with a range scan instead of a query. Every author is kept under "first last"
+ * and "last first" so either name can be typed first. Names are compared without case and accents.
+ * Index is built at startup and follows committed author changes, changes that arrive while index is being 
+ * built are applied after build. Changed names are re-read in {@Code CommittedChangeBuffer#readTransaction}
+ * 
+ * @author Zeeshan Hanif
+ * @see TextAnalyzer
+ */
+@Slf4j
+@Component
+public class AuthorNameIndex {
+
+    /**
+     * Separates name from author id in keys, it sorts before every character of a name
+     */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * normalized name + separator + id to author
+     */
+    private final ConcurrentSkipListMap<String, AuthorDTO> names = new ConcurrentSkipListMap<>();
+
+    /**
+     * id to indexed author, used to remove old keys when author is renamed or deleted
+     */
+    private final Map<Long, AuthorDTO> authors = new ConcurrentHashMap<>();
+
+    @Value("${documentmanagement.suggest.rebuild.batch.size}")
+    private int rebuildBatchSize = 10000;
+
+    /**
+     * Serializes reading a changed author and applying it, so older read can not overwrite newer one
+     */
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private final Set<Long> pendingIds = new HashSet<>();
+    private boolean ready;
+
+    /**
+     * Changes of a transaction are applied together after commit
+     */
+    private final CommittedChangeBuffer<AuthorChangedEvent> committedChanges = new CommittedChangeBuffer<>(this::applyCommitted);
+
+    public AuthorNameIndex(AuthorRepository authorRepository, PlatformTransactionManager transactionManager) {
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = CommittedChangeBuffer.readTransaction(transactionManager);
+    }
+
+    /**
+     * Returns authors whose "first last" or "last first" name starts with prefix, in alphabetical order
+     * 
+     * @param prefix beginning of name, case and accents are ignored
+     * @param limit maximum number of authors to return
+     * @return {@Code List} of {@Code AuthorDTO} without documents
+     */
+    public List<AuthorDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        // same author can match both of its keys, first match wins
+        Map<Long, AuthorDTO> matches = new LinkedHashMap<>();
+        for (Map.Entry<String, AuthorDTO> entry : names.tailMap(key).entrySet()) {
+            if (matches.size() >= limit || !entry.getKey().startsWith(key)) {
+                break;
+            }
+            matches.putIfAbsent(entry.getValue().getId(), entry.getValue());
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    /**
+     * Loads names of all the authors, {@Code documentmanagement.suggest.rebuild.batch.size} at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long after = 0;
+        int loaded = 0;
+        List<AuthorDTO> page;
+        do {
+            page = authorRepository.findNamesByIdGreaterThan(after, Limit.of(rebuildBatchSize));
+            page.forEach(this::put);
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == rebuildBatchSize);
+
+        while (true) {
+            List<Long> changedIds;
+            synchronized (pendingIds) {
+                if (pendingIds.isEmpty()) {
+                    ready = true;
+                    break;
+                }
+                changedIds = new ArrayList<>(pendingIds);
+                pendingIds.clear();
+            }
+            reindex(changedIds);
+        }
+        log.info(String.format("Author Name Index: Indexed %s authors", loaded));
+    }
+
+    /**
+     * Collects changed author, authors changed by one transaction are re-read after commit
+     * 
+     * @param event {@Code AuthorChangedEvent} published by {@Code AuthorService}
+     */
+    @EventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        committedChanges.add(event);
+    }
+
+    /**
+     * Re-reads names of changed authors, deleted authors are removed without query
+     */
+    private void applyCommitted(List<AuthorChangedEvent> events) {
+        synchronized (pendingIds) {
+            if (!ready) {
+                events.forEach(event-> pendingIds.add(event.getAuthorId()));
+                return;
+            }
+        }
+        Set<Long> deletedIds = events.stream().filter(event-> event.getChangeType() == ChangeType.DELETED)
+                        .map(AuthorChangedEvent::getAuthorId).collect(Collectors.toSet());
+        if (!deletedIds.isEmpty()) {
+            maintenanceLock.lock();
+            try {
+                deletedIds.forEach(this::remove);
+            } finally {
+                maintenanceLock.unlock();
+            }
+        }
+        List<Long> changedIds = events.stream().map(AuthorChangedEvent::getAuthorId)
+                        .filter(id-> !deletedIds.contains(id)).distinct().toList();
+        if (!changedIds.isEmpty()) {
+            reindex(changedIds);
+        }
+    }
+
+    private void reindex(List<Long> ids) {
+        maintenanceLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status-> ids.forEach(id-> 
+                            authorRepository.findNameById(id).ifPresentOrElse(this::put, ()-> remove(id))));
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void put(AuthorDTO author) {
+        remove(author.getId());
+        AuthorDTO indexed = new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName());
+        keysOf(indexed).forEach(key-> names.put(key, indexed));
+        authors.put(indexed.getId(), indexed);
+    }
+
+    private void remove(long id) {
+        AuthorDTO indexed = authors.remove(id);
+        if (indexed != null) {
+            keysOf(indexed).forEach(names::remove);
+        }
+    }
+
+    private static List<String> keysOf(AuthorDTO author) {
+        String firstName = normalize(author.getFirstName());
+        String lastName = normalize(author.getLastName());
+        return List.of(firstName + " " + lastName + KEY_SEPARATOR + author.getId(),
+                        lastName + " " + firstName + KEY_SEPARATOR + author.getId());
+    }
+
+    /**
+     * Normalizes every word and joins them with single space. Trailing space is kept, so "ali " does not
+     * match "alice"
+     */
+    private static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String normalized = TextAnalyzer.tokenize(name).stream().map(TextAnalyzer.Token::getTerm).collect(Collectors.joining(" "));
+        return !normalized.isEmpty() && Character.isWhitespace(name.charAt(name.length() - 1)) ? normalized + " " : normalized;
+    }
+}
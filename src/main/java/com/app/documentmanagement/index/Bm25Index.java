@@ -0,0 +1,182 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@Code Bm25Index} is an in memory inverted index that ranks entries with Okapi BM25. Each entry is a
+ * map of term to (weighted) term frequency, so callers can give fields different weights. 
+ * Readers share a read lock and are only blocked while an entry is put or removed
+ * 
+ * @author Zeeshan Hanif
+ */
+public class Bm25Index {
+
+    private final double k1;
+    private final double b;
+
+    /**
+     * term to (entry id to term frequency)
+     */
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    /**
+     * entry id to its length and terms, terms are kept to remove entry from postings
+     */
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private double totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs index with BM25 parameters
+     * 
+     * @param k1 term frequency saturation, usually between 1.2 and 2.0
+     * @param b length normalization between 0 (none) and 1 (full), usually 0.75
+     */
+    public Bm25Index(double k1, double b) {
+        this.k1 = k1;
+        this.b = b;
+    }
+
+    /**
+     * Adds entry or replaces existing entry with same id
+     * 
+     * @param id id of entry
+     * @param termFrequencies term to its frequency in entry
+     * @param length length of entry, usually sum of frequencies
+     */
+    public void put(long id, Map<String, Float> termFrequencies, float length) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+            termFrequencies.forEach((term, frequency)-> postings.computeIfAbsent(term, key-> new HashMap<>()).put(id, frequency));
+            entries.put(id, new Entry(length, termFrequencies.keySet().toArray(String[]::new)));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns entries that contain any of the terms, best first. Only offset + limit best entries are
+     * kept while scoring, so cost of a page does not depend on number of matches
+     * 
+     * @param terms normalized query terms
+     * @param offset number of best hits to skip
+     * @param limit maximum number of hits to return
+     * @return {@Code Hits} with total number of matching entries and requested page
+     */
+    public Hits search(Collection<String> terms, int offset, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int entryCount = entries.size();
+            double averageLength = entryCount == 0 ? 0 : totalLength / entryCount;
+            for (String term : terms) {
+                Map<Long, Float> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (entryCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((id, frequency)-> {
+                    double lengthRatio = averageLength == 0 ? 1 : entries.get(id).getLength() / averageLength;
+                    double score = idf * frequency * (k1 + 1) / (frequency + k1 * (1 - b + b * lengthRatio));
+                    scores.merge(id, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::getScore).thenComparing(Hit::getId, Comparator.reverseOrder());
+        int keep = offset + limit;
+        PriorityQueue<Hit> best = new PriorityQueue<>(ranking);
+        scores.forEach((id, score)-> {
+            Hit hit = new Hit(id, score);
+            if (best.size() < keep) {
+                best.add(hit);
+            } else if (keep > 0 && ranking.compare(hit, best.peek()) > 0) {
+                best.poll();
+                best.add(hit);
+            }
+        });
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(ranking.reversed());
+        List<Hit> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+        return new Hits(scores.size(), List.copyOf(page));
+    }
+
+    private void removeEntry(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.getTerms()) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= entry.getLength();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Entry {
+        private final float length;
+        private final String[] terms;
+    }
+
+    /**
+     * Id of matching entry and its score
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Hit {
+        private final long id;
+        private final double score;
+    }
+
+    /**
+     * Page of hits and total number of matching entries
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Hits {
+        private final int total;
+        private final List<Hit> hits;
+    }
+}
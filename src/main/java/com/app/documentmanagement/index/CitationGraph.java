@@ -0,0 +1,287 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@Code CitationGraph} links documents with the works they cite. Reference text is canonicalized with
+ * {@Code TextAnalyzer}, so the same work cited with different case, accents or punctuation is one node, and
+ * every work gets an int id. Adjacency is kept in both directions in primitive arrays: document to sorted ids of
+ * works it cites and work to ids of documents citing it. Related documents are found by walking from document
+ * to its works and back, touching only documents that share at least one work. Ids of works that are no longer
+ * cited are reused
+ *
+ * @author Zeeshan Hanif
+ */
+public class CitationGraph {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * canonical text to id of work
+     */
+    private final Map<String, Integer> workIds = new HashMap<>();
+
+    /**
+     * work id to canonical text, null for unused id
+     */
+    private String[] canonicals = new String[INITIAL_CAPACITY];
+
+    /**
+     * work id to reference text as it was first cited
+     */
+    private String[] texts = new String[INITIAL_CAPACITY];
+
+    /**
+     * work id to ids of citing documents, only first {@Code citationCounts[id]} entries are used
+     */
+    private long[][] citingDocuments = new long[INITIAL_CAPACITY][];
+
+    private int[] citationCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * number of work ids handed out so far, including unused ones
+     */
+    private int workIdLimit;
+
+    private int[] freeWorkIds = new int[INITIAL_CAPACITY];
+    private int freeWorkIdCount;
+
+    /**
+     * document id to sorted ids of works it cites
+     */
+    private final Map<Long, int[]> worksByDocument = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds document or replaces references of existing document
+     *
+     * @param documentId id of document
+     * @param references reference texts of document, references without any letter or digit are ignored
+     */
+    public void put(long documentId, Collection<String> references) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+            int[] works = references.stream().filter(reference-> reference != null)
+                            .mapToInt(reference-> workIdOf(TextAnalyzer.canonical(reference), reference))
+                            .filter(workId-> workId >= 0).distinct().sorted().toArray();
+            if (works.length == 0) {
+                return;
+            }
+            for (int workId : works) {
+                addCitingDocument(workId, documentId);
+            }
+            worksByDocument.put(documentId, works);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns other documents that cite at least one work cited by provided document, documents sharing
+     * most works first and then by id
+     *
+     * @param documentId id of document
+     * @param limit maximum number of documents to return
+     * @return {@Code List} of {@Code Related}, empty if document is not in graph
+     */
+    public List<Related> related(long documentId, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] works = worksByDocument.get(documentId);
+            if (works == null) {
+                return List.of();
+            }
+            Map<Long, Integer> sharedCounts = new HashMap<>();
+            for (int workId : works) {
+                long[] documents = citingDocuments[workId];
+                for (int i = 0; i < citationCounts[workId]; i++) {
+                    if (documents[i] != documentId) {
+                        sharedCounts.merge(documents[i], 1, Integer::sum);
+                    }
+                }
+            }
+            return sharedCounts.entrySet().stream()
+                            .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                            .limit(limit).map(entry-> new Related(entry.getKey(), entry.getValue())).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns works cited by most documents, ties are ordered by id of work. Only {@Code limit} works
+     * are kept in a heap while all the works are visited
+     *
+     * @param limit maximum number of works to return
+     * @return {@Code List} of {@Code CitedWork}, most cited first
+     */
+    public List<CitedWork> mostCited(int limit) {
+        lock.readLock().lock();
+        try {
+            if (limit <= 0) {
+                return List.of();
+            }
+            Comparator<Integer> mostCitedFirst = Comparator.<Integer>comparingInt(workId-> citationCounts[workId]).reversed()
+                            .thenComparingInt(workId-> workId);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(mostCitedFirst.reversed());
+            for (int workId = 0; workId < workIdLimit; workId++) {
+                if (citationCounts[workId] > 0) {
+                    heap.add(workId);
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+            List<Integer> top = new ArrayList<>(heap);
+            top.sort(mostCitedFirst);
+            return top.stream().map(workId-> new CitedWork(workId, texts[workId], citationCounts[workId])).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns number of distinct works cited by documents
+     *
+     * @return number of works
+     */
+    public int workCount() {
+        lock.readLock().lock();
+        try {
+            return workIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(long documentId) {
+        int[] works = worksByDocument.remove(documentId);
+        if (works == null) {
+            return;
+        }
+        for (int workId : works) {
+            long[] documents = citingDocuments[workId];
+            int count = citationCounts[workId];
+            for (int i = 0; i < count; i++) {
+                if (documents[i] == documentId) {
+                    documents[i] = documents[count - 1];
+                    citationCounts[workId] = --count;
+                    break;
+                }
+            }
+            if (count == 0) {
+                releaseWorkId(workId);
+            }
+        }
+    }
+
+    /**
+     * Returns id of work, new id is assigned to work that is cited for the first time
+     *
+     * @return id of work, -1 if canonical text is empty
+     */
+    private int workIdOf(String canonical, String text) {
+        if (canonical.isEmpty()) {
+            return -1;
+        }
+        Integer existing = workIds.get(canonical);
+        if (existing != null) {
+            return existing;
+        }
+        int workId;
+        if (freeWorkIdCount > 0) {
+            workId = freeWorkIds[--freeWorkIdCount];
+        } else {
+            workId = workIdLimit++;
+            if (workId == canonicals.length) {
+                int capacity = canonicals.length * 2;
+                canonicals = Arrays.copyOf(canonicals, capacity);
+                texts = Arrays.copyOf(texts, capacity);
+                citingDocuments = Arrays.copyOf(citingDocuments, capacity);
+                citationCounts = Arrays.copyOf(citationCounts, capacity);
+            }
+        }
+        canonicals[workId] = canonical;
+        texts[workId] = text.strip();
+        citingDocuments[workId] = new long[2];
+        workIds.put(canonical, workId);
+        return workId;
+    }
+
+    private void releaseWorkId(int workId) {
+        workIds.remove(canonicals[workId]);
+        canonicals[workId] = null;
+        texts[workId] = null;
+        citingDocuments[workId] = null;
+        if (freeWorkIdCount == freeWorkIds.length) {
+            freeWorkIds = Arrays.copyOf(freeWorkIds, freeWorkIds.length * 2);
+        }
+        freeWorkIds[freeWorkIdCount++] = workId;
+    }
+
+    private void addCitingDocument(int workId, long documentId) {
+        long[] documents = citingDocuments[workId];
+        if (citationCounts[workId] == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+            citingDocuments[workId] = documents;
+        }
+        documents[citationCounts[workId]++] = documentId;
+    }
+
+    /**
+     * Document related to another document by shared works
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Related {
+
+        private final long documentId;
+
+        /**
+         * Number of works cited by both documents
+         */
+        private final int sharedReferences;
+    }
+
+    /**
+     * Work with number of documents citing it
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class CitedWork {
+
+        private final int id;
+
+        /**
+         * Reference text as it was first cited
+         */
+        private final String reference;
+
+        private final int citations;
+    }
+}
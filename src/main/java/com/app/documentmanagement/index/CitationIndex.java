@@ -0,0 +1,105 @@
+package com.app.documentmanagement.index;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.app.documentmanagement.dto.CitedReferenceDTO;
+import com.app.documentmanagement.dto.RelatedDocumentDTO;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.DocumentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code CitationIndex} keeps {@Code CitationGraph} of all the documents in memory, so documents sharing references
+ * and most cited works are found without scanning references table. Graph is built at startup and kept in sync with
+ * committed changes by {@Code IncrementalDocumentIndex}
+ *
+ * @author Zeeshan Hanif
+ * @see CitationGraph
+ */
+@Slf4j
+@Component
+public class CitationIndex extends IncrementalDocumentIndex {
+
+    private final DocumentRepository documentRepository;
+    private final CitationGraph graph = new CitationGraph();
+
+    @Value("${documentmanagement.citations.rebuild.batch.size}")
+    private int rebuildBatchSize = 500;
+
+    public CitationIndex(DocumentRepository documentRepository, PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        this.documentRepository = documentRepository;
+    }
+
+    /**
+     * Returns other documents that cite the same works as provided document, documents sharing most
+     * references first
+     *
+     * @param documentId id of document
+     * @param limit maximum number of documents to return
+     * @return {@Code List} of {@Code RelatedDocumentDTO}
+     */
+    public List<RelatedDocumentDTO> related(long documentId, int limit) {
+        return graph.related(documentId, limit).stream()
+                        .map(related-> new RelatedDocumentDTO(related.getDocumentId(), related.getSharedReferences())).toList();
+    }
+
+    /**
+     * Returns works cited by most documents
+     *
+     * @param limit maximum number of works to return
+     * @return {@Code List} of {@Code CitedReferenceDTO}, most cited first
+     */
+    public List<CitedReferenceDTO> mostCited(int limit) {
+        return graph.mostCited(limit).stream()
+                        .map(work-> new CitedReferenceDTO(work.getReference(), work.getCitations())).toList();
+    }
+
+    /**
+     * Builds graph from references of all the documents, documents are read
+     * {@Code documentmanagement.citations.rebuild.batch.size} at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = load(rebuildBatchSize);
+        log.info(String.format("Citation Index: Indexed %s documents citing %s works", loaded, graph.workCount()));
+    }
+
+    @Override
+    protected List<Long> loadPage(long after, int limit) {
+        List<Document> page = documentRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        page.forEach(this::put);
+        return page.stream().map(Document::getId).toList();
+    }
+
+    /**
+     * Re-reads references of changed documents with one query
+     */
+    @Override
+    protected Collection<Long> reload(Collection<Long> ids) {
+        List<Document> changed = documentRepository.findWithReferencesByIdIn(ids);
+        changed.forEach(this::put);
+        return changed.stream().map(Document::getId).toList();
+    }
+
+    @Override
+    protected void remove(long id) {
+        graph.remove(id);
+    }
+
+    private void put(Document document) {
+        List<String> references = document.getReferences() == null ? List.of()
+                        : document.getReferences().stream().map(Reference::getReference).toList();
+        graph.put(document.getId(), references);
+    }
+}
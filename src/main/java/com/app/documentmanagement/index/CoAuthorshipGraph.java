@@ -0,0 +1,646 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@Code CoAuthorshipGraph} links authors that wrote a document together, weight of a link is number of documents
+ * they share. Every author gets an int vertex id and links are kept in compressed sparse row layout: co-authors of
+ * all the vertices are stored back to back in primitive arrays, sorted by vertex id, with offset of every row, so
+ * walking the graph does not touch any object. Changed documents write to a small overlay of weight changes that is
+ * read together with rows, and overlay is merged into new rows once it grows past a quarter of the rows.
+ * Connected components are computed at most once per change and reused by later queries
+ *
+ * @author Zeeshan Hanif
+ */
+public class CoAuthorshipGraph {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * overlay smaller than this is never merged, so small graphs are not rebuilt on every change
+     */
+    private static final int MIN_OVERLAY_MERGE_SIZE = 4096;
+
+    /**
+     * author id to vertex id
+     */
+    private final Map<Long, Integer> vertexIds = new HashMap<>();
+
+    /**
+     * vertex id to author id
+     */
+    private long[] authorIds = new long[INITIAL_CAPACITY];
+
+    /**
+     * vertex id to number of documents of author, 0 for unused id
+     */
+    private int[] documentCounts = new int[INITIAL_CAPACITY];
+
+    /**
+     * vertex id to number of co-authors
+     */
+    private int[] degrees = new int[INITIAL_CAPACITY];
+
+    /**
+     * number of vertex ids handed out so far, including unused ones
+     */
+    private int vertexLimit;
+
+    private int[] freeVertexIds = new int[INITIAL_CAPACITY];
+    private int freeVertexIdCount;
+
+    /**
+     * rows of vertices below {@Code rowCount}, co-authors of vertex {@Code v} are at positions
+     * {@Code offsets[v]} to {@Code offsets[v + 1]} of {@Code coAuthors} and {@Code weights}
+     */
+    private int rowCount;
+    private int[] offsets = new int[1];
+    private int[] coAuthors = new int[0];
+    private int[] weights = new int[0];
+
+    /**
+     * vertex id to co-author vertex id to change of weight that is not merged into rows yet
+     */
+    private final Map<Integer, Map<Integer, Integer>> overlay = new HashMap<>();
+    private int overlaySize;
+
+    /**
+     * document id to sorted vertex ids of its authors
+     */
+    private final Map<Long, int[]> authorsByDocument = new HashMap<>();
+
+    /**
+     * vertex id to root vertex of its component, valid only while {@Code componentsValid}
+     */
+    private int[] componentRoots = new int[0];
+    private List<Component> components = List.of();
+    private boolean componentsValid;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds document or replaces authors of existing document
+     *
+     * @param documentId id of document
+     * @param authorIds ids of authors of document, null ids are ignored
+     */
+    public void put(long documentId, Collection<Long> authorIds) {
+        long[] sortedAuthorIds = authorIds.stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().sorted().toArray();
+        lock.writeLock().lock();
+        try {
+            int[] previous = authorsByDocument.get(documentId);
+            if (previous != null && Arrays.equals(authorIdsOf(previous), sortedAuthorIds)) {
+                return;
+            }
+            removeDocument(documentId);
+            if (sortedAuthorIds.length == 0) {
+                return;
+            }
+            int[] vertices = new int[sortedAuthorIds.length];
+            for (int i = 0; i < vertices.length; i++) {
+                vertices[i] = vertexOf(sortedAuthorIds[i]);
+                documentCounts[vertices[i]]++;
+            }
+            Arrays.sort(vertices);
+            for (int i = 0; i < vertices.length; i++) {
+                for (int j = i + 1; j < vertices.length; j++) {
+                    changeWeight(vertices[i], vertices[j], 1);
+                }
+            }
+            authorsByDocument.put(documentId, vertices);
+            componentsValid = false;
+            if (overlaySize > Math.max(MIN_OVERLAY_MERGE_SIZE, coAuthors.length / 4)) {
+                mergeOverlay();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long documentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Merges overlay into rows, used after graph is loaded so queries do not read overlay
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            mergeOverlay();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns co-authors of author, authors sharing most documents first and then by id
+     *
+     * @param authorId id of author
+     * @param limit maximum number of co-authors to return
+     * @return {@Code List} of {@Code CoAuthor}, empty if author has no documents
+     */
+    public List<CoAuthor> coAuthors(long authorId, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer vertex = vertexIds.get(authorId);
+            if (vertex == null) {
+                return List.of();
+            }
+            List<CoAuthor> found = new ArrayList<>(degrees[vertex]);
+            forEachCoAuthor(vertex, (coAuthor, weight)-> found.add(new CoAuthor(authorIds[coAuthor], weight)));
+            found.sort(Comparator.comparingInt(CoAuthor::getSharedDocuments).reversed().thenComparingLong(CoAuthor::getAuthorId));
+            return found.size() > limit ? List.copyOf(found.subList(0, limit)) : found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns authors with most co-authors, ties are ordered by id of author. Authors without co-authors are
+     * not returned. Only {@Code limit} authors are kept in a heap while all the authors are visited
+     *
+     * @param limit maximum number of authors to return
+     * @return {@Code List} of {@Code Collaborator}, most connected first
+     */
+    public List<Collaborator> mostConnected(int limit) {
+        lock.readLock().lock();
+        try {
+            if (limit <= 0) {
+                return List.of();
+            }
+            Comparator<Integer> mostConnectedFirst = Comparator.<Integer>comparingInt(vertex-> degrees[vertex]).reversed()
+                            .thenComparingLong(vertex-> authorIds[vertex]);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(mostConnectedFirst.reversed());
+            for (int vertex = 0; vertex < vertexLimit; vertex++) {
+                if (degrees[vertex] > 0) {
+                    heap.add(vertex);
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+            List<Integer> top = new ArrayList<>(heap);
+            top.sort(mostConnectedFirst);
+            return top.stream().map(vertex-> new Collaborator(authorIds[vertex], degrees[vertex], documentCounts[vertex])).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns groups of authors connected through co-authorship, largest first and then by smallest author id.
+     * Author whose documents have no other author is a group of its own
+     *
+     * @param limit maximum number of components to return
+     * @return {@Code List} of {@Code Component}
+     */
+    public List<Component> components(int limit) {
+        lock.readLock().lock();
+        try {
+            if (componentsValid) {
+                return firstComponents(limit);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // components are computed lazily and cached, which writes shared state
+        lock.writeLock().lock();
+        try {
+            computeComponents();
+            return firstComponents(limit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Component> firstComponents(int limit) {
+        return List.copyOf(components.subList(0, Math.max(0, Math.min(limit, components.size()))));
+    }
+
+    /**
+     * Returns shortest chain of co-authorship from one author to another. Breadth first search is run from both
+     * authors at once, always expanding the smaller frontier, so only a small part of graph is visited. Authors
+     * that are known to be in different components are answered without search
+     *
+     * @param fromAuthorId id of first author
+     * @param toAuthorId id of last author
+     * @return ids of authors on the path, both authors included, empty if they are not connected
+     */
+    public List<Long> path(long fromAuthorId, long toAuthorId) {
+        lock.readLock().lock();
+        try {
+            Integer from = vertexIds.get(fromAuthorId);
+            Integer to = vertexIds.get(toAuthorId);
+            if (from == null || to == null) {
+                return List.of();
+            }
+            if (from.intValue() == to.intValue()) {
+                return List.of(fromAuthorId);
+            }
+            if (componentsValid && componentRoots[from] != componentRoots[to]) {
+                return List.of();
+            }
+            return shortestPath(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns number of authors that have at least one document
+     *
+     * @return number of authors
+     */
+    public int authorCount() {
+        lock.readLock().lock();
+        try {
+            return vertexIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns number of co-author links, every pair of authors is counted once
+     *
+     * @return number of links
+     */
+    public long linkCount() {
+        lock.readLock().lock();
+        try {
+            long ends = 0;
+            for (int vertex = 0; vertex < vertexLimit; vertex++) {
+                ends += degrees[vertex];
+            }
+            return ends / 2;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeDocument(long documentId) {
+        int[] vertices = authorsByDocument.remove(documentId);
+        if (vertices == null) {
+            return;
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            for (int j = i + 1; j < vertices.length; j++) {
+                changeWeight(vertices[i], vertices[j], -1);
+            }
+        }
+        for (int vertex : vertices) {
+            if (--documentCounts[vertex] == 0) {
+                releaseVertex(vertex);
+            }
+        }
+        componentsValid = false;
+    }
+
+    private long[] authorIdsOf(int[] vertices) {
+        long[] ids = new long[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            ids[i] = authorIds[vertices[i]];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Returns vertex id of author, new id is assigned to author that is seen for the first time
+     */
+    private int vertexOf(long authorId) {
+        Integer existing = vertexIds.get(authorId);
+        if (existing != null) {
+            return existing;
+        }
+        int vertex;
+        if (freeVertexIdCount > 0) {
+            vertex = freeVertexIds[--freeVertexIdCount];
+        } else {
+            vertex = vertexLimit++;
+            if (vertex == authorIds.length) {
+                int capacity = authorIds.length * 2;
+                authorIds = Arrays.copyOf(authorIds, capacity);
+                documentCounts = Arrays.copyOf(documentCounts, capacity);
+                degrees = Arrays.copyOf(degrees, capacity);
+            }
+        }
+        authorIds[vertex] = authorId;
+        vertexIds.put(authorId, vertex);
+        return vertex;
+    }
+
+    /**
+     * Author without documents has no link of positive weight, so its id can be given to another author
+     * even before its row is merged: old entries of the row and their overlay changes add up to 0
+     */
+    private void releaseVertex(int vertex) {
+        vertexIds.remove(authorIds[vertex]);
+        if (freeVertexIdCount == freeVertexIds.length) {
+            freeVertexIds = Arrays.copyOf(freeVertexIds, freeVertexIds.length * 2);
+        }
+        freeVertexIds[freeVertexIdCount++] = vertex;
+    }
+
+    private void changeWeight(int vertex, int coAuthor, int change) {
+        int before = weight(vertex, coAuthor);
+        changeOverlay(vertex, coAuthor, change);
+        changeOverlay(coAuthor, vertex, change);
+        if (before == 0) {
+            degrees[vertex]++;
+            degrees[coAuthor]++;
+        } else if (before + change == 0) {
+            degrees[vertex]--;
+            degrees[coAuthor]--;
+        }
+    }
+
+    private void changeOverlay(int vertex, int coAuthor, int change) {
+        Map<Integer, Integer> changes = overlay.computeIfAbsent(vertex, key-> new HashMap<>());
+        int sizeBefore = changes.size();
+        changes.merge(coAuthor, change, (current, added)-> current + added == 0 ? null : current + added);
+        overlaySize += changes.size() - sizeBefore;
+        if (changes.isEmpty()) {
+            overlay.remove(vertex);
+        }
+    }
+
+    private int weight(int vertex, int coAuthor) {
+        Map<Integer, Integer> changes = overlay.get(vertex);
+        return rowWeight(vertex, coAuthor) + (changes == null ? 0 : changes.getOrDefault(coAuthor, 0));
+    }
+
+    private int rowWeight(int vertex, int coAuthor) {
+        if (vertex >= rowCount) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(coAuthors, offsets[vertex], offsets[vertex + 1], coAuthor);
+        return position < 0 ? 0 : weights[position];
+    }
+
+    /**
+     * Visits co-authors of vertex with positive weight, row entries first in order of vertex id and then
+     * co-authors that are only in overlay
+     */
+    private void forEachCoAuthor(int vertex, LinkVisitor visitor) {
+        Map<Integer, Integer> changes = overlay.get(vertex);
+        if (vertex < rowCount) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int weight = weights[i] + (changes == null ? 0 : changes.getOrDefault(coAuthors[i], 0));
+                if (weight > 0) {
+                    visitor.visit(coAuthors[i], weight);
+                }
+            }
+        }
+        if (changes != null) {
+            for (Map.Entry<Integer, Integer> change : changes.entrySet()) {
+                // rows never keep links of weight 0, so entry without row weight is a new link
+                if (change.getValue() > 0 && rowWeight(vertex, change.getKey()) == 0) {
+                    visitor.visit(change.getKey(), change.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes current links of every vertex into new rows. Degree of vertex is the length of its new row, so
+     * rows are filled in one pass
+     */
+    private void mergeOverlay() {
+        if (overlay.isEmpty() && rowCount == vertexLimit) {
+            return;
+        }
+        int[] newOffsets = new int[vertexLimit + 1];
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            newOffsets[vertex + 1] = newOffsets[vertex] + degrees[vertex];
+        }
+        int[] newCoAuthors = new int[newOffsets[vertexLimit]];
+        int[] newWeights = new int[newOffsets[vertexLimit]];
+        int[] cursor = new int[1];
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            cursor[0] = newOffsets[vertex];
+            forEachCoAuthor(vertex, (coAuthor, weight)-> {
+                newCoAuthors[cursor[0]] = coAuthor;
+                newWeights[cursor[0]++] = weight;
+            });
+            if (overlay.containsKey(vertex)) {
+                sortRow(newCoAuthors, newWeights, newOffsets[vertex], newOffsets[vertex + 1]);
+            }
+        }
+        offsets = newOffsets;
+        coAuthors = newCoAuthors;
+        weights = newWeights;
+        rowCount = vertexLimit;
+        overlay.clear();
+        overlaySize = 0;
+    }
+
+    private static void sortRow(int[] coAuthors, int[] weights, int from, int to) {
+        long[] links = new long[to - from];
+        for (int i = from; i < to; i++) {
+            links[i - from] = ((long) coAuthors[i] << 32) | weights[i];
+        }
+        Arrays.sort(links);
+        for (int i = from; i < to; i++) {
+            coAuthors[i] = (int) (links[i - from] >>> 32);
+            weights[i] = (int) links[i - from];
+        }
+    }
+
+    /**
+     * Labels every vertex with root of its component using union-find, then counts members of every component
+     */
+    private void computeComponents() {
+        if (componentsValid) {
+            return;
+        }
+        int[] roots = new int[vertexLimit];
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            roots[vertex] = vertex;
+        }
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            int from = vertex;
+            forEachCoAuthor(vertex, (coAuthor, weight)-> {
+                if (coAuthor > from) {
+                    int fromRoot = find(roots, from);
+                    int coAuthorRoot = find(roots, coAuthor);
+                    if (fromRoot != coAuthorRoot) {
+                        roots[Math.max(fromRoot, coAuthorRoot)] = Math.min(fromRoot, coAuthorRoot);
+                    }
+                }
+            });
+        }
+        int[] sizes = new int[vertexLimit];
+        long[] smallestAuthorIds = new long[vertexLimit];
+        Arrays.fill(smallestAuthorIds, Long.MAX_VALUE);
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            roots[vertex] = find(roots, vertex);
+            if (documentCounts[vertex] > 0) {
+                sizes[roots[vertex]]++;
+                smallestAuthorIds[roots[vertex]] = Math.min(smallestAuthorIds[roots[vertex]], authorIds[vertex]);
+            }
+        }
+        List<Component> found = new ArrayList<>();
+        for (int vertex = 0; vertex < vertexLimit; vertex++) {
+            if (sizes[vertex] > 0) {
+                found.add(new Component(smallestAuthorIds[vertex], sizes[vertex]));
+            }
+        }
+        found.sort(Comparator.comparingInt(Component::getSize).reversed().thenComparingLong(Component::getAuthorId));
+        componentRoots = roots;
+        components = found;
+        componentsValid = true;
+    }
+
+    private static int find(int[] roots, int vertex) {
+        int root = vertex;
+        while (roots[root] != root) {
+            root = roots[root];
+        }
+        while (roots[vertex] != root) {
+            int next = roots[vertex];
+            roots[vertex] = root;
+            vertex = next;
+        }
+        return root;
+    }
+
+    /**
+     * Bidirectional breadth first search. A whole level of one side is expanded before meetings are compared,
+     * so the shortest of the paths through vertices seen by both sides is returned. Depths are kept only for
+     * visited vertices, so a search that stays near both authors allocates nothing in proportion to graph
+     */
+    private List<Long> shortestPath(int from, int to) {
+        Map<Integer, Integer> forwardDepths = new HashMap<>();
+        Map<Integer, Integer> backwardDepths = new HashMap<>();
+        forwardDepths.put(from, 0);
+        backwardDepths.put(to, 0);
+        List<Integer> forwardFrontier = new ArrayList<>(List.of(from));
+        List<Integer> backwardFrontier = new ArrayList<>(List.of(to));
+        int[] meeting = {-1, Integer.MAX_VALUE};
+        while (meeting[0] < 0 && !forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            boolean forward = forwardFrontier.size() <= backwardFrontier.size();
+            Map<Integer, Integer> depths = forward ? forwardDepths : backwardDepths;
+            Map<Integer, Integer> otherDepths = forward ? backwardDepths : forwardDepths;
+            List<Integer> next = new ArrayList<>();
+            for (int vertex : forward ? forwardFrontier : backwardFrontier) {
+                int depth = depths.get(vertex) + 1;
+                forEachCoAuthor(vertex, (coAuthor, weight)-> {
+                    if (depths.putIfAbsent(coAuthor, depth) == null) {
+                        next.add(coAuthor);
+                        Integer otherDepth = otherDepths.get(coAuthor);
+                        if (otherDepth != null && depth + otherDepth < meeting[1]) {
+                            meeting[0] = coAuthor;
+                            meeting[1] = depth + otherDepth;
+                        }
+                    }
+                });
+            }
+            if (forward) {
+                forwardFrontier = next;
+            } else {
+                backwardFrontier = next;
+            }
+        }
+        if (meeting[0] < 0) {
+            return List.of();
+        }
+        List<Long> path = new ArrayList<>();
+        for (int vertex = meeting[0]; vertex != from; vertex = previousOnPath(vertex, forwardDepths)) {
+            path.add(authorIds[vertex]);
+        }
+        path.add(authorIds[from]);
+        Collections.reverse(path);
+        for (int vertex = meeting[0]; vertex != to; ) {
+            vertex = previousOnPath(vertex, backwardDepths);
+            path.add(authorIds[vertex]);
+        }
+        return path;
+    }
+
+    /**
+     * Returns co-author of vertex that is one step closer to start of search
+     */
+    private int previousOnPath(int vertex, Map<Integer, Integer> depths) {
+        int previousDepth = depths.get(vertex) - 1;
+        int[] previous = {-1};
+        forEachCoAuthor(vertex, (coAuthor, weight)-> {
+            if (previous[0] < 0 && Objects.equals(depths.get(coAuthor), previousDepth)) {
+                previous[0] = coAuthor;
+            }
+        });
+        return previous[0];
+    }
+
+    @FunctionalInterface
+    private interface LinkVisitor {
+        void visit(int coAuthor, int weight);
+    }
+
+    /**
+     * Author linked to another author by shared documents
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class CoAuthor {
+
+        private final long authorId;
+
+        /**
+         * Number of documents written by both authors
+         */
+        private final int sharedDocuments;
+    }
+
+    /**
+     * Author with number of distinct co-authors
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Collaborator {
+
+        private final long authorId;
+
+        private final int coAuthors;
+
+        private final int documents;
+    }
+
+    /**
+     * Group of authors connected through co-authorship
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Component {
+
+        /**
+         * Smallest id of author in the group, it identifies the group
+         */
+        private final long authorId;
+
+        private final int size;
+    }
+}
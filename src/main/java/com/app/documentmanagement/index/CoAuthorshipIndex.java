@@ -0,0 +1,157 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.app.documentmanagement.dto.AuthorComponentDTO;
+import com.app.documentmanagement.dto.CoAuthorDTO;
+import com.app.documentmanagement.dto.CollaborationPathDTO;
+import com.app.documentmanagement.dto.CollaboratorDTO;
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.repositories.DocumentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code CoAuthorshipIndex} keeps {@Code CoAuthorshipGraph} of all the authors in memory, so co-authors, most
+ * connected authors, groups of connected authors and collaboration paths are found without loading authors with
+ * their documents. Graph is built at startup from document_author table and kept in sync with committed changes by
+ * {@Code IncrementalDocumentIndex}, documents of a changed author are re-read together with changed documents
+ *
+ * @author Zeeshan Hanif
+ * @see CoAuthorshipGraph
+ */
+@Slf4j
+@Component
+public class CoAuthorshipIndex extends IncrementalDocumentIndex {
+
+    private final DocumentRepository documentRepository;
+    private final CoAuthorshipGraph graph = new CoAuthorshipGraph();
+
+    @Value("${documentmanagement.coauthors.rebuild.batch.size}")
+    private int rebuildBatchSize = 1000;
+
+    public CoAuthorshipIndex(DocumentRepository documentRepository, PlatformTransactionManager transactionManager) {
+        super(transactionManager);
+        this.documentRepository = documentRepository;
+    }
+
+    /**
+     * Returns authors that wrote at least one document with provided author, authors sharing most documents first
+     *
+     * @param authorId id of author
+     * @param limit maximum number of co-authors to return
+     * @return {@Code List} of {@Code CoAuthorDTO}
+     */
+    public List<CoAuthorDTO> coAuthors(long authorId, int limit) {
+        return graph.coAuthors(authorId, limit).stream()
+                        .map(coAuthor-> new CoAuthorDTO(coAuthor.getAuthorId(), coAuthor.getSharedDocuments())).toList();
+    }
+
+    /**
+     * Returns authors with most distinct co-authors
+     *
+     * @param limit maximum number of authors to return
+     * @return {@Code List} of {@Code CollaboratorDTO}, most connected first
+     */
+    public List<CollaboratorDTO> mostConnected(int limit) {
+        return graph.mostConnected(limit).stream()
+                        .map(author-> new CollaboratorDTO(author.getAuthorId(), author.getCoAuthors(), author.getDocuments())).toList();
+    }
+
+    /**
+     * Returns groups of authors connected through co-authorship, largest first
+     *
+     * @param limit maximum number of groups to return
+     * @return {@Code List} of {@Code AuthorComponentDTO}
+     */
+    public List<AuthorComponentDTO> components(int limit) {
+        return graph.components(limit).stream()
+                        .map(component-> new AuthorComponentDTO(component.getAuthorId(), component.getSize())).toList();
+    }
+
+    /**
+     * Returns shortest chain of co-authorship between two authors
+     *
+     * @param fromAuthorId id of first author
+     * @param toAuthorId id of last author
+     * @return {@Code CollaborationPathDTO}, without hops if authors are not connected
+     */
+    public CollaborationPathDTO path(long fromAuthorId, long toAuthorId) {
+        List<Long> authorIds = graph.path(fromAuthorId, toAuthorId);
+        return new CollaborationPathDTO(authorIds, authorIds.isEmpty() ? null : authorIds.size() - 1);
+    }
+
+    /**
+     * Builds graph from authors of all the documents, ids of documents are read
+     * {@Code documentmanagement.coauthors.rebuild.batch.size} at a time and their authors with one query
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = load(rebuildBatchSize);
+        graph.compact();
+        log.info(String.format("Co-Authorship Index: Linked %s authors of %s documents with %s links",
+                        graph.authorCount(), loaded, graph.linkCount()));
+    }
+
+    /**
+     * Marks documents of changed author, they are re-read together with documents changed by the same transaction.
+     * Author that is deleted has no documents so nothing is re-read for it
+     *
+     * @param event {@Code AuthorChangedEvent} published by {@Code AuthorService}
+     */
+    @EventListener
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (event.getDocumentIds() != null && !event.getDocumentIds().isEmpty()) {
+            documentsChanged(event.getDocumentIds());
+        }
+    }
+
+    @Override
+    protected List<Long> loadPage(long after, int limit) {
+        List<Long> ids = documentRepository.findIdsByIdGreaterThan(after, Limit.of(limit));
+        if (!ids.isEmpty()) {
+            authorIdsOf(ids).forEach(graph::put);
+        }
+        return ids;
+    }
+
+    /**
+     * Re-reads authors of changed documents with one query
+     */
+    @Override
+    protected Collection<Long> reload(Collection<Long> ids) {
+        Map<Long, List<Long>> authorIds = authorIdsOf(ids);
+        authorIds.forEach(graph::put);
+        return authorIds.keySet();
+    }
+
+    @Override
+    protected void remove(long id) {
+        graph.remove(id);
+    }
+
+    /**
+     * Returns ids of authors of every existing document, document without authors is mapped to empty list
+     */
+    private Map<Long, List<Long>> authorIdsOf(Collection<Long> documentIds) {
+        Map<Long, List<Long>> authorIds = new HashMap<>();
+        for (Object[] row : documentRepository.findAuthorIdsByDocumentIdIn(documentIds)) {
+            List<Long> ids = authorIds.computeIfAbsent((Long) row[0], id-> new ArrayList<>());
+            if (row[1] != null) {
+                ids.add((Long) row[1]);
+            }
+        }
+        return authorIds;
+    }
+}
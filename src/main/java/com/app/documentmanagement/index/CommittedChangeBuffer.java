@@ -0,0 +1,83 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@Code CommittedChangeBuffer} collects changes published during a transaction and hands them over together once
+ * the transaction is committed, so an in memory index re-reads all the changed documents of a batch with one query
+ * instead of one query per document. Changes of a transaction that is rolled back are dropped and changes published
+ * outside of a transaction are handed over at once, same as {@Code TransactionalEventListener} with fallback execution.
+ * Changes are handed over while resources of the committed transaction are still bound to the thread, so consumer
+ * must read changed rows in a transaction of its own, which is what {@Code readTransaction} gives
+ *
+ * @author Zeeshan Hanif
+ * @param <T> type of change
+ */
+public class CommittedChangeBuffer<T> {
+
+    private final Consumer<List<T>> consumer;
+
+    public CommittedChangeBuffer(Consumer<List<T>> consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Returns template of read only transaction that is always new, used by indexes to re-read changed rows
+     * after commit and while they are being built
+     *
+     * @param transactionManager transaction manager of application
+     * @return {@Code TransactionTemplate} with {@Code REQUIRES_NEW} propagation
+     */
+    public static TransactionTemplate readTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    /**
+     * Adds change to changes of current transaction, or hands it over at once when there is no transaction
+     *
+     * @param change published change
+     */
+    @SuppressWarnings("unchecked")
+    public void add(T change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            consumer.accept(List.of(change));
+            return;
+        }
+        // synchronizations of suspended outer transactions are not listed, so changes stay with their own transaction
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges<?> pending && pending.buffer == this) {
+                ((PendingChanges<T>) pending).changes.add(change);
+                return;
+            }
+        }
+        PendingChanges<T> pending = new PendingChanges<>(this);
+        pending.changes.add(change);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private static class PendingChanges<T> implements TransactionSynchronization {
+
+        private final CommittedChangeBuffer<T> buffer;
+        private final List<T> changes = new ArrayList<>();
+
+        private PendingChanges(CommittedChangeBuffer<T> buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void afterCommit() {
+            buffer.consumer.accept(changes);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.documentmanagement.index;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * {@Code ContentHasher} computes SHA-256 hash of document content, which is stored in indexed column
+ * so exact copy of an existing document is found with one index lookup. Title, body and references are
+ * canonicalized with {@Code TextAnalyzer} before hashing, so case, accents, punctuation, white space and
+ * order of references do not change the hash
+ *
+ * @author Zeeshan Hanif
+ */
+public final class ContentHasher {
+
+    private ContentHasher() {}
+
+    /**
+     * Computes hash of document content
+     *
+     * @param title title of document
+     * @param body body of document
+     * @param references references of document, may be null
+     * @return lower case hex of SHA-256 hash, 64 characters
+     */
+    public static String hash(String title, String body, Collection<String> references) {
+        StringBuilder content = new StringBuilder();
+        content.append(TextAnalyzer.canonical(title)).append('\n').append(TextAnalyzer.canonical(body));
+        if (references != null) {
+            references.stream().map(TextAnalyzer::canonical).sorted()
+                        .forEach(reference-> content.append('\n').append(reference));
+        }
+        return hashOf(content.toString());
+    }
+
+    /**
+     * Computes hash of text as it is, without normalization
+     *
+     * @param text text to hash
+     * @return lower case hex of SHA-256 hash, 64 characters
+     */
+    public static String hashOf(String text) {
+        return HexFormat.of().formatHex(sha256().digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.app.documentmanagement.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@Code CountingBloomFilter} is a Bloom filter of {@Code long} ids that also supports removal. Every slot
+ * is a 4 bit counter, sixteen of them packed in one {@Code long} and updated with compare and set, so the
+ * filter is thread safe without locks. A counter that reaches 15 stays there, it may then report present
+ * ids that were removed, but it never reports absent an id that was added and not removed
+ * 
+ * @author Zeeshan Hanif
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+
+    /**
+     * Constructs filter sized for expected number of ids and false positive probability
+     * 
+     * @param expectedIds number of ids filter is expected to hold
+     * @param falsePositiveProbability probability that absent id is reported present, for example 0.01
+     */
+    public CountingBloomFilter(long expectedIds, double falsePositiveProbability) {
+        long expected = Math.max(1, expectedIds);
+        long counters = (long) Math.ceil(-expected * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.counterCount = Math.max(COUNTERS_PER_WORD, counters);
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / expected * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+    }
+
+    public void add(long id) {
+        long hash = mix(id);
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            increment(Math.floorMod(hash + i * step, counterCount));
+        }
+    }
+
+    public void remove(long id) {
+        long hash = mix(id);
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            decrement(Math.floorMod(hash + i * step, counterCount));
+        }
+    }
+
+    /**
+     * Checks if id was surely never added, or was removed
+     * 
+     * @param id id to check
+     * @return {@Code true} if id is definitely absent, {@Code false} if it may be present
+     */
+    public boolean isDefinitelyAbsent(long id) {
+        long hash = mix(id);
+        long step = mix(hash) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (counter(Math.floorMod(hash + i * step, counterCount)) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resets every counter to zero
+     */
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0);
+        }
+    }
+
+    private long counter(long index) {
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        return (words.get((int) (index / COUNTERS_PER_WORD)) >>> shift) & COUNTER_MASK;
+    }
+
+    private void increment(long index) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        long current;
+        do {
+            current = words.get(word);
+            if (((current >>> shift) & COUNTER_MASK) == COUNTER_MASK) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current + (1L << shift)));
+    }
+
+    private void decrement(long index) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = (int) (index % COUNTERS_PER_WORD) * 4;
+        long current;
+        do {
+            current = words.get(word);
+            long counter = (current >>> shift) & COUNTER_MASK;
+            // empty counter has nothing to remove and saturated counter no longer knows its count
+            if (counter == 0 || counter == COUNTER_MASK) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current - (1L << shift)));
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreads consecutive ids over the whole range
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,215 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.util.HtmlUtils;
+
+import com.app.documentmanagement.dto.SearchHitDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.DocumentRepository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code DocumentSearchIndex} keeps full text index of title, body and references of every document in memory,
+ * so search neither scans documents table nor opens a database connection. Index is built at startup and 
+ * kept in sync with committed changes by {@Code IncrementalDocumentIndex}.
+ * Title, body and references are also kept to build snippets, body is limited to 1000 characters
+ * 
+ * @author Zeeshan Hanif
+ * @see Bm25Index
+ * @see TextAnalyzer
+ */
+@Slf4j
+@Component
+public class DocumentSearchIndex extends IncrementalDocumentIndex {
+
+    private static final String HIGHLIGHT_START = "<em>";
+    private static final String HIGHLIGHT_END = "</em>";
+    private static final String ELLIPSIS = "...";
+
+    private final DocumentRepository documentRepository;
+
+    private final Bm25Index index;
+    private final Map<Long, IndexedDocument> documents = new ConcurrentHashMap<>();
+
+    @Value("${documentmanagement.search.title.weight}")
+    private float titleWeight = 3;
+
+    @Value("${documentmanagement.search.body.weight}")
+    private float bodyWeight = 1;
+
+    @Value("${documentmanagement.search.references.weight}")
+    private float referencesWeight = 1;
+
+    @Value("${documentmanagement.search.snippet.length}")
+    private int snippetLength = 160;
+
+    @Value("${documentmanagement.search.rebuild.batch.size}")
+    private int rebuildBatchSize = 500;
+
+    public DocumentSearchIndex(DocumentRepository documentRepository, PlatformTransactionManager transactionManager,
+                        @Value("${documentmanagement.search.bm25.k1}") double k1,
+                        @Value("${documentmanagement.search.bm25.b}") double b) {
+        super(transactionManager);
+        this.documentRepository = documentRepository;
+        this.index = new Bm25Index(k1, b);
+    }
+
+    /**
+     * Returns documents that contain any term of query, ranked with BM25
+     * 
+     * @param query text to search
+     * @param offset number of best hits to skip
+     * @param limit maximum number of hits to return
+     * @return {@Code SearchPageDTO} with page of hits and total number of matches
+     */
+    public SearchPageDTO search(String query, int offset, int limit) {
+        Set<String> terms = new HashSet<>(TextAnalyzer.terms(query));
+        Bm25Index.Hits hits = index.search(terms, offset, limit);
+        List<SearchHitDTO> items = new ArrayList<>(hits.getHits().size());
+        for (Bm25Index.Hit hit : hits.getHits()) {
+            IndexedDocument document = documents.get(hit.getId());
+            if (document != null) {
+                items.add(new SearchHitDTO(hit.getId(), hit.getScore(), highlight(document.getTitle(), terms), snippet(document, terms)));
+            }
+        }
+        return new SearchPageDTO(items, hits.getTotal(), offset, limit);
+    }
+
+    /**
+     * Builds index from all the documents, documents are read {@Code documentmanagement.search.rebuild.batch.size} 
+     * at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = load(rebuildBatchSize);
+        log.info(String.format("Document Search Index: Indexed %s documents", loaded));
+    }
+
+    @Override
+    protected List<Long> loadPage(long after, int limit) {
+        List<Document> page = documentRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        page.forEach(this::put);
+        return page.stream().map(Document::getId).toList();
+    }
+
+    /**
+     * Re-reads title, body and references of changed documents with one query
+     */
+    @Override
+    protected Collection<Long> reload(Collection<Long> ids) {
+        List<Document> changed = documentRepository.findWithReferencesByIdIn(ids);
+        changed.forEach(this::put);
+        return changed.stream().map(Document::getId).toList();
+    }
+
+    private void put(Document document) {
+        List<String> references = document.getReferences() == null ? List.of()
+                        : document.getReferences().stream().map(Reference::getReference).toList();
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = addTerms(frequencies, document.getTitle(), titleWeight)
+                        + addTerms(frequencies, document.getBody(), bodyWeight);
+        for (String reference : references) {
+            length += addTerms(frequencies, reference, referencesWeight);
+        }
+        documents.put(document.getId(), new IndexedDocument(document.getTitle(), document.getBody(), references));
+        index.put(document.getId(), frequencies, length);
+    }
+
+    @Override
+    protected void remove(long id) {
+        index.remove(id);
+        documents.remove(id);
+    }
+
+    private static float addTerms(Map<String, Float> frequencies, String text, float weight) {
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.tokenize(text);
+        tokens.forEach(token-> frequencies.merge(token.getTerm(), weight, Float::sum));
+        return tokens.size() * weight;
+    }
+
+    /**
+     * Returns window of body with most matched terms, or first matching reference when body has no match
+     */
+    private String snippet(IndexedDocument document, Set<String> terms) {
+        String body = document.getBody() == null ? "" : document.getBody();
+        List<TextAnalyzer.Token> matches = TextAnalyzer.tokenize(body).stream().filter(token-> terms.contains(token.getTerm())).toList();
+        if (matches.isEmpty()) {
+            for (String reference : document.getReferences()) {
+                if (TextAnalyzer.tokenize(reference).stream().anyMatch(token-> terms.contains(token.getTerm()))) {
+                    return highlight(reference, terms);
+                }
+            }
+        }
+        int start = 0;
+        int bestCount = 0;
+        for (int first = 0, last = 0; first < matches.size(); first++) {
+            while (last < matches.size() && matches.get(last).getEnd() - matches.get(first).getStart() <= snippetLength) {
+                last++;
+            }
+            if (last - first > bestCount) {
+                bestCount = last - first;
+                start = matches.get(first).getStart();
+            }
+        }
+        // a little context before first match
+        start = Math.max(0, Math.min(start - snippetLength / 8, body.length() - snippetLength));
+        while (start > 0 && Character.isLetterOrDigit(body.charAt(start - 1))) {
+            start--;
+        }
+        int end = Math.min(body.length(), start + snippetLength);
+        while (end < body.length() && Character.isLetterOrDigit(body.charAt(end))) {
+            end++;
+        }
+        return (start > 0 ? ELLIPSIS : "") + highlight(body.substring(start, end), terms) + (end < body.length() ? ELLIPSIS : "");
+    }
+
+    /**
+     * Wraps matched terms of text in highlight tags. Text is written by users, so every part of it is
+     * HTML escaped and highlight tags are the only markup in result
+     */
+    private static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder highlighted = new StringBuilder(text.length() + 16);
+        int copied = 0;
+        for (TextAnalyzer.Token token : TextAnalyzer.tokenize(text)) {
+            if (terms.contains(token.getTerm())) {
+                highlighted.append(HtmlUtils.htmlEscape(text.substring(copied, token.getStart()))).append(HIGHLIGHT_START)
+                                .append(HtmlUtils.htmlEscape(text.substring(token.getStart(), token.getEnd()))).append(HIGHLIGHT_END);
+                copied = token.getEnd();
+            }
+        }
+        return highlighted.append(HtmlUtils.htmlEscape(text.substring(copied))).toString();
+    }
+
+    /**
+     * Text of indexed document kept to build snippets
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedDocument {
+        private final String title;
+        private final String body;
+        private final List<String> references;
+    }
+}
@@ -0,0 +1,151 @@
+package com.app.documentmanagement.index;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.repositories.DocumentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code DuplicateDetector} keeps MinHash signature of title and body of every document in an in memory LSH index,
+ * so near duplicates of a document are found by looking up a few buckets instead of comparing with every
+ * document. Documents with estimated Jaccard similarity of at least {@Code documentmanagement.duplicates.threshold}
+ * are reported. Index is built at startup and kept in sync with committed changes by {@Code IncrementalDocumentIndex}
+ * 
+ * @author Zeeshan Hanif
+ * @see MinHasher
+ * @see MinHashLshIndex
+ */
+@Slf4j
+@Component
+public class DuplicateDetector extends IncrementalDocumentIndex {
+
+    /**
+     * What {@Code DocumentService} does when saved document has near duplicates
+     */
+    public enum Mode {
+        /**
+         * Duplicates are not checked
+         */
+        OFF,
+        /**
+         * Document is saved and duplicates are returned with it
+         */
+        FLAG,
+        /**
+         * Document is not saved
+         */
+        REJECT
+    }
+
+    private final DocumentRepository documentRepository;
+    private final MinHasher minHasher;
+    private final MinHashLshIndex index;
+
+    @Value("${documentmanagement.duplicates.threshold}")
+    private double threshold = 0.8;
+
+    @Value("${documentmanagement.duplicates.rebuild.batch.size}")
+    private int rebuildBatchSize = 1000;
+
+    public DuplicateDetector(DocumentRepository documentRepository, PlatformTransactionManager transactionManager,
+                        @Value("${documentmanagement.duplicates.minhash.hashes}") int hashCount,
+                        @Value("${documentmanagement.duplicates.lsh.bands}") int bands,
+                        @Value("${documentmanagement.duplicates.shingle.size}") int shingleSize) {
+        super(transactionManager);
+        this.documentRepository = documentRepository;
+        this.minHasher = new MinHasher(hashCount, shingleSize);
+        this.index = new MinHashLshIndex(hashCount, bands);
+    }
+
+    /**
+     * Returns existing documents that are near duplicates of provided title and body, most similar first
+     * 
+     * @param title title of document
+     * @param body body of document
+     * @return {@Code List} of {@Code DuplicateDTO}
+     */
+    public List<DuplicateDTO> findDuplicates(String title, String body) {
+        int[] signature = minHasher.signature(textOf(title, body));
+        return signature == null ? List.of() : findDuplicates(signature, 0);
+    }
+
+    /**
+     * Returns other documents that are near duplicates of a document, most similar first. Document that is
+     * not indexed yet is read from database and signed
+     * 
+     * @param id id of document
+     * @return {@Code List} of {@Code DuplicateDTO}, empty if document does not exist
+     */
+    public List<DuplicateDTO> findDuplicates(long id) {
+        int[] signature = index.signature(id);
+        if (signature == null) {
+            signature = documentRepository.findTextById(id)
+                            .map(document-> minHasher.signature(textOf(document.getTitle(), document.getBody()))).orElse(null);
+        }
+        return signature == null ? List.of() : findDuplicates(signature, id);
+    }
+
+    /**
+     * Signs all the documents, documents are read {@Code documentmanagement.duplicates.rebuild.batch.size} at a time
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int loaded = load(rebuildBatchSize);
+        log.info(String.format("Duplicate Detector: Signed %s documents", loaded));
+    }
+
+    @Override
+    protected List<Long> loadPage(long after, int limit) {
+        List<DocumentDTO> page = documentRepository.findTextsByIdGreaterThan(after, Limit.of(limit));
+        page.forEach(this::put);
+        return page.stream().map(DocumentDTO::getId).toList();
+    }
+
+    /**
+     * Re-reads title and body of changed documents with one query
+     */
+    @Override
+    protected Collection<Long> reload(Collection<Long> ids) {
+        List<DocumentDTO> changed = documentRepository.findTextsByIdIn(ids);
+        changed.forEach(this::put);
+        return changed.stream().map(DocumentDTO::getId).toList();
+    }
+
+    @Override
+    protected void remove(long id) {
+        index.remove(id);
+    }
+
+    private List<DuplicateDTO> findDuplicates(int[] signature, long excludedId) {
+        return index.similar(signature, threshold, excludedId).stream()
+                        .map(match-> new DuplicateDTO(match.getId(), match.getSimilarity())).toList();
+    }
+
+    /**
+     * Signs document and puts it in index, document without terms is kept out of index so it is
+     * not reported as duplicate of every other such document
+     */
+    private void put(DocumentDTO document) {
+        int[] signature = minHasher.signature(textOf(document.getTitle(), document.getBody()));
+        if (signature == null) {
+            index.remove(document.getId());
+        } else {
+            index.put(document.getId(), signature);
+        }
+    }
+
+    private static String textOf(String title, String body) {
+        return (title == null ? "" : title) + " " + (body == null ? "" : body);
+    }
+}
@@ -0,0 +1,136 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.events.DocumentChangedEvent;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code ExistingIdFilters} keeps in memory Bloom filters of document and author ids, so lookups of ids
+ * that never existed are answered without database query. Filters are rebuilt from database at startup,
+ * ids are added when entity is persisted (see {@Code ExistingIdListener}) and removed after delete is committed.
+ * Filter may report deleted or rolled back id as present, then lookup simply goes to database. It never
+ * reports existing id as absent, and until startup rebuild completes every id is reported as present
+ * 
+ * @author Zeeshan Hanif
+ * @see CountingBloomFilter
+ */
+@Slf4j
+@Component
+public class ExistingIdFilters {
+
+    private final DocumentRepository documentRepository;
+    private final AuthorRepository authorRepository;
+
+    private final CountingBloomFilter documentIds;
+    private final CountingBloomFilter authorIds;
+
+    @Value("${documentmanagement.bloom.rebuild.batch.size}")
+    private int rebuildBatchSize = 10000;
+
+    private volatile boolean ready;
+
+    public ExistingIdFilters(DocumentRepository documentRepository, AuthorRepository authorRepository,
+                        @Value("${documentmanagement.bloom.expected.documents}") long expectedDocuments,
+                        @Value("${documentmanagement.bloom.expected.authors}") long expectedAuthors,
+                        @Value("${documentmanagement.bloom.false.positive.probability}") double falsePositiveProbability) {
+        this.documentRepository = documentRepository;
+        this.authorRepository = authorRepository;
+        this.documentIds = new CountingBloomFilter(expectedDocuments, falsePositiveProbability);
+        this.authorIds = new CountingBloomFilter(expectedAuthors, falsePositiveProbability);
+    }
+
+    /**
+     * Checks if document with provided id surely does not exist
+     * 
+     * @param id id of document
+     * @return {@Code true} if document does not exist, {@Code false} if it may exist
+     */
+    public boolean isDocumentDefinitelyAbsent(long id) {
+        return ready && documentIds.isDefinitelyAbsent(id);
+    }
+
+    /**
+     * Checks if author with provided id surely does not exist
+     * 
+     * @param id id of author
+     * @return {@Code true} if author does not exist, {@Code false} if it may exist
+     */
+    public boolean isAuthorDefinitelyAbsent(long id) {
+        return ready && authorIds.isDefinitelyAbsent(id);
+    }
+
+    public void addDocument(long id) {
+        documentIds.add(id);
+    }
+
+    public void addAuthor(long id) {
+        authorIds.add(id);
+    }
+
+    /**
+     * Loads all document and author ids from database, ids are read in pages of 
+     * {@Code documentmanagement.bloom.rebuild.batch.size}
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // ids persisted meanwhile are added by listener, adding an id twice only keeps it present longer
+        long documents = load(documentIds, documentRepository::findIdsByIdGreaterThan);
+        long authors = load(authorIds, authorRepository::findIdsByIdGreaterThan);
+        ready = true;
+        log.info(String.format("Existing Id Filters: Loaded %s document ids and %s author ids", documents, authors));
+    }
+
+    /**
+     * Removes id of deleted document after delete is committed
+     * 
+     * @param event {@Code DocumentChangedEvent} published by {@Code DocumentService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        // removal before rebuild could take away an id that rebuild has not counted yet
+        if (ready && event.getChangeType() == ChangeType.DELETED) {
+            documentIds.remove(event.getDocumentId());
+        }
+    }
+
+    /**
+     * Removes id of deleted author after delete is committed
+     * 
+     * @param event {@Code AuthorChangedEvent} published by {@Code AuthorService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuthorChanged(AuthorChangedEvent event) {
+        if (ready && event.getChangeType() == ChangeType.DELETED) {
+            authorIds.remove(event.getAuthorId());
+        }
+    }
+
+    private long load(CountingBloomFilter filter, BiFunction<Long, Limit, List<Long>> idsAfter) {
+        long loaded = 0;
+        long after = 0;
+        List<Long> ids;
+        do {
+            ids = idsAfter.apply(after, Limit.of(rebuildBatchSize));
+            ids.forEach(filter::add);
+            loaded += ids.size();
+            if (!ids.isEmpty()) {
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == rebuildBatchSize);
+        return loaded;
+    }
+}
@@ -0,0 +1,41 @@
+package com.app.documentmanagement.index;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * JPA entity listener that adds id of every persisted {@Code Document} and {@Code Author} to
+ * {@Code ExistingIdFilters}, whichever code path saved it. Id is added before commit, so there is no moment
+ * when row is visible and filter reports it absent.
+ * Listener is created by Hibernate while entity manager factory is starting, so filters are looked up
+ * on first use instead of being injected
+ * 
+ * @author Zeeshan Hanif
+ * @see ExistingIdFilters
+ */
+public class ExistingIdListener {
+
+    private final ObjectProvider<ExistingIdFilters> existingIdFilters;
+
+    public ExistingIdListener(ObjectProvider<ExistingIdFilters> existingIdFilters) {
+        this.existingIdFilters = existingIdFilters;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        ExistingIdFilters filters = existingIdFilters.getIfAvailable();
+        if (filters == null) {
+            // rebuild at startup loads every id persisted before filters were created
+            return;
+        }
+        if (entity instanceof Document document) {
+            filters.addDocument(document.getId());
+        } else if (entity instanceof Author author) {
+            filters.addAuthor(author.getId());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.events.DocumentChangedEvent;
+
+/**
+ * {@Code IncrementalDocumentIndex} is the lifecycle shared by in memory indexes of documents. Index is loaded
+ * page by page at startup and documents changed by every committed transaction are re-read with one query,
+ * deleted documents are removed without query. Changes that arrive while index is being loaded are kept and
+ * re-read after load, so load never overwrites newer data. Re-reads are serialized, so whichever is applied
+ * last has read latest committed state. Subclass only reads documents and puts them in or removes them from
+ * its own structure, every read runs in {@Code CommittedChangeBuffer#readTransaction}
+ *
+ * @author Zeeshan Hanif
+ * @see CommittedChangeBuffer
+ */
+public abstract class IncrementalDocumentIndex {
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private final Set<Long> pendingIds = new HashSet<>();
+    private boolean ready;
+
+    private final CommittedChangeBuffer<DocumentChangedEvent> committedChanges = new CommittedChangeBuffer<>(this::applyCommitted);
+
+    protected IncrementalDocumentIndex(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = CommittedChangeBuffer.readTransaction(transactionManager);
+    }
+
+    /**
+     * Reads documents with id greater than provided id and puts them in index
+     *
+     * @param after id after which documents are read
+     * @param limit maximum number of documents to read
+     * @return ids of read documents in ascending order
+     */
+    protected abstract List<Long> loadPage(long after, int limit);
+
+    /**
+     * Reads provided documents and puts them in index
+     *
+     * @param ids ids of changed documents
+     * @return ids of documents that still exist, the rest are removed
+     */
+    protected abstract Collection<Long> reload(Collection<Long> ids);
+
+    /**
+     * Removes document from index
+     *
+     * @param id id of document
+     */
+    protected abstract void remove(long id);
+
+    /**
+     * Loads all the documents {@Code batchSize} at a time, then re-reads documents changed during load and
+     * starts following committed changes
+     *
+     * @param batchSize number of documents read in one page
+     * @return number of loaded documents
+     */
+    protected int load(int batchSize) {
+        long after = 0;
+        int loaded = 0;
+        List<Long> ids;
+        do {
+            long from = after;
+            ids = transactionTemplate.execute(status-> loadPage(from, batchSize));
+            loaded += ids.size();
+            if (!ids.isEmpty()) {
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+
+        while (true) {
+            List<Long> changedIds;
+            synchronized (pendingIds) {
+                if (pendingIds.isEmpty()) {
+                    ready = true;
+                    break;
+                }
+                changedIds = new ArrayList<>(pendingIds);
+                pendingIds.clear();
+            }
+            reindex(changedIds);
+        }
+        return loaded;
+    }
+
+    /**
+     * Collects changed document, documents changed by one transaction are re-read together after commit
+     *
+     * @param event {@Code DocumentChangedEvent} published by {@Code DocumentService}
+     */
+    @EventListener
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        committedChanges.add(event);
+    }
+
+    /**
+     * Marks documents changed by something other than document itself, they are re-read together with
+     * documents changed by the same transaction
+     *
+     * @param ids ids of documents that need to be re-read
+     */
+    protected void documentsChanged(Collection<Long> ids) {
+        ids.forEach(id-> committedChanges.add(new DocumentChangedEvent(ChangeType.UPDATED, id, Set.of())));
+    }
+
+    private void applyCommitted(List<DocumentChangedEvent> events) {
+        synchronized (pendingIds) {
+            if (!ready) {
+                events.forEach(event-> pendingIds.add(event.getDocumentId()));
+                return;
+            }
+        }
+        Set<Long> deletedIds = events.stream().filter(event-> event.getChangeType() == ChangeType.DELETED)
+                        .map(DocumentChangedEvent::getDocumentId).collect(Collectors.toSet());
+        if (!deletedIds.isEmpty()) {
+            maintenanceLock.lock();
+            try {
+                deletedIds.forEach(this::remove);
+            } finally {
+                maintenanceLock.unlock();
+            }
+        }
+        List<Long> changedIds = events.stream().map(DocumentChangedEvent::getDocumentId)
+                        .filter(id-> !deletedIds.contains(id)).distinct().toList();
+        if (!changedIds.isEmpty()) {
+            reindex(changedIds);
+        }
+    }
+
+    private void reindex(Collection<Long> ids) {
+        maintenanceLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status-> {
+                Set<Long> missingIds = new HashSet<>(ids);
+                missingIds.removeAll(reload(ids));
+                missingIds.forEach(this::remove);
+            });
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+}
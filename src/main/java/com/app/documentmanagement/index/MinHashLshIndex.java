@@ -0,0 +1,169 @@
+package com.app.documentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@Code MinHashLshIndex} finds entries with similar MinHash signature using locality sensitive hashing.
+ * Signature is cut into {@Code bands} bands and entries that are equal in at least one band are candidates.
+ * With r rows per band, pair with similarity s becomes candidate with probability 1 - (1 - s^r)^bands,
+ * which rises steeply around (1 / bands)^(1 / r)
+ * 
+ * @author Zeeshan Hanif
+ * @see MinHasher
+ */
+public class MinHashLshIndex {
+
+    private final int bands;
+    private final int rows;
+
+    /**
+     * band key to ids of entries in that bucket
+     */
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+    /**
+     * id to signature of entry
+     */
+    private final Map<Long, int[]> signatures = new HashMap<>();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs index
+     * 
+     * @param signatureLength length of signatures that will be indexed
+     * @param bands number of bands, must divide signature length
+     */
+    public MinHashLshIndex(int signatureLength, int bands) {
+        if (bands <= 0 || signatureLength % bands != 0) {
+            throw new IllegalArgumentException("Signature length "+signatureLength+" is not divisible by "+bands+" bands");
+        }
+        this.bands = bands;
+        this.rows = signatureLength / bands;
+    }
+
+    /**
+     * Adds entry or replaces existing entry with same id
+     * 
+     * @param id id of entry
+     * @param signature MinHash signature of entry
+     */
+    public void put(long id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+            for (long key : bandKeys(signature)) {
+                buckets.computeIfAbsent(key, bucket-> new ArrayList<>(1)).add(id);
+            }
+            signatures.put(id, signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns signature of indexed entry
+     * 
+     * @param id id of entry
+     * @return signature, or {@Code null} if entry is not indexed
+     */
+    public int[] signature(long id) {
+        lock.readLock().lock();
+        try {
+            return signatures.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns entries sharing a band with signature whose estimated similarity is at least threshold,
+     * most similar first
+     * 
+     * @param signature signature to compare
+     * @param threshold minimum estimated Jaccard similarity
+     * @param excludedId id that is never returned, usually id of entry itself
+     * @return {@Code List} of {@Code Match}
+     */
+    public List<Match> similar(int[] signature, double threshold, long excludedId) {
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>();
+            for (long key : bandKeys(signature)) {
+                List<Long> bucket = buckets.get(key);
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            candidates.remove(excludedId);
+            for (Long candidate : candidates) {
+                double similarity = MinHasher.similarity(signature, signatures.get(candidate));
+                if (similarity >= threshold) {
+                    matches.add(new Match(candidate, similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed());
+        return matches;
+    }
+
+    private void removeEntry(long id) {
+        int[] signature = signatures.remove(id);
+        if (signature == null) {
+            return;
+        }
+        for (long key : bandKeys(signature)) {
+            List<Long> bucket = buckets.get(key);
+            bucket.remove(Long.valueOf(id));
+            if (bucket.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private long[] bandKeys(int[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long hash = band;
+            for (int row = band * rows; row < (band + 1) * rows; row++) {
+                hash = MinHasher.mix(hash * 31 + signature[row]);
+            }
+            keys[band] = hash;
+        }
+        return keys;
+    }
+
+    /**
+     * Id of similar entry and its estimated similarity
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Match {
+        private final long id;
+        private final double similarity;
+    }
+}
@@ -0,0 +1,103 @@
+package com.app.documentmanagement.index;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@Code MinHasher} computes MinHash signature of a text. Text is split into terms with {@Code TextAnalyzer}
+ * and every run of {@Code shingleSize} consecutive terms is a shingle. Fraction of equal positions in two
+ * signatures estimates Jaccard similarity of their shingle sets
+ * 
+ * @author Zeeshan Hanif
+ * @see MinHashLshIndex
+ */
+public class MinHasher {
+
+    private final int shingleSize;
+    private final long[] seeds;
+
+    /**
+     * Constructs hasher
+     * 
+     * @param hashCount length of signature, error of similarity estimate is about 1 / sqrt(hashCount)
+     * @param shingleSize number of consecutive terms in a shingle
+     */
+    public MinHasher(int hashCount, int shingleSize) {
+        this.shingleSize = shingleSize;
+        this.seeds = new long[hashCount];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < hashCount; i++) {
+            seed = mix(seed);
+            seeds[i] = seed;
+        }
+    }
+
+    /**
+     * Returns signature of text
+     * 
+     * @param text text to sign
+     * @return signature with one minimum per hash function, null for text without terms because its
+     * signature would be equal to signature of every other such text
+     */
+    public int[] signature(String text) {
+        Set<Long> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = (int) (mix(shingle ^ seeds[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimates Jaccard similarity of texts from their signatures
+     * 
+     * @param first signature of first text
+     * @param second signature of second text
+     * @return estimated similarity between 0 and 1
+     */
+    public static double similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    private Set<Long> shingles(String text) {
+        List<String> terms = TextAnalyzer.tokenize(text).stream().map(TextAnalyzer.Token::getTerm).toList();
+        Set<Long> shingles = new HashSet<>();
+        // text shorter than a shingle is a single shingle
+        int last = Math.max(0, terms.size() - shingleSize);
+        for (int start = 0; start <= last && start < terms.size(); start++) {
+            long hash = 0;
+            for (int i = start; i < Math.min(start + shingleSize, terms.size()); i++) {
+                hash = hash * 31 + terms.get(i).hashCode();
+            }
+            shingles.add(mix(hash));
+        }
+        return shingles;
+    }
+
+    /**
+     * Finalizer of SplitMix64
+     */
+    static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,118 @@
+package com.app.documentmanagement.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@Code TextAnalyzer} splits text into terms for in memory indexes. A token is a run of letters and digits,
+ * its term is lower cased and accents are removed, so "Résumé" and "resume" are the same term.
+ * Tokens keep their position in original text, which is used to highlight matches
+ * 
+ * @author Zeeshan Hanif
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextAnalyzer() {}
+
+    /**
+     * Splits text into tokens
+     * 
+     * @param text text to split, may be null
+     * @return {@Code List} of {@Code Token} in order of appearance
+     */
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        int index = 0;
+        while (index < text.length()) {
+            int codePoint = text.codePointAt(index);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = index;
+                }
+            } else if (start >= 0) {
+                tokens.add(new Token(normalize(text.substring(start, index)), start, index));
+                start = -1;
+            }
+            index += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            tokens.add(new Token(normalize(text.substring(start)), start, text.length()));
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns distinct terms of text in order of first appearance
+     * 
+     * @param text text to split, may be null
+     * @return {@Code List} of distinct terms
+     */
+    public static List<String> terms(String text) {
+        return tokenize(text).stream().map(Token::getTerm).distinct().toList();
+    }
+
+    /**
+     * Returns terms of text joined with single space, so texts that differ only in case, accents, punctuation
+     * or white space have the same canonical form. Terms contain only letters and digits, so other characters
+     * can be used to separate canonical texts
+     * 
+     * @param text text to canonicalize, may be null
+     * @return canonical text, empty if text has no term
+     */
+    public static String canonical(String text) {
+        return tokenize(text).stream().map(Token::getTerm).collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Lower cases text and removes accents
+     * 
+     * @param text text to normalize
+     * @return normalized text
+     */
+    public static String normalize(String text) {
+        boolean ascii = text.chars().allMatch(c-> c < 128);
+        if (ascii) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Term found in text with its position in original text
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class Token {
+
+        /**
+         * Normalized term
+         */
+        private final String term;
+
+        /**
+         * Index of first character of token in original text
+         */
+        private final int start;
+
+        /**
+         * Index after last character of token in original text
+         */
+        private final int end;
+    }
+}
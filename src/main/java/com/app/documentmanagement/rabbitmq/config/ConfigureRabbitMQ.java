@@ -1,18 +1,30 @@
 package com.app.documentmanagement.rabbitmq.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
 
 
 @Configuration
@@ -33,14 +45,48 @@ public class ConfigureRabbitMQ {
     @Value("${spring.rabbitmq.document.routing.key}")
     private String documentRoutingKey;
 
+    @Value("${documentmanagement.rabbitmq.delete.batch.size}")
+    private int deleteBatchSize;
+
+    @Value("${documentmanagement.rabbitmq.delete.batch.receive.timeout}")
+    private long deleteBatchReceiveTimeout;
+
+    @Value("${documentmanagement.rabbitmq.dead.letter.exchange.name}")
+    private String deadLetterExchange;
+
+    @Value("${documentmanagement.rabbitmq.dead.letter.queue.name}")
+    private String deadLetterQueue;
+
+    @Value("${documentmanagement.rabbitmq.retry.exchange.prefix}")
+    private String retryExchangePrefix;
+
+    @Value("${documentmanagement.rabbitmq.retry.delays}")
+    private List<Long> retryDelays;
+
+    /**
+     * Returns name of retry exchange and queue for a delay tier
+     * 
+     * @param prefix {@Code documentmanagement.rabbitmq.retry.exchange.prefix}
+     * @param delay delay of tier in milliseconds
+     * @return name of exchange and queue of tier
+     */
+    public static String retryTierName(String prefix, long delay) {
+        return prefix + "_" + delay;
+    }
+
+    /**
+     * Messages rejected by listener are dead-lettered instead of being requeued, so poison
+     * message does not block the queue. Delete queues are durable and messages are sent persistent,
+     * so pending deletes survive restart of broker
+     */
     @Bean
     Queue createAuthorQueue() {
-        return new Queue(authorQueue, false);
+        return QueueBuilder.durable(authorQueue).deadLetterExchange(deadLetterExchange).build();
     }
 
     @Bean
     Queue createDocumentQueue() {
-        return new Queue(documentQueue, false);
+        return QueueBuilder.durable(documentQueue).deadLetterExchange(deadLetterExchange).build();
     }
 
     @Bean
@@ -58,21 +104,79 @@ public class ConfigureRabbitMQ {
         return BindingBuilder.bind(createDocumentQueue()).to(exchange()).with(documentRoutingKey);
     }
 
+    @Bean
+    FanoutExchange deadLetterExchange() {
+        return new FanoutExchange(deadLetterExchange);
+    }
+
+    @Bean
+    Queue createDeadLetterQueue() {
+        return QueueBuilder.durable(deadLetterQueue).build();
+    }
+
+    @Bean
+    Binding deadLetterBinding() {
+        return BindingBuilder.bind(createDeadLetterQueue()).to(deadLetterExchange());
+    }
+
+    /**
+     * Declares one retry tier for every delay in {@Code documentmanagement.rabbitmq.retry.delays}. Message sent
+     * to tier's exchange waits in tier's queue until its TTL expires and is then dead-lettered back to 
+     * main exchange with its original routing key, so it reaches the same delete queue again
+     * 
+     * @return exchanges, queues and bindings of retry tiers
+     */
+    @Bean
+    Declarables retryTiers() {
+        List<Declarable> declarables = new ArrayList<>();
+        for (long delay : retryDelays) {
+            String name = retryTierName(retryExchangePrefix, delay);
+            FanoutExchange retryExchange = new FanoutExchange(name);
+            Queue retryQueue = QueueBuilder.durable(name).ttl((int) delay).deadLetterExchange(exchange).build();
+            declarables.add(retryExchange);
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange));
+        }
+        return new Declarables(declarables);
+    }
+
     /**
-     * Setup connection for Producer and Consumer both
+     * Listener container factory for delete queues. Every consumer collects up to 
+     * {@Code documentmanagement.rabbitmq.delete.batch.size} messages, or what arrived within
+     * {@Code documentmanagement.rabbitmq.delete.batch.receive.timeout} milliseconds, and passes them to listener 
+     * as one {@Code List}. Whole batch is acknowledged once after listener returns.
+     * Concurrent consumers and prefetch are taken from {@Code spring.rabbitmq.listener.simple.*} properties
+     * and, in virtual thread mode, the configurer also gives consumers a virtual thread task executor.
+     * 
+     * Messages are read as {@Code DeleteEvent} by {@Code DeleteEventMessageConverter}. Batch that fails as a whole,
+     * or cannot be read, is rejected without requeue and lands in dead letter queue
      * 
+     * @param configurer spring boot configurer that applies {@Code spring.rabbitmq.listener.simple.*} properties
      * @param connectionFactory
-     * @return {@Code SimpleMessageListenerContainer}
+     * @return {@Code SimpleRabbitListenerContainerFactory} for batch listeners
      */
     @Bean
-    SimpleMessageListenerContainer container(ConnectionFactory connectionFactory) {
-        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
-        container.setConnectionFactory(connectionFactory);
+    SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                        ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setMessageConverter(deleteEventMessageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(deleteBatchSize);
+        factory.setBatchReceiveTimeout(deleteBatchReceiveTimeout);
+        factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setDefaultRequeueRejected(false);
+        return factory;
+    }
 
-        return container;
+    @Bean
+    public DeleteEventMessageConverter deleteEventMessageConverter() {
+        return new DeleteEventMessageConverter();
     }
 
     @Bean
+    @Primary
     public MessageConverter converter(){
         return new Jackson2JsonMessageConverter();
     }
@@ -0,0 +1,66 @@
+package com.app.documentmanagement.rabbitmq.message;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * This {@Code DeleteEvent} is compact message sent to delete queues. It only carries ids of 
+ * entities that need to be deleted with an event id and creation time, consumers load whatever
+ * else they need from database. It is written on the wire by {@Code DeleteEventMessageConverter}
+ * 
+ * @author Zeeshan Hanif
+ * @see DeleteEventMessageConverter
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DeleteEvent {
+
+    /**
+     * Type of entity whose ids are carried by event, code is written on the wire
+     */
+    public enum EntityType {
+        DOCUMENT((byte) 'D'), 
+        AUTHOR((byte) 'A');
+
+        private final byte code;
+
+        EntityType(byte code) {
+            this.code = code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public static EntityType fromCode(byte code) {
+            for (EntityType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown entity type code "+code);
+        }
+    }
+
+    private UUID eventId;
+    private EntityType type;
+    private long timestamp;
+    private List<Long> ids;
+
+    /**
+     * Creates new event with random event id and current time
+     * 
+     * @param type type of entities that need to be deleted
+     * @param ids ids of entities that need to be deleted
+     * @return new {@Code DeleteEvent}
+     */
+    public static DeleteEvent of(EntityType type, Collection<Long> ids) {
+        return new DeleteEvent(UUID.randomUUID(), type, System.currentTimeMillis(), List.copyOf(ids));
+    }
+}
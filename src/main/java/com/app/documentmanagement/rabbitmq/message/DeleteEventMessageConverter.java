@@ -0,0 +1,134 @@
+package com.app.documentmanagement.rabbitmq.message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * This {@Code DeleteEventMessageConverter} writes {@Code DeleteEvent} in compact binary format:
+ * format version (1 byte), entity type (1 byte), event id (16 bytes), timestamp (8 bytes), 
+ * number of ids and the ids as variable length integers. Event with single id takes less than 
+ * 30 bytes.
+ * Messages in old JSON format, where full {@Code DocumentDTO} or {@Code AuthorDTO} was sent, are 
+ * still read so queues can be drained after upgrade
+ * 
+ * @author Zeeshan Hanif
+ * @see DeleteEvent
+ */
+public class DeleteEventMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-delete-event";
+    public static final byte FORMAT_VERSION = 1;
+
+    private static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof DeleteEvent event)) {
+            throw new MessageConversionException("Only DeleteEvent can be converted, got "+object);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + event.getIds().size() * 4);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(event.getType().getCode());
+            out.writeLong(event.getEventId().getMostSignificantBits());
+            out.writeLong(event.getEventId().getLeastSignificantBits());
+            out.writeLong(event.getTimestamp());
+            writeVarLong(out, event.getIds().size());
+            for (Long id : event.getIds()) {
+                writeVarLong(out, id);
+            }
+        } catch (IOException e) {
+            throw new MessageConversionException("Unable to write DeleteEvent", e);
+        }
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setMessageId(event.getEventId().toString());
+        messageProperties.setTimestamp(new Date(event.getTimestamp()));
+        return new Message(bytes.toByteArray(), messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        String contentType = message.getMessageProperties().getContentType();
+        if (contentType != null && contentType.contains("json")) {
+            return fromLegacyJson(message);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getBody()))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new MessageConversionException("Unsupported DeleteEvent format version "+version);
+            }
+            DeleteEvent.EntityType type = DeleteEvent.EntityType.fromCode(in.readByte());
+            UUID eventId = new UUID(in.readLong(), in.readLong());
+            long timestamp = in.readLong();
+            int count = (int) readVarLong(in);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(readVarLong(in));
+            }
+            return new DeleteEvent(eventId, type, timestamp, List.copyOf(ids));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new MessageConversionException("Unable to read DeleteEvent", e);
+        }
+    }
+
+    /**
+     * Reads message written by previous producer as JSON {@Code DocumentDTO} or {@Code AuthorDTO}, only 
+     * id is used. Event id is derived from message body, so redelivery of same message gets same event id
+     * 
+     * @param message JSON message
+     * @return {@Code DeleteEvent} with single id
+     */
+    private DeleteEvent fromLegacyJson(Message message) {
+        Object typeId = message.getMessageProperties().getHeaders().get(TYPE_ID_HEADER);
+        DeleteEvent.EntityType type = typeId != null && typeId.toString().endsWith("AuthorDTO") 
+                        ? DeleteEvent.EntityType.AUTHOR : DeleteEvent.EntityType.DOCUMENT;
+        try {
+            JsonNode id = objectMapper.readTree(message.getBody()).get("id");
+            if (id == null || !id.canConvertToLong()) {
+                throw new MessageConversionException("JSON delete message without id");
+            }
+            Date timestamp = message.getMessageProperties().getTimestamp();
+            return new DeleteEvent(UUID.nameUUIDFromBytes(message.getBody()), type, 
+                            timestamp == null ? System.currentTimeMillis() : timestamp.getTime(), List.of(id.asLong()));
+        } catch (IOException e) {
+            throw new MessageConversionException("Unable to read JSON delete message", e);
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+}
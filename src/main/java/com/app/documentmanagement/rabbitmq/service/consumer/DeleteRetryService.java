@@ -0,0 +1,84 @@
+package com.app.documentmanagement.rabbitmq.service.consumer;
+
+import java.util.List;
+
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.rabbitmq.config.ConfigureRabbitMQ;
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code DeleteRetryService} handles delete event that could not be processed. Event is sent to next
+ * retry tier, so it comes back after tier's delay, which grows with every attempt. When all tiers are used 
+ * event is sent to dead letter exchange where it waits to be inspected and replayed
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Service
+public class DeleteRetryService {
+
+    public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+    @Value("${documentmanagement.rabbitmq.dead.letter.exchange.name}")
+    private String deadLetterExchange;
+
+    @Value("${documentmanagement.rabbitmq.retry.exchange.prefix}")
+    private String retryExchangePrefix;
+
+    @Value("${documentmanagement.rabbitmq.retry.delays}")
+    private List<Long> retryDelays;
+
+    private RabbitTemplate rabbitTemplate;
+
+    private DeleteEventMessageConverter deleteEventMessageConverter;
+
+    public DeleteRetryService(RabbitTemplate rabbitTemplate, DeleteEventMessageConverter deleteEventMessageConverter) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.deleteEventMessageConverter = deleteEventMessageConverter;
+    }
+
+    /**
+     * Sends event to next retry tier or to dead letter exchange when retries are exhausted. Event keeps
+     * its event id and routing key. If sending fails exception is propagated and listener's batch is
+     * rejected to dead letter queue
+     * 
+     * @param message event that failed with its headers
+     * @param cause exception thrown while processing event
+     */
+    public void retryOrDeadLetter(Message<DeleteEvent> message, Exception cause) {
+        int attempt = attemptOf(message);
+        String routingKey = (String) message.getHeaders().get(AmqpHeaders.RECEIVED_ROUTING_KEY);
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        messageProperties.setHeader(RETRY_ATTEMPT_HEADER, attempt + 1);
+        messageProperties.setHeader(EXCEPTION_MESSAGE_HEADER, String.valueOf(cause.getMessage()));
+        org.springframework.amqp.core.Message amqpMessage = deleteEventMessageConverter.toMessage(message.getPayload(), messageProperties);
+
+        if (attempt < retryDelays.size()) {
+            long delay = retryDelays.get(attempt);
+            rabbitTemplate.send(ConfigureRabbitMQ.retryTierName(retryExchangePrefix, delay), routingKey, amqpMessage);
+            log.warn(String.format("Delete Event %s failed on attempt %s, retrying in %s ms: %s", 
+                            message.getPayload().getEventId(), attempt + 1, delay, cause.getMessage()));
+        } else {
+            rabbitTemplate.send(deadLetterExchange, routingKey, amqpMessage);
+            log.error(String.format("Delete Event %s failed after %s attempts, sent to dead letter queue: %s", 
+                            message.getPayload().getEventId(), attempt + 1, cause.getMessage()));
+        }
+    }
+
+    private int attemptOf(Message<DeleteEvent> message) {
+        Object attempt = message.getHeaders().get(RETRY_ATTEMPT_HEADER);
+        return attempt instanceof Number number ? number.intValue() : 0;
+    }
+}
@@ -1,13 +1,23 @@
 package com.app.documentmanagement.rabbitmq.service.consumer;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
-import com.app.documentmanagement.dto.AuthorDTO;
-import com.app.documentmanagement.dto.DocumentDTO;
-import com.app.documentmanagement.services.AuthorService;
+import com.app.documentmanagement.dto.JobDTO;
+import com.app.documentmanagement.exceptions.AuthorNotFoundException;
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
 import com.app.documentmanagement.services.DocumentService;
+import com.app.documentmanagement.services.JobService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,40 +29,113 @@ public class MessageConsumerService {
     private DocumentService documentService;
 
     @Autowired
-    private AuthorService authorService;
+    private JobService jobService;
+
+    @Autowired
+    private DeleteRetryService deleteRetryService;
+
+    @Autowired
+    private ProcessedEventStore processedEventStore;
     
-    @RabbitListener(queues = {"${spring.rabbitmq.author.queue.name}"})
-    public void consumeAuthorMessage(AuthorDTO authorDTO) {
-        log.info(String.format("Author Message Received for Author Id: %s", authorDTO.getId()));
-        try {
-            authorDTO.getDocuments().forEach(document -> {
-                log.info(String.format("Deleting document with ID %s attached to author", authorDTO.getId()));
-                documentService.deleteDocumentById(document.getId());
-            });
-
-            boolean isDeleted = authorService.deleteAuthorById(authorDTO.getId());
-            if(isDeleted) {
-                log.info(String.format("Author with ID %s deleted successfully", authorDTO.getId()));
-            } else {
-                log.info(String.format("Unable to delete Author with ID %s", authorDTO.getId()));
+    /**
+     * Consumes author delete events in batches. Events that were already processed are dropped first.
+     * For each remaining author a background delete job is started, so authors with many documents
+     * do not hold consumer thread. Event is processed once its job is recorded, failed events are sent 
+     * for retry with backoff
+     * 
+     * @param messages author delete events received in one batch
+     */
+    @RabbitListener(queues = {"${spring.rabbitmq.author.queue.name}"}, containerFactory = "batchRabbitListenerContainerFactory")
+    public void consumeAuthorMessages(List<Message<DeleteEvent>> messages) {
+        log.info(String.format("Author Messages Received: %s", messages.size()));
+        List<Message<DeleteEvent>> newMessages = withoutProcessed(messages);
+        if (newMessages.isEmpty()) {
+            return;
+        }
+        List<UUID> processed = new ArrayList<>(newMessages.size());
+        for (Message<DeleteEvent> message : newMessages) {
+            try {
+                message.getPayload().getIds().forEach(this::startAuthorDeleteJob);
+                processed.add(message.getPayload().getEventId());
+            } catch (Exception exception) {
+                deleteRetryService.retryOrDeadLetter(message, exception);
             }
-        } catch (Exception exception) {
-            log.error("Exception thrown in Author consumer = "+exception.getMessage());
         }
+        processedEventStore.markProcessed(processed);
     }
 
-    @RabbitListener(queues = {"${spring.rabbitmq.document.queue.name}"})
-    public void consumeDocumentMessage(DocumentDTO documentDTO) {
-        log.info(String.format("Document Message Received for document Id: %s", documentDTO.getId()));
+    /**
+     * Consumes document delete events in batches. Events that were already processed are dropped first and
+     * documents of remaining events are deleted with one bulk delete. If bulk delete fails events are processed 
+     * one by one, so only failing events are sent for retry
+     * 
+     * @param messages document delete events received in one batch
+     */
+    @RabbitListener(queues = {"${spring.rabbitmq.document.queue.name}"}, containerFactory = "batchRabbitListenerContainerFactory")
+    public void consumeDocumentMessages(List<Message<DeleteEvent>> messages) {
+        log.info(String.format("Document Messages Received: %s", messages.size()));
+        List<Message<DeleteEvent>> newMessages = withoutProcessed(messages);
+        if (newMessages.isEmpty()) {
+            return;
+        }
+        List<UUID> processed = new ArrayList<>(newMessages.size());
         try {
-            boolean isDeleted = documentService.deleteDocumentById(documentDTO.getId());
-            if(isDeleted) {
-                log.info(String.format("Document with ID %s deleted successfully", documentDTO.getId()));
-            } else {
-                log.info(String.format("Unable to delete Document with ID %s", documentDTO.getId()));
-            }    
+            Set<Long> documentIds = idsOf(newMessages);
+            int deleted = documentService.deleteDocumentsByIds(documentIds);
+            log.info(String.format("Deleted %s of %s documents", deleted, documentIds.size()));
+            newMessages.forEach(message-> processed.add(message.getPayload().getEventId()));
         } catch (Exception exception) {
-            log.error(String.format("Exception thrown in Document consumer = %s"), exception.getMessage());
+            log.warn(String.format("Bulk delete failed, processing %s document messages one by one: %s", 
+                            newMessages.size(), exception.getMessage()));
+            for (Message<DeleteEvent> message : newMessages) {
+                try {
+                    documentService.deleteDocumentsByIds(message.getPayload().getIds());
+                    processed.add(message.getPayload().getEventId());
+                } catch (Exception messageException) {
+                    deleteRetryService.retryOrDeadLetter(message, messageException);
+                }
+            }
         }
+        processedEventStore.markProcessed(processed);
+    }
+
+    /**
+     * Starts delete job of author, author that is already deleted is not an error as same event can be delivered again
+     * 
+     * @param authorId id of author
+     */
+    private void startAuthorDeleteJob(long authorId) {
+        try {
+            JobDTO job = jobService.startAuthorDeleteJob(authorId);
+            log.info(String.format("Author with ID %s is being deleted by job %s", authorId, job.getId()));
+        } catch (AuthorNotFoundException exception) {
+            log.info(String.format("Author with ID %s is already deleted", authorId));
+        }
+    }
+
+    /**
+     * Drops events that were already processed and events repeated within the batch
+     * 
+     * @param messages events received in one batch
+     * @return events that need to be processed
+     */
+    private List<Message<DeleteEvent>> withoutProcessed(List<Message<DeleteEvent>> messages) {
+        Map<UUID, Message<DeleteEvent>> newMessages = new LinkedHashMap<>();
+        messages.forEach(message-> {
+            UUID eventId = message.getPayload().getEventId();
+            if (!processedEventStore.isProcessed(eventId)) {
+                newMessages.putIfAbsent(eventId, message);
+            }
+        });
+        if (newMessages.size() < messages.size()) {
+            log.info(String.format("Dropped %s duplicate messages", messages.size() - newMessages.size()));
+        }
+        return new ArrayList<>(newMessages.values());
+    }
+
+    private Set<Long> idsOf(List<Message<DeleteEvent>> messages) {
+        Set<Long> ids = new LinkedHashSet<>();
+        messages.forEach(message-> ids.addAll(message.getPayload().getIds()));
+        return ids;
     }
 }
@@ -0,0 +1,147 @@
+package com.app.documentmanagement.rabbitmq.service.consumer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.entities.ProcessedEvent;
+import com.app.documentmanagement.repositories.ProcessedEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code ProcessedEventStore} remembers ids of events that consumers already processed, so a
+ * redelivered event is dropped before any repository call. Lookups only use a bounded in memory map 
+ * that keeps the most recent {@Code documentmanagement.rabbitmq.processed.events.max.size} ids. 
+ * Ids are also written to processed_events table, which warms up the map at startup, and both are pruned 
+ * after {@Code documentmanagement.rabbitmq.processed.events.ttl}. 
+ * Event that fell out of the map is processed again, which is safe because deletes are idempotent
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Service
+public class ProcessedEventStore {
+
+    @Value("${documentmanagement.rabbitmq.processed.events.max.size}")
+    private int maxSize = 100000;
+
+    @Value("${documentmanagement.rabbitmq.processed.events.ttl}")
+    private Duration ttl = Duration.ofDays(7);
+
+    private ProcessedEventRepository processedEventRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Event id to processed time in milliseconds, in insertion order so the oldest entry is first
+     */
+    private final LinkedHashMap<UUID, Long> processedEvents = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public ProcessedEventStore(ProcessedEventRepository processedEventRepository) {
+        this.processedEventRepository = processedEventRepository;
+    }
+
+    /**
+     * Checks if event was already processed, only in memory map is used
+     * 
+     * @param eventId id of event
+     * @return {@Code true} if event was already processed
+     */
+    public boolean isProcessed(UUID eventId) {
+        lock.lock();
+        try {
+            return processedEvents.containsKey(eventId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records events as processed. Failure to write the table is only logged, events are still 
+     * remembered in memory and the worst outcome is that they are processed again after restart
+     * 
+     * @param eventIds ids of processed events
+     */
+    public void markProcessed(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<ProcessedEvent> newEvents = new ArrayList<>(eventIds.size());
+        lock.lock();
+        try {
+            for (UUID eventId : eventIds) {
+                if (processedEvents.putIfAbsent(eventId, now.toEpochMilli()) == null) {
+                    newEvents.add(new ProcessedEvent(eventId, now));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            processedEventRepository.saveAll(newEvents);
+        } catch (DataAccessException exception) {
+            log.warn(String.format("Unable to record %s processed events: %s", newEvents.size(), exception.getMessage()));
+        }
+    }
+
+    /**
+     * Loads most recent processed events from table into memory at startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<ProcessedEvent> recent = processedEventRepository.findByProcessedAtAfterOrderByProcessedAtDesc(
+                        Instant.now().minus(ttl), Limit.of(maxSize));
+        lock.lock();
+        try {
+            // oldest first, so insertion order of the map stays oldest to newest
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                ProcessedEvent event = recent.get(i);
+                processedEvents.putIfAbsent(event.getEventId(), event.getProcessedAt().toEpochMilli());
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.info(String.format("Processed Event Store: Loaded %s events", recent.size()));
+    }
+
+    /**
+     * Removes events older than ttl from memory and from table
+     */
+    @Scheduled(fixedDelayString = "${documentmanagement.rabbitmq.processed.events.prune.interval}")
+    public void prune() {
+        long cutoff = Instant.now().minus(ttl).toEpochMilli();
+        lock.lock();
+        try {
+            Iterator<Long> processedTimes = processedEvents.values().iterator();
+            while (processedTimes.hasNext() && processedTimes.next() < cutoff) {
+                processedTimes.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        int deleted = processedEventRepository.deleteByProcessedAtBefore(Instant.ofEpochMilli(cutoff));
+        log.info(String.format("Processed Event Store: Pruned %s events", deleted));
+    }
+}
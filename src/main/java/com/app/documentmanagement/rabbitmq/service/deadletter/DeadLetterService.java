@@ -0,0 +1,158 @@
+package com.app.documentmanagement.rabbitmq.service.deadletter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.dto.DeadLetterDTO;
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+import com.app.documentmanagement.rabbitmq.service.consumer.DeleteRetryService;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code DeadLetterService} lets operators look at messages in dead letter queue and send them
+ * back to delete queues once the cause is fixed
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Service
+public class DeadLetterService {
+
+    private static final String X_DEATH_HEADER = "x-death";
+
+    @Value("${spring.rabbitmq.exchange.name}")
+    private String exchange;
+
+    @Value("${documentmanagement.rabbitmq.dead.letter.queue.name}")
+    private String deadLetterQueue;
+
+    @Value("${documentmanagement.rabbitmq.dead.letter.max.limit}")
+    private int maxLimit;
+
+    @Value("${documentmanagement.outbox.confirm.timeout}")
+    private long confirmTimeout;
+
+    private RabbitTemplate rabbitTemplate;
+
+    private DeleteEventMessageConverter deleteEventMessageConverter;
+
+    private final MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+    public DeadLetterService(RabbitTemplate rabbitTemplate, DeleteEventMessageConverter deleteEventMessageConverter) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.deleteEventMessageConverter = deleteEventMessageConverter;
+    }
+
+    /**
+     * Returns messages from head of dead letter queue without removing them, messages are requeued
+     * in their original order after they are read
+     * 
+     * @param limit maximum number of messages, capped at {@Code documentmanagement.rabbitmq.dead.letter.max.limit}
+     * @return {@Code List} of {@Code DeadLetterDTO}
+     */
+    public List<DeadLetterDTO> getDeadLetters(int limit) {
+        int max = Math.max(0, Math.min(limit, maxLimit));
+        return rabbitTemplate.execute(channel-> {
+            List<DeadLetterDTO> deadLetters = new ArrayList<>();
+            long lastDeliveryTag = -1;
+            try {
+                for (int i = 0; i < max; i++) {
+                    GetResponse response = channel.basicGet(deadLetterQueue, false);
+                    if (response == null) {
+                        break;
+                    }
+                    lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                    deadLetters.add(toDeadLetter(response));
+                }
+            } finally {
+                if (lastDeliveryTag >= 0) {
+                    channel.basicNack(lastDeliveryTag, true, true);
+                }
+            }
+            return deadLetters;
+        });
+    }
+
+    /**
+     * Moves messages from dead letter queue back to delete queues with their original routing key and
+     * a fresh retry budget. Messages are removed from dead letter queue only after broker confirmed the
+     * replayed copies
+     * 
+     * @param limit maximum number of messages, capped at {@Code documentmanagement.rabbitmq.dead.letter.max.limit}
+     * @return number of replayed messages
+     */
+    public int replayDeadLetters(int limit) {
+        int max = Math.max(0, Math.min(limit, maxLimit));
+        log.info("Dead Letter Replay: Started");
+        Integer replayed = rabbitTemplate.execute(channel-> {
+            int count = 0;
+            long lastDeliveryTag = -1;
+            for (int i = 0; i < max; i++) {
+                GetResponse response = channel.basicGet(deadLetterQueue, false);
+                if (response == null) {
+                    break;
+                }
+                channel.basicPublish(exchange, response.getEnvelope().getRoutingKey(), 
+                                withoutRetryHeaders(response.getProps()), response.getBody());
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                count++;
+            }
+            if (count > 0) {
+                channel.waitForConfirmsOrDie(confirmTimeout);
+                channel.basicAck(lastDeliveryTag, true);
+            }
+            return count;
+        });
+        log.info(String.format("Dead Letter Replay: Completed, %s messages replayed", replayed));
+        return replayed == null ? 0 : replayed;
+    }
+
+    private DeadLetterDTO toDeadLetter(GetResponse response) {
+        MessageProperties messageProperties = messagePropertiesConverter.toMessageProperties(response.getProps(), 
+                        response.getEnvelope(), "UTF-8");
+        Object attempts = messageProperties.getHeaders().get(DeleteRetryService.RETRY_ATTEMPT_HEADER);
+        DeadLetterDTO deadLetter = new DeadLetterDTO(messageProperties.getMessageId(), null, null, 
+                        response.getEnvelope().getRoutingKey(), attempts instanceof Number number ? number.intValue() : null, 
+                        reasonOf(messageProperties));
+        try {
+            DeleteEvent event = (DeleteEvent) deleteEventMessageConverter.fromMessage(new Message(response.getBody(), messageProperties));
+            deadLetter.setEventId(event.getEventId().toString());
+            deadLetter.setType(event.getType().name());
+            deadLetter.setIds(event.getIds());
+        } catch (MessageConversionException exception) {
+            deadLetter.setReason("Unreadable message: "+exception.getMessage());
+        }
+        return deadLetter;
+    }
+
+    private String reasonOf(MessageProperties messageProperties) {
+        Object exceptionMessage = messageProperties.getHeaders().get(DeleteRetryService.EXCEPTION_MESSAGE_HEADER);
+        if (exceptionMessage != null) {
+            return exceptionMessage.toString();
+        }
+        return messageProperties.getHeaders().containsKey(X_DEATH_HEADER) ? "Rejected by listener" : null;
+    }
+
+    private AMQP.BasicProperties withoutRetryHeaders(AMQP.BasicProperties properties) {
+        Map<String, Object> headers = properties.getHeaders() == null ? new HashMap<>() : new HashMap<>(properties.getHeaders());
+        headers.remove(DeleteRetryService.RETRY_ATTEMPT_HEADER);
+        headers.remove(DeleteRetryService.EXCEPTION_MESSAGE_HEADER);
+        headers.remove(X_DEATH_HEADER);
+        return properties.builder().headers(headers).build();
+    }
+}
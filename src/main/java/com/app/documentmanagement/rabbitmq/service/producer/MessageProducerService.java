@@ -1,20 +1,31 @@
 package com.app.documentmanagement.rabbitmq.service.producer;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.app.documentmanagement.dto.AuthorDTO;
-import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.entities.OutboxEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+import com.app.documentmanagement.repositories.OutboxEventRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * {@Code MessageProducerService} does not talk to message broker directly. Events are written to outbox 
+ * table in the caller's transaction and {@Code OutboxRelayService} publishes them in background, so 
+ * broker latency is off the request path and events are not lost when broker is down
+ * 
+ * @author Zeeshan Hanif
+ * @see OutboxRelayService
+ */
 @Slf4j
 @Service
 public class MessageProducerService {
-    
-    @Value("${spring.rabbitmq.exchange.name}")
-    private String exchange;
 
     @Value("${spring.rabbitmq.author.routing.key}")
     private String authorRoutingKey;
@@ -22,27 +33,30 @@ public class MessageProducerService {
     @Value("${spring.rabbitmq.document.routing.key}")
     private String documentRoutingKey;
 
-    private RabbitTemplate rabbitTemplate;
+    private OutboxEventRepository outboxEventRepository;
+
+    private DeleteEventMessageConverter deleteEventMessageConverter;
+
+    public MessageProducerService(OutboxEventRepository outboxEventRepository, DeleteEventMessageConverter deleteEventMessageConverter) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.deleteEventMessageConverter = deleteEventMessageConverter;
+    }
 
-    public MessageProducerService(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    @Transactional
+    public void sendAuthorMessage(long authorId) {
+        enqueue(authorRoutingKey, DeleteEvent.of(DeleteEvent.EntityType.AUTHOR, List.of(authorId)));
+        log.info(String.format("Author Message Queued for author with Id: %s", authorId));
     }
 
-    public void sendAuthorMessage(AuthorDTO authorDTO) {
-        try {
-            rabbitTemplate.convertAndSend(exchange, authorRoutingKey, authorDTO);
-        } catch (Exception e) {
-            log.error("Exception in Sending Author message: "+e.getMessage());
-        }
-        log.info(String.format("Author Message Sent for author with Id: %s", authorDTO.getId()));
+    @Transactional
+    public void sendDocumentMessage(long documentId) {
+        enqueue(documentRoutingKey, DeleteEvent.of(DeleteEvent.EntityType.DOCUMENT, List.of(documentId)));
+        log.info(String.format("Document Message Queued for document with Id: %s", documentId));
     }
 
-    public void sendDocumentMessage(DocumentDTO documentDTO) {
-        try {
-            rabbitTemplate.convertAndSend(exchange, documentRoutingKey, documentDTO);
-        } catch (Exception e) {
-            log.error("Exception in Sending Document message: "+e.getMessage());
-        }
-        log.info(String.format("Document Message Sent for document with Id: %s", documentDTO.getId()));
+    private void enqueue(String routingKey, DeleteEvent event) {
+        byte[] payload = deleteEventMessageConverter.toMessage(event, new MessageProperties()).getBody();
+        outboxEventRepository.save(new OutboxEvent(event.getEventId().toString(), routingKey, payload, 
+                        Instant.ofEpochMilli(event.getTimestamp())));
     }
 }
@@ -0,0 +1,97 @@
+package com.app.documentmanagement.rabbitmq.service.producer;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.entities.OutboxEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+import com.app.documentmanagement.repositories.OutboxEventRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code OutboxRelayService} drains outbox table in background. Events are published in batches 
+ * of {@Code documentmanagement.outbox.batch.size} on one channel and the batch is removed from outbox 
+ * only after broker confirmed all of them. When outbox is empty relay waits 
+ * {@Code documentmanagement.outbox.linger} milliseconds before looking again.
+ * Delivery is at least once, event that was confirmed but not removed is sent again after restart
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Service
+public class OutboxRelayService {
+
+    @Value("${spring.rabbitmq.exchange.name}")
+    private String exchange;
+
+    @Value("${documentmanagement.outbox.batch.size}")
+    private int batchSize = 500;
+
+    @Value("${documentmanagement.outbox.confirm.timeout}")
+    private long confirmTimeout = 5000;
+
+    private OutboxEventRepository outboxEventRepository;
+
+    private RabbitTemplate rabbitTemplate;
+
+    public OutboxRelayService(OutboxEventRepository outboxEventRepository, RabbitTemplate rabbitTemplate) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    /**
+     * Publishes batches until outbox has no full batch left
+     */
+    @Scheduled(fixedDelayString = "${documentmanagement.outbox.linger}")
+    public void relay() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    /**
+     * Publishes one batch of oldest events and waits for broker confirms. If broker does not
+     * confirm, events stay in outbox and are published again on next run
+     * 
+     * @return number of published events
+     */
+    public int relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findByOrderByIdAsc(Limit.of(batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            rabbitTemplate.invoke(operations-> {
+                events.forEach(event-> operations.send(exchange, event.getRoutingKey(), toMessage(event)));
+                operations.waitForConfirmsOrDie(confirmTimeout);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error(String.format("Exception in Publishing %s outbox events: %s", events.size(), e.getMessage()));
+            return 0;
+        }
+        outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+        log.info(String.format("Published %s outbox events", events.size()));
+        return events.size();
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(DeleteEventMessageConverter.CONTENT_TYPE);
+        messageProperties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        messageProperties.setMessageId(event.getEventId());
+        messageProperties.setTimestamp(Date.from(event.getCreatedAt()));
+        return new Message(event.getPayload(), messageProperties);
+    }
+}
@@ -1,13 +1,22 @@
 package com.app.documentmanagement.repositories;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.app.documentmanagement.dto.AuthorDTO;
 import com.app.documentmanagement.entities.Author;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * {@AuthorRepository} class is used crud operation on database, in inherits all the methods from
- * parent interface
+ * parent interface.
+ * Documents of {@Code Author} are lazy, so use cases that need them declare entity graph here. 
+ * Authors and references of those documents are loaded in batches
  * 
  * @author Zeeshan Hanif
  */
@@ -16,4 +25,73 @@ public interface AuthorRepository extends JpaRepository<Author,Long> {
     List<Author> findByFirstName(String firstName);
     List<Author> findByLastName(String lastName);
     Author findByFirstNameAndLastName(String firstName, String lastName);
+
+    /**
+     * Returns author with its documents loaded in the same query, plain {@Code findById} does not touch
+     * documents and is enough when only author is needed
+     * 
+     * @param id id of author
+     * @return {@Code Optional} of {@Code Author}
+     */
+    @EntityGraph("Author.documents")
+    Optional<Author> findWithDocumentsById(long id);
+
+    /**
+     * Returns all the authors with their documents loaded in the same query
+     * 
+     * @return {@Code List} of {@Code Author}
+     */
+    @EntityGraph("Author.documents")
+    List<Author> findAllWithDocumentsBy();
+
+    /**
+     * Returns authors with provided ids and their documents loaded in the same query
+     * 
+     * @param ids ids of authors
+     * @return {@Code List} of {@Code Author} in no particular order
+     */
+    @EntityGraph("Author.documents")
+    List<Author> findWithDocumentsByIdIn(Collection<Long> ids);
+
+    /**
+     * Seek query for keyset pagination, returns authors with id greater than provided id
+     * ordered by id. It uses primary key index so reading any page costs the same.
+     * Documents are batch loaded for whole page because limit cannot be combined with collection fetch
+     * 
+     * @param id id of last author of previous page, 0 for first page
+     * @param limit maximum number of authors to return
+     * @return {@Code List} of {@Code Author} ordered by id
+     */
+    List<Author> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Seek query for keyset pagination of author ids only, used to rebuild in memory id filters
+     * without loading authors
+     * 
+     * @param after id of last author of previous page, 0 for first page
+     * @param limit maximum number of ids to return
+     * @return {@Code List} of author ids ordered by id
+     */
+    @Query("select a.id from Author a where a.id > :after order by a.id")
+    List<Long> findIdsByIdGreaterThan(@Param("after") long after, Limit limit);
+
+    /**
+     * Seek query for keyset pagination of author names. Only id, first and last name are selected,
+     * documents are not touched
+     * 
+     * @param after id of last author of previous page, 0 for first page
+     * @param limit maximum number of authors to return
+     * @return {@Code List} of {@Code AuthorDTO} without documents ordered by id
+     */
+    @Query("select new com.app.documentmanagement.dto.AuthorDTO(a.id, a.firstName, a.lastName) from Author a where a.id > :after order by a.id")
+    List<AuthorDTO> findNamesByIdGreaterThan(@Param("after") long after, Limit limit);
+
+    /**
+     * Returns id, first and last name of author without loading the author
+     * 
+     * @param id id of author
+     * @return {@Code Optional} of {@Code AuthorDTO} without documents
+     */
+    @Query("select new com.app.documentmanagement.dto.AuthorDTO(a.id, a.firstName, a.lastName) from Author a where a.id = :id")
+    Optional<AuthorDTO> findNameById(@Param("id") long id);
 }
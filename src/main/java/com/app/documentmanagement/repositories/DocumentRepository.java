@@ -1,15 +1,294 @@
 package com.app.documentmanagement.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
 import com.app.documentmanagement.entities.Document;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * {@DocumentRepository} class is used crud operation on database, in inherits all the methods from
- * parent interface
+ * parent interface.
+ * Associations of {@Code Document} are lazy, so every use case declares its fetch plan here. Collections
+ * that are not part of the entity graph are loaded in batches for all documents of the persistence context
  * 
  * @author Zeeshan Hanif
  */
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentRepositoryCustom {
     
+    /**
+     * Returns document with its authors loaded in the same query, references are batch loaded on access
+     * 
+     * @param id id of document
+     * @return {@Code Optional} of {@Code Document}
+     */
+    @Override
+    @EntityGraph("Document.authors")
+    Optional<Document> findById(Long id);
+
+    /**
+     * Returns all the documents with their authors loaded in the same query, references are batch 
+     * loaded on access
+     * 
+     * @return {@Code List} of {@Code Document}
+     */
+    @Override
+    @EntityGraph("Document.authors")
+    List<Document> findAll();
+
+    /**
+     * Returns documents with provided ids and their authors loaded in the same query, references are 
+     * batch loaded on access. Used to get many documents at once and to assign author to many documents
+     * 
+     * @param ids ids of documents
+     * @return {@Code List} of {@Code Document} in no particular order
+     */
+    @EntityGraph("Document.authors")
+    List<Document> findWithAuthorsByIdIn(Collection<Long> ids);
+
+    /**
+     * Returns document with its references loaded in the same query, used before delete to find
+     * citations that may become unused
+     * 
+     * @param id id of document
+     * @return {@Code Optional} of {@Code Document}
+     */
+    @EntityGraph("Document.references")
+    Optional<Document> findWithReferencesById(long id);
+
+    /**
+     * Returns documents with provided ids and their references loaded in the same query, used by in memory 
+     * indexes to re-read all the documents changed by a transaction at once
+     * 
+     * @param ids ids of documents
+     * @return {@Code List} of {@Code Document} in no particular order
+     */
+    @EntityGraph("Document.references")
+    List<Document> findWithReferencesByIdIn(Collection<Long> ids);
+
+    /**
+     * Checks if any document is assigned to author without loading documents
+     * 
+     * @param authorId id of author
+     * @return {@Code true} if at least one document has this author
+     */
+    boolean existsByAuthorsId(long authorId);
+
+    /**
+     * Seek query for keyset pagination, returns documents with id greater than provided id
+     * ordered by id. It uses primary key index so reading any page costs the same.
+     * No collection is fetched here because limit would be applied in memory, authors and references
+     * are batch loaded for whole page instead
+     * 
+     * @param id id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents to return
+     * @return {@Code List} of {@Code Document} ordered by id
+     */
+    List<Document> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Seek query for keyset pagination of document summaries. Only id and title columns are selected
+     * from documents table, join tables of references and authors are not touched
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of summaries to return
+     * @return {@Code List} of {@Code DocumentSummaryDTO} ordered by id
+     */
+    @Query("select new com.app.documentmanagement.dto.DocumentSummaryDTO(d.id, d.title) from Document d where d.id > :after order by d.id")
+    List<DocumentSummaryDTO> findSummariesByIdGreaterThan(@Param("after") long after, Limit limit);
+
+    /**
+     * Seek query for keyset pagination of document ids only, used to rebuild in memory id filters
+     * without loading documents
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of ids to return
+     * @return {@Code List} of document ids ordered by id
+     */
+    @Query("select d.id from Document d where d.id > :after order by d.id")
+    List<Long> findIdsByIdGreaterThan(@Param("after") long after, Limit limit);
+
+    /**
+     * Seek query for keyset pagination of id, title and body of documents, authors and references
+     * are not touched
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents to return
+     * @return {@Code List} of {@Code DocumentDTO} with id, title and body ordered by id
+     */
+    @Query("select new com.app.documentmanagement.dto.DocumentDTO(d.id, d.title, d.body) from Document d where d.id > :after order by d.id")
+    List<DocumentDTO> findTextsByIdGreaterThan(@Param("after") long after, Limit limit);
+
+    /**
+     * Returns id, title and body of document without loading the document
+     * 
+     * @param id id of document
+     * @return {@Code Optional} of {@Code DocumentDTO} with id, title and body
+     */
+    @Query("select new com.app.documentmanagement.dto.DocumentDTO(d.id, d.title, d.body) from Document d where d.id = :id")
+    Optional<DocumentDTO> findTextById(@Param("id") long id);
+
+    /**
+     * Returns id, title and body of documents with provided ids without loading documents
+     * 
+     * @param ids ids of documents
+     * @return {@Code List} of {@Code DocumentDTO} without references and authors in no particular order
+     */
+    @Query("select new com.app.documentmanagement.dto.DocumentDTO(d.id, d.title, d.body) from Document d where d.id in :ids")
+    List<DocumentDTO> findTextsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks rows of provided documents until end of transaction and returns ids of those that still exist.
+     * Bulk delete starts with it, so of two overlapping deletes the later one waits and then only sees
+     * documents the first one left
+     * 
+     * @param ids ids of documents
+     * @return ids of existing documents in no particular order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select d.id from Document d where d.id in :ids")
+    List<Long> lockIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns (document id, author id) pairs for provided documents, document without authors
+     * is returned with null author id. Used to find authors affected by bulk delete and to build
+     * co-authorship graph
+     * 
+     * @param ids ids of documents
+     * @return {@Code List} of pairs of document id and author id
+     */
+    @Query("select d.id, a.id from Document d left join d.authors a where d.id in :ids")
+    List<Object[]> findAuthorIdsByDocumentIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns ids of documents attached to any of provided authors
+     * 
+     * @param authorIds ids of authors
+     * @return {@Code List} of document ids
+     */
+    @Query("select distinct d.id from Document d join d.authors a where a.id in :authorIds")
+    List<Long> findIdsByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds);
+
+    /**
+     * Returns ids of documents attached to provided author after provided id. Used to delete
+     * documents of an author in chunks
+     * 
+     * @param authorId id of author
+     * @param after id after which documents are returned
+     * @param limit maximum number of ids to return
+     * @return {@Code List} of document ids ordered by id
+     */
+    @Query("select d.id from Document d join d.authors a where a.id = :authorId and d.id > :after order by d.id")
+    List<Long> findIdsByAuthorIdAfter(@Param("authorId") long authorId, @Param("after") long after, Limit limit);
+
+    /**
+     * Returns id of document with provided content hash, it is answered from unique index on content_hash
+     * 
+     * @param contentHash hash computed by {@Code ContentHasher}
+     * @return {@Code Optional} of document id
+     */
+    @Query("select d.id from Document d where d.contentHash = :contentHash")
+    Optional<Long> findIdByContentHash(@Param("contentHash") String contentHash);
+
+    /**
+     * Returns which of provided content hashes are already used by documents, used to check a whole
+     * batch with one query
+     * 
+     * @param contentHashes hashes computed by {@Code ContentHasher}
+     * @return {@Code List} of hashes that exist in database
+     */
+    @Query("select d.contentHash from Document d where d.contentHash in :contentHashes")
+    List<String> findContentHashesIn(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * Seek query for documents that have no content hash yet, used by backfill job. References are 
+     * batch loaded for whole page
+     * 
+     * @param id id of last document of previous chunk, 0 for first chunk
+     * @param limit maximum number of documents to return
+     * @return {@Code List} of {@Code Document} ordered by id
+     */
+    List<Document> findByContentHashIsNullAndIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Returns number of documents that have no content hash yet
+     * 
+     * @return number of documents
+     */
+    long countByContentHashIsNull();
+
+    /**
+     * Sets content hash of document only if it has none. Statement does not increment version, so
+     * ETags held by clients stay valid and concurrent update of the document does not fail
+     * 
+     * @param id id of document
+     * @param contentHash hash computed by {@Code ContentHasher}
+     * @return number of updated rows, 0 if hash was set meanwhile
+     */
+    @Modifying
+    @Query("update Document d set d.contentHash = :contentHash where d.id = :id and d.contentHash is null")
+    int setContentHashIfAbsent(@Param("id") long id, @Param("contentHash") String contentHash);
+
+    /**
+     * Returns number of documents attached to provided author
+     * 
+     * @param authorId id of author
+     * @return number of documents
+     */
+    long countByAuthors_Id(long authorId);
+
+    /**
+     * Deletes rows of document_author join table of provided documents with one statement.
+     * Pending changes are flushed before, because statement bypasses persistence context
+     * 
+     * @param ids ids of documents
+     * @return number of deleted rows
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from document_author where document_id in (:ids)", nativeQuery = true)
+    int deleteAuthorLinksByDocumentIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns ids of citations referenced by provided documents, used before delete to find citations
+     * that may become unused
+     * 
+     * @param ids ids of documents
+     * @return {@Code List} of distinct reference ids
+     */
+    @Query(value = "select distinct reference_id from document_reference where document_id in (:ids)", nativeQuery = true)
+    List<Long> findReferenceIdsByDocumentIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes rows of document_reference link table of provided documents with one statement, 
+     * citations themselves are shared and kept
+     * 
+     * @param ids ids of documents
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query(value = "delete from document_reference where document_id in (:ids)", nativeQuery = true)
+    int deleteReferenceLinksByDocumentIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes provided documents with one statement, rows of join tables must be deleted before.
+     * Persistence context is cleared after, so no stale document stays managed
+     * 
+     * @param ids ids of documents
+     * @return number of deleted documents
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Document d where d.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,25 @@
+package com.app.documentmanagement.repositories;
+
+import java.util.stream.Stream;
+
+import com.app.documentmanagement.entities.Document;
+
+/**
+ * {@DocumentRepositoryCustom} declares queries of {@Code DocumentRepository} that need direct access
+ * to {@Code EntityManager} and cannot be expressed as derived or annotated queries
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentRepository
+ */
+public interface DocumentRepositoryCustom {
+
+    /**
+     * Returns all the documents ordered by id as a {@Code Stream} backed by database cursor, so rows
+     * are read from database while stream is consumed instead of loading them all in memory.
+     * Stream must be consumed inside transaction and should be closed after use
+     * 
+     * @param fetchSize number of rows JDBC driver fetches from database in one round trip
+     * @return {@Code Stream} of {@Code Document} ordered by id
+     */
+    Stream<Document> streamAll(int fetchSize);
+}
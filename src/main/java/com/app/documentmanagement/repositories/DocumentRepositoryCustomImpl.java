@@ -0,0 +1,31 @@
+package com.app.documentmanagement.repositories;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import com.app.documentmanagement.entities.Document;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * {@DocumentRepositoryCustomImpl} provides implementation for {@Code DocumentRepositoryCustom}, 
+ * Spring Data picks it up and merge its methods into {@Code DocumentRepository}
+ * 
+ * @author Zeeshan Hanif
+ * @see DocumentRepositoryCustom
+ */
+public class DocumentRepositoryCustomImpl implements DocumentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Document> streamAll(int fetchSize) {
+        return entityManager.createQuery("select d from Document d order by d.id", Document.class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+    }
+}
@@ -0,0 +1,45 @@
+package com.app.documentmanagement.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.app.documentmanagement.entities.Job;
+
+/**
+ * {@JobRepository} class is used crud operation on database for {@Code Job}, in inherits 
+ * all the methods from parent interface.
+ * 
+ * @author Zeeshan Hanif
+ */
+public interface JobRepository extends JpaRepository<Job, Long>{
+
+    /**
+     * Returns jobs in provided statuses, used to resume unfinished jobs at startup
+     * 
+     * @param statuses statuses of jobs
+     * @return {@Code List} of {@Code Job}
+     */
+    List<Job> findByStatusIn(Collection<Job.Status> statuses);
+
+    /**
+     * Returns jobs in provided status that failed fewer times than provided number, used to retry failed jobs
+     * 
+     * @param status status of jobs
+     * @param attempts maximum number of attempts
+     * @return {@Code List} of {@Code Job}
+     */
+    List<Job> findByStatusAndAttemptsLessThan(Job.Status status, int attempts);
+
+    /**
+     * Returns unfinished job of provided type for provided target, if any
+     * 
+     * @param type kind of job
+     * @param targetId id of entity job works on
+     * @param statuses unfinished statuses
+     * @return {@Code Optional} of {@Code Job}
+     */
+    Optional<Job> findFirstByTypeAndTargetIdAndStatusIn(Job.Type type, long targetId, Collection<Job.Status> statuses);
+}
@@ -0,0 +1,25 @@
+package com.app.documentmanagement.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.app.documentmanagement.entities.OutboxEvent;
+
+/**
+ * {@OutboxEventRepository} class is used crud operation on database for {@Code OutboxEvent}, in inherits 
+ * all the methods from parent interface.
+ * 
+ * @author Zeeshan Hanif
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>{
+
+    /**
+     * Returns oldest events waiting to be published
+     * 
+     * @param limit maximum number of events
+     * @return {@Code List} of {@Code OutboxEvent} ordered by id
+     */
+    List<OutboxEvent> findByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,43 @@
+package com.app.documentmanagement.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.documentmanagement.entities.ProcessedEvent;
+
+/**
+ * {@ProcessedEventRepository} class is used crud operation on database for {@Code ProcessedEvent}, in inherits 
+ * all the methods from parent interface.
+ * 
+ * @author Zeeshan Hanif
+ */
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID>{
+
+    /**
+     * Returns most recently processed events, used to warm up in memory store
+     * 
+     * @param since oldest processed time to return
+     * @param limit maximum number of events
+     * @return {@Code List} of {@Code ProcessedEvent} ordered from newest to oldest
+     */
+    List<ProcessedEvent> findByProcessedAtAfterOrderByProcessedAtDesc(Instant since, Limit limit);
+
+    /**
+     * Deletes events processed before provided time with one statement
+     * 
+     * @param cutoff events processed before this time are deleted
+     * @return number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedEvent p where p.processedAt < :cutoff")
+    int deleteByProcessedAtBefore(@Param("cutoff") Instant cutoff);
+}
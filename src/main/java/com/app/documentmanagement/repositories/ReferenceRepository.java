@@ -1,15 +1,66 @@
 package com.app.documentmanagement.repositories;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.app.documentmanagement.entities.Reference;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * {@ReferenceRepository} class is used crud operation on database, in inherits all the methods from
- * parent interface
+ * parent interface.
+ * References are citations shared by documents, they are looked up by hash of their text
  * 
  * @author Zeeshan Hanif
  */
 public interface ReferenceRepository extends JpaRepository<Reference, Long> {
-    
+
+    /**
+     * Returns citations with provided hashes, it is answered from unique index on hash
+     * 
+     * @param hashes hashes computed by {@Code Reference#hashOf}
+     * @return {@Code List} of {@Code Reference} that exist in database
+     */
+    List<Reference> findByHashIn(Collection<String> hashes);
+
+    /**
+     * Returns citations with provided hashes and locks them in order of id until end of transaction, 
+     * so they are not deleted as unused while a document is being linked to them
+     * 
+     * @param hashes hashes computed by {@Code Reference#hashOf}
+     * @return {@Code List} of {@Code Reference} that exist in database
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select r from Reference r where r.hash in :hashes order by r.id")
+    List<Reference> lockByHashIn(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Locks provided citations in order of id before they are checked for use, so a document that is
+     * being linked to one of them is committed first
+     * 
+     * @param ids ids of citations
+     * @return ids of existing citations
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r.id from Reference r where r.id in :ids order by r.id")
+    List<Long> lockIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes provided citations that are no longer cited by any document with one statement. 
+     * Pending changes are flushed before, so links removed in this transaction are taken into account
+     * 
+     * @param ids ids of citations that may have become unused
+     * @return number of deleted citations
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from references r where r.id in (:ids) and not exists "
+                    + "(select 1 from document_reference dr where dr.reference_id = r.id)", nativeQuery = true)
+    int deleteUnusedByIdIn(@Param("ids") Collection<Long> ids);
 }
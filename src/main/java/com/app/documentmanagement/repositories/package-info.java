@@ -0,0 +1,24 @@
+/**
+ * Spring Data repositories of document management.
+ * <p>
+ * Virtual threads: when application runs with {@Code spring.threads.virtual.enabled=true} (profile 
+ * {@Code virtual}) repository calls run on virtual threads. A virtual thread that blocks while holding a 
+ * monitor ({@Code synchronized} block or method) pins its carrier thread on JDK 21, and few pinned carriers
+ * are enough to stall all virtual threads. Code in this layer must therefore follow these rules:
+ * <ul>
+ * <li>Do not call repositories, or anything else doing JDBC or broker I/O, inside {@Code synchronized}. 
+ * Use {@Code java.util.concurrent.locks.ReentrantLock}, as {@Code ProcessedEventStore} does.</li>
+ * <li>Do not do database work inside {@Code ConcurrentHashMap.compute*} or Caffeine's {@Code get(key, loader)} 
+ * callbacks, they hold a monitor of the map bin while loader runs.</li>
+ * <li>Drivers and pools can pin on their own: HikariCP 5.1 uses {@Code ReentrantLock} and is safe, the embedded
+ * H2 driver synchronizes on its session, so with H2 each running statement pins a carrier for its duration. 
+ * Statements are short, but long running bulk statements are better run on platform threads or chunked like
+ * {@Code AuthorDeleteJobRunner} does.</li>
+ * <li>Hold database connections for as short as possible, number of concurrent requests is bounded by
+ * {@Code ConnectionPoolAdmissionFilter}, not by threads.</li>
+ * </ul>
+ * Run with {@Code -Djdk.tracePinnedThreads=short} to log stack traces of pinned threads.
+ * 
+ * @author Zeeshan Hanif
+ */
+package com.app.documentmanagement.repositories;
@@ -0,0 +1,119 @@
+package com.app.documentmanagement.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.documentmanagement.entities.Job;
+import com.app.documentmanagement.exceptions.AuthorNotFoundException;
+import com.app.documentmanagement.exceptions.JobNotFoundException;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.JobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code AuthorDeleteJobRunner} runs {@Code Job} of type AUTHOR_DELETE on application task executor.
+ * Documents of the author are deleted {@Code documentmanagement.jobs.delete.chunk.size} at a time with 
+ * bulk statements of {@Code DocumentService#deleteDocumentsByIds}. Each chunk and job checkpoint are 
+ * committed together, so a restarted job continues after last committed chunk. Author is deleted
+ * once no document is left
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Component
+public class AuthorDeleteJobRunner {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${documentmanagement.jobs.delete.chunk.size}")
+    private int chunkSize = 1000;
+
+    /**
+     * Runs job until it completes or fails. Job that is changed by another runner meanwhile is left to
+     * that runner, failed job is counted and retried by {@Code JobService}
+     * 
+     * @param jobId id of job
+     */
+    @Async
+    public void run(long jobId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info(String.format("Author Delete Job %s: Started", jobId));
+        try {
+            Boolean finished;
+            do {
+                finished = transactionTemplate.execute(status-> runChunk(jobId));
+            } while (!Boolean.TRUE.equals(finished));
+            log.info(String.format("Author Delete Job %s: Completed", jobId));
+        } catch (OptimisticLockingFailureException exception) {
+            // job was moved by another runner after this one read it, so that runner owns the job now
+            log.info(String.format("Author Delete Job %s: Stopped, job is run by another runner", jobId));
+        } catch (Exception exception) {
+            log.error(String.format("Author Delete Job %s: Failed = %s", jobId, exception.getMessage()));
+            transactionTemplate.executeWithoutResult(status-> jobRepository.findById(jobId)
+                            .filter(job-> job.getStatus() != Job.Status.COMPLETED).ifPresent(job-> {
+                job.setStatus(Job.Status.FAILED);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setError(exception.getMessage() == null ? exception.getClass().getSimpleName() 
+                                : exception.getMessage().substring(0, Math.min(1000, exception.getMessage().length())));
+                job.setUpdatedAt(Instant.now());
+            }));
+        }
+    }
+
+    /**
+     * Deletes next chunk of documents and moves checkpoint, or deletes author when no document is left
+     * 
+     * @param jobId id of job
+     * @return {@Code true} if job is finished
+     */
+    private boolean runChunk(long jobId) {
+        Job job = jobRepository.findById(jobId).orElseThrow(()-> new JobNotFoundException("No Such Job Exists with id "+jobId));
+        if (job.getStatus() == Job.Status.COMPLETED || job.getStatus() == Job.Status.FAILED) {
+            return true;
+        }
+        job.setStatus(Job.Status.RUNNING);
+        List<Long> documentIds = documentRepository.findIdsByAuthorIdAfter(job.getTargetId(), job.getCheckpoint(), Limit.of(chunkSize));
+        if (documentIds.isEmpty()) {
+            deleteAuthor(job.getTargetId());
+            job.setStatus(Job.Status.COMPLETED);
+        } else {
+            job.setProcessed(job.getProcessed() + documentService.deleteDocumentsByIds(documentIds));
+            job.setCheckpoint(documentIds.get(documentIds.size() - 1));
+        }
+        job.setUpdatedAt(Instant.now());
+        // bulk delete clears persistence context, so job is merged back instead of relying on dirty checking
+        jobRepository.save(job);
+        return job.getStatus() == Job.Status.COMPLETED;
+    }
+
+    private void deleteAuthor(long authorId) {
+        try {
+            authorService.deleteAuthorById(authorId);
+        } catch (AuthorNotFoundException exception) {
+            log.info(String.format("Author with ID %s is already deleted", authorId));
+        }
+    }
+}
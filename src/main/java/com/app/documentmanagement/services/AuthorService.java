@@ -2,7 +2,13 @@ package com.app.documentmanagement.services;
 
 import java.util.List;
 
+import com.app.documentmanagement.dto.AuthorComponentDTO;
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.CoAuthorDTO;
+import com.app.documentmanagement.dto.CollaborationPathDTO;
+import com.app.documentmanagement.dto.CollaboratorDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.entities.Author;
 
 
@@ -36,6 +42,66 @@ public interface AuthorService {
      */
     List<AuthorDTO> getAllAuthors();
 
+    /**
+     * This method will return one page of {@Code AuthorDTO} ordered by id, starting right after
+     * the provided cursor. Pages are read with a seek query so the cost does not grow with page number.
+     * 
+     * @param after id of last author of previous page, 0 for first page
+     * @param limit maximum number of authors in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with authors and cursor for next page
+     */
+    KeysetPageDTO<AuthorDTO> getAuthorsPage(long after, int limit);
+
+    /**
+     * This method will return authors whose name starts with provided prefix, for type-ahead.
+     * Either first or last name can be typed first, case and accents are ignored. Names are read 
+     * from in memory index, database is not queried
+     * 
+     * @param prefix beginning of author name
+     * @param limit maximum number of authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code AuthorDTO} without documents in alphabetical order
+     */
+    List<AuthorDTO> suggestAuthors(String prefix, int limit);
+
+    /**
+     * This method will return authors that wrote at least one document with provided author, ranked by
+     * number of shared documents. Co-authors are read from in memory co-authorship graph
+     * 
+     * @param id id of author
+     * @param limit maximum number of co-authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CoAuthorDTO}, authors sharing most documents first
+     * @throws AuthorNotFoundException if id provided does not exists
+     */
+    List<CoAuthorDTO> getCoAuthors(long id, int limit);
+
+    /**
+     * This method will return authors with most distinct co-authors, read from in memory co-authorship graph
+     * 
+     * @param limit maximum number of authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CollaboratorDTO}, most connected first
+     */
+    List<CollaboratorDTO> getMostConnectedAuthors(int limit);
+
+    /**
+     * This method will return groups of authors that are connected through co-authorship, largest first.
+     * Groups are computed from in memory co-authorship graph
+     * 
+     * @param limit maximum number of groups, it will be capped by configured max limit
+     * @return {@Code List} of {@Code AuthorComponentDTO}
+     */
+    List<AuthorComponentDTO> getCollaborationComponents(int limit);
+
+    /**
+     * This method will return shortest chain of co-authorship from one author to another, found with
+     * breadth first search over in memory co-authorship graph
+     * 
+     * @param fromId id of first author
+     * @param toId id of last author
+     * @return {@Code CollaborationPathDTO}, with empty path if authors are not connected
+     * @throws AuthorNotFoundException if any of ids provided does not exists
+     */
+    CollaborationPathDTO getCollaborationPath(long fromId, long toId);
+
     /**
      * This method will return {@Code AuthorDTO} from database using provided id
      * 
@@ -45,6 +111,24 @@ public interface AuthorService {
      */
     AuthorDTO getAuthorById(long id);
 
+    /**
+     * This method will return many {@Code AuthorDTO} with one query. Authors are returned in the order
+     * of provided ids, repeated ids are returned once and ids that do not exist are reported as missing
+     * 
+     * @param ids ids of authors to be found
+     * @return {@Code MultiGetDTO} with found authors and missing ids
+     * @throws BatchTooLargeException if more ids are provided than configured max limit
+     */
+    MultiGetDTO<AuthorDTO> getAuthorsByIds(List<Long> ids);
+
+    /**
+     * This method will check that {@Code Author} exists without loading it
+     * 
+     * @param id id of author
+     * @throws AuthorNotFoundException if id provided does not exists
+     */
+    void ensureAuthorExists(long id);
+
     /**
      * Update the {@Code Author} data into database using {@Code AuthorRepository} if data provided is valid.
      * 
@@ -56,6 +140,20 @@ public interface AuthorService {
      */
     AuthorDTO updateAuthor(long authorId, AuthorDTO authorDto);
 
+    /**
+     * Update the {@Code Author} data into database only if its current version tag matches one of 
+     * the tags provided in {@Code If-Match} header.
+     * 
+     * @param authorId id for {@Code Author} that needs to be updated
+     * @param authorDto DTO object that will be updated into database
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} author is updated unconditionally
+     * @return {@Code AuthorDTO} that is returned from database repository
+     * @throws AuthorNotFoundException if id provided does not exists in database
+     * @throws DocumentNotFoundException if any {@Code Document} from the list provided does not exists in database
+     * @throws PreconditionFailedException if author was modified after client read it
+     */
+    AuthorDTO updateAuthor(long authorId, AuthorDTO authorDto, String ifMatch);
+
     /**
      * Delete the {@Code Author} from database using provided id.
      * {@Code Author} cannot be deleted if it is assigned to any document in database.
@@ -2,22 +2,46 @@ package com.app.documentmanagement.services;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.app.documentmanagement.cache.CacheConfig;
+import com.app.documentmanagement.dto.AuthorComponentDTO;
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.CoAuthorDTO;
+import com.app.documentmanagement.dto.CollaborationPathDTO;
+import com.app.documentmanagement.dto.CollaboratorDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.dto.ReferenceDTO;
 import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.events.ChangeType;
 import com.app.documentmanagement.exceptions.AuthorAlreadyExistsException;
 import com.app.documentmanagement.exceptions.AuthorNotFoundException;
 import com.app.documentmanagement.exceptions.AuthorNullValueException;
+import com.app.documentmanagement.exceptions.BatchTooLargeException;
 import com.app.documentmanagement.exceptions.DocumentAttachedToAuthorException;
 import com.app.documentmanagement.exceptions.DocumentNotFoundException;
+import com.app.documentmanagement.exceptions.PreconditionFailedException;
+import com.app.documentmanagement.index.AuthorNameIndex;
+import com.app.documentmanagement.index.CoAuthorshipIndex;
+import com.app.documentmanagement.index.ExistingIdFilters;
 import com.app.documentmanagement.repositories.AuthorRepository;
 import com.app.documentmanagement.repositories.DocumentRepository;
 
@@ -56,6 +80,52 @@ public class AuthorServiceImpl implements AuthorService{
      */
     @Autowired
     private ModelMapper modelMapper;
+
+    /**
+     * {@Code ApplicationEventPublisher} to notify listeners (e.g. cache eviction) about changed authors
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@Code ExistingIdFilters} to reject ids that surely do not exist without database query
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ExistingIdFilters existingIdFilters;
+
+    /**
+     * {@Code AuthorNameIndex} to find authors by name prefix without query
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private AuthorNameIndex authorNameIndex;
+
+    /**
+     * {@Code CoAuthorshipIndex} to answer co-authorship queries without loading authors with their documents
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private CoAuthorshipIndex coAuthorshipIndex;
+
+    /**
+     * Maximum number of authors that can be requested in one page
+     */
+    @Value("${documentmanagement.pagination.max.limit:500}")
+    private int maxPageLimit = 500;
+
+    /**
+     * Maximum number of authors that can be suggested in one request
+     */
+    @Value("${documentmanagement.suggest.max.limit:50}")
+    private int maxSuggestLimit = 50;
+
+    /**
+     * Maximum number of authors or groups that can be returned by one co-authorship query
+     */
+    @Value("${documentmanagement.coauthors.max.limit:100}")
+    private int maxCoAuthorsLimit = 100;
     
 
     /**
@@ -70,6 +140,7 @@ public class AuthorServiceImpl implements AuthorService{
      * @throws AuthorAlreadyExistsException if author with same first and last name already exists 
      */
     @Override
+    @Transactional
     public AuthorDTO saveAuthor(AuthorDTO authorDto){
         log.info("Author Save: Started");
         if(authorDto.getFirstName() == null || "" == authorDto.getFirstName()
@@ -82,6 +153,7 @@ public class AuthorServiceImpl implements AuthorService{
         }
         Author author = new Author(authorDto.getId(),authorDto.getFirstName(),authorDto.getLastName());
         Author savedAuthor = authorRepository.save(author);
+        eventPublisher.publishEvent(new AuthorChangedEvent(ChangeType.CREATED, savedAuthor.getId(), Set.of(), Set.of()));
         log.info("Author Save: Completed");
         return new AuthorDTO(savedAuthor.getId(),savedAuthor.getFirstName(),savedAuthor.getLastName());
         
@@ -97,21 +169,160 @@ public class AuthorServiceImpl implements AuthorService{
      * @return {@Code List} of {@Code AuthorDTO} that is returned from database repository 
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AuthorDTO> getAllAuthors() {
-        return authorRepository.findAll().stream().map(author-> convertEntityToDTO(author)).toList();
+        return authorRepository.findAllWithDocumentsBy().stream().map(author-> convertEntityToDTO(author)).toList();
+    }
+
+    /**
+     * This method will return one page of {@Code AuthorDTO} ordered by id, starting right after
+     * the provided cursor. Pages are read with a seek query so the cost does not grow with page number.
+     * One extra row is read to find out if there is a next page.
+     * 
+     * @param after id of last author of previous page, 0 for first page
+     * @param limit maximum number of authors in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with authors and cursor for next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<AuthorDTO> getAuthorsPage(long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        List<Author> authors = authorRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        List<AuthorDTO> authorDtos = authors.stream().limit(pageSize)
+                        .map(author-> convertEntityToDTO(author)).toList();
+        Long nextCursor = authors.size() > pageSize ? authorDtos.get(pageSize - 1).getId() : null;
+        return new KeysetPageDTO<>(authorDtos, pageSize, nextCursor);
     }
 
     /**
-     * This method will return {@Code AuthorDTO} from database using provided id
+     * This method will return {@Code AuthorDTO} from database using provided id.
+     * Result is cached, cached entry is evicted when author, any of its documents or co-authors is changed
      * 
      * @param id id of author to be found
      * @return {@Code AuthorDTO} that is returned from database repository
      * @throws AuthorNotFoundException if id provided does not exists
      */
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.AUTHORS_CACHE, sync = true)
     public AuthorDTO getAuthorById(long id) {
-        return authorRepository.findById(id).map(author-> convertEntityToDTO(author))
-                            .orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+id));
+        if (existingIdFilters.isAuthorDefinitelyAbsent(id)) {
+            throw AuthorNotFoundException.forId(id);
+        }
+        return authorRepository.findWithDocumentsById(id).map(author-> convertEntityToDTO(author))
+                            .orElseThrow(()-> AuthorNotFoundException.forId(id));
+    }
+
+    /**
+     * This method will return authors whose name starts with provided prefix, for type-ahead.
+     * Either first or last name can be typed first, case and accents are ignored. Names are read 
+     * from in memory {@Code AuthorNameIndex}, database is not queried
+     * 
+     * @param prefix beginning of author name
+     * @param limit maximum number of authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code AuthorDTO} without documents in alphabetical order
+     */
+    @Override
+    public List<AuthorDTO> suggestAuthors(String prefix, int limit) {
+        return authorNameIndex.suggest(prefix, Math.max(1, Math.min(limit, maxSuggestLimit)));
+    }
+
+    /**
+     * This method will return authors that wrote at least one document with provided author, ranked by
+     * number of shared documents. Co-authors are read from in memory {@Code CoAuthorshipIndex}, only
+     * existence of author is checked in database
+     * 
+     * @param id id of author
+     * @param limit maximum number of co-authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CoAuthorDTO}, authors sharing most documents first
+     * @throws AuthorNotFoundException if id provided does not exists
+     */
+    @Override
+    public List<CoAuthorDTO> getCoAuthors(long id, int limit) {
+        ensureAuthorExists(id);
+        return coAuthorshipIndex.coAuthors(id, coAuthorsLimitOf(limit));
+    }
+
+    /**
+     * This method will return authors with most distinct co-authors, read from in memory {@Code CoAuthorshipIndex}
+     * 
+     * @param limit maximum number of authors, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CollaboratorDTO}, most connected first
+     */
+    @Override
+    public List<CollaboratorDTO> getMostConnectedAuthors(int limit) {
+        return coAuthorshipIndex.mostConnected(coAuthorsLimitOf(limit));
+    }
+
+    /**
+     * This method will return groups of authors that are connected through co-authorship, largest first.
+     * Groups are computed from in memory {@Code CoAuthorshipIndex} once per change of graph
+     * 
+     * @param limit maximum number of groups, it will be capped by configured max limit
+     * @return {@Code List} of {@Code AuthorComponentDTO}
+     */
+    @Override
+    public List<AuthorComponentDTO> getCollaborationComponents(int limit) {
+        return coAuthorshipIndex.components(coAuthorsLimitOf(limit));
+    }
+
+    /**
+     * This method will return shortest chain of co-authorship from one author to another, found with
+     * breadth first search over in memory {@Code CoAuthorshipIndex}
+     * 
+     * @param fromId id of first author
+     * @param toId id of last author
+     * @return {@Code CollaborationPathDTO}, with empty path if authors are not connected
+     * @throws AuthorNotFoundException if any of ids provided does not exists
+     */
+    @Override
+    public CollaborationPathDTO getCollaborationPath(long fromId, long toId) {
+        ensureAuthorExists(fromId);
+        ensureAuthorExists(toId);
+        return coAuthorshipIndex.path(fromId, toId);
+    }
+
+    /**
+     * This method will return many {@Code AuthorDTO} with one query. Authors are returned in the order
+     * of provided ids, repeated ids are returned once and ids that do not exist are reported as missing
+     * 
+     * @param ids ids of authors to be found
+     * @return {@Code MultiGetDTO} with found authors and missing ids
+     * @throws BatchTooLargeException if more ids are provided than configured max limit
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MultiGetDTO<AuthorDTO> getAuthorsByIds(List<Long> ids) {
+        List<Long> requestedIds = ids.stream().distinct().toList();
+        if (requestedIds.size() > maxPageLimit) {
+            throw new BatchTooLargeException("Can not get more than "+maxPageLimit+" authors in one request");
+        }
+        List<Long> candidateIds = requestedIds.stream().filter(id-> !existingIdFilters.isAuthorDefinitelyAbsent(id)).toList();
+        Map<Long, Author> authorsById = (candidateIds.isEmpty() ? List.<Author>of() : authorRepository.findWithDocumentsByIdIn(candidateIds)).stream()
+                        .collect(Collectors.toMap(Author::getId, author-> author));
+        List<AuthorDTO> authorDtos = new ArrayList<>(authorsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Author author = authorsById.get(id);
+            if (author == null) {
+                missingIds.add(id);
+            } else {
+                authorDtos.add(convertEntityToDTO(author));
+            }
+        }
+        return new MultiGetDTO<>(authorDtos, missingIds);
+    }
+
+    /**
+     * This method will check that {@Code Author} exists without loading it
+     * 
+     * @param id id of author
+     * @throws AuthorNotFoundException if id provided does not exists
+     */
+    public void ensureAuthorExists(long id) {
+        if (existingIdFilters.isAuthorDefinitelyAbsent(id) || !authorRepository.existsById(id)) {
+            throw AuthorNotFoundException.forId(id);
+        }
     }
 
     /**
@@ -124,10 +335,34 @@ public class AuthorServiceImpl implements AuthorService{
      * @throws DocumentNotFoundException if any {@Code Document} from the list provided does not exists in database
      */
     @Override
+    @Transactional
     public AuthorDTO updateAuthor(long authorId, AuthorDTO authorDto) {
+        return updateAuthor(authorId, authorDto, null);
+    }
+
+    /**
+     * Update the {@Code Author} data into database only if its current version tag matches one of 
+     * the tags provided in {@Code If-Match} header. Tag is compared with the loaded author, and
+     * version column guards the update statement, so change made by another request after this check
+     * fails with {@Code OptimisticLockingFailureException}
+     * 
+     * @param authorId id for {@Code Author} that needs to be updated
+     * @param authorDto DTO object that will be updated into database
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} author is updated unconditionally
+     * @return {@Code AuthorDTO} that is returned from database repository
+     * @throws AuthorNotFoundException if id provided does not exists in database
+     * @throws DocumentNotFoundException if any {@Code Document} from the list provided does not exists in database
+     * @throws PreconditionFailedException if author was modified after client read it
+     */
+    @Override
+    @Transactional
+    public AuthorDTO updateAuthor(long authorId, AuthorDTO authorDto, String ifMatch) {
         log.info("Author Updated: Started");
-        Author originalAuthor = authorRepository.findById(authorId)
+        Author originalAuthor = authorRepository.findWithDocumentsById(authorId)
                             .orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+authorId));
+        if (ifMatch != null && !EntityTags.matches(ifMatch, versionTagOf(originalAuthor))) {
+            throw new PreconditionFailedException("Author with id "+authorId+" has been modified");
+        }
 
         if (Objects.nonNull(authorDto.getFirstName()) && !"".equalsIgnoreCase(authorDto.getFirstName())) {
             originalAuthor.setFirstName(authorDto.getFirstName());
@@ -135,19 +370,29 @@ public class AuthorServiceImpl implements AuthorService{
         if (Objects.nonNull(authorDto.getLastName()) && !"".equalsIgnoreCase(authorDto.getLastName())) {
             originalAuthor.setLastName(authorDto.getLastName());
         }
+        List<Document> affectedDocuments = new ArrayList<>();
+        if(originalAuthor.getDocuments() != null) {
+            affectedDocuments.addAll(originalAuthor.getDocuments());
+        }
         if(Objects.nonNull(authorDto.getDocuments()) && authorDto.getDocuments().size()>0) {
-            List<Document> documents = authorDto.getDocuments().stream()
-                        .map(document-> documentRepository.findById(document.getId())
-                        .orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+document.getId())))
+            List<Long> documentIds = authorDto.getDocuments().stream().map(DocumentDTO::getId).distinct().toList();
+            Map<Long, Document> documentsById = documentRepository.findWithAuthorsByIdIn(documentIds).stream()
+                        .collect(Collectors.toMap(Document::getId, document-> document));
+            List<Document> documents = documentIds.stream()
+                        .map(id-> Optional.ofNullable(documentsById.get(id))
+                        .orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id)))
                         .toList();
             
             documents.forEach(document-> {
                 document.getAuthors().add(originalAuthor);
                 documentRepository.save(document);
             });
+            affectedDocuments.addAll(documents);
         }
+        Author savedAuthor = authorRepository.save(originalAuthor);
+        publishAuthorChanged(ChangeType.UPDATED, authorId, affectedDocuments);
         log.info("Author Updated: Completed");
-        return convertEntityToDTO(authorRepository.save(originalAuthor));
+        return convertEntityToDTO(savedAuthor);
     }
 
     /**
@@ -161,14 +406,16 @@ public class AuthorServiceImpl implements AuthorService{
      * @throws DocumentAttachedToAuthorException if any document is assigned to author
      */
     @Override
+    @Transactional
     public boolean deleteAuthorById(long id){
         log.info("Author Delete: Started");
-        Author author = authorRepository.findById(id).orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+id));
+        Author author = authorRepository.findWithDocumentsById(id).orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+id));
         if(author != null && author.getDocuments() != null && author.getDocuments().size()>0) {
             throw new DocumentAttachedToAuthorException("Author cannot be delete if document is attached");
         }
         if(author != null){
             authorRepository.deleteById(id);
+            publishAuthorChanged(ChangeType.DELETED, id, List.of());
             log.info("Author Delete: Completed");
             return true;
         }
@@ -176,6 +423,59 @@ public class AuthorServiceImpl implements AuthorService{
         return false;
     }
 
+    /**
+     * Utility method to compute version tag of loaded {@Code Author}. {@Code AuthorDTO} embeds documents of
+     * author and their authors, so tag is made of version of author and aggregates over every (document, co-author) pair
+     * 
+     * @param author {@Code Author} with its documents
+     * @return version tag of author
+     */
+    private String versionTagOf(Author author) {
+        long pairs = 0, documentVersions = 0, documentIds = 0, coAuthorVersions = 0;
+        if (author.getDocuments() != null) {
+            for (Document document : author.getDocuments()) {
+                for (Author coAuthor : document.getAuthors()) {
+                    pairs++;
+                    documentVersions += document.getVersion();
+                    documentIds += document.getId();
+                    coAuthorVersions += coAuthor.getVersion();
+                }
+            }
+        }
+        return author.getVersion() + "." + pairs + "." + documentVersions + "." + documentIds + "." + coAuthorVersions;
+    }
+
+    /**
+     * Utility method to keep requested number of co-authorship results between 1 and configured max limit
+     * 
+     * @param limit requested number of results
+     * @return number of results to return
+     */
+    private int coAuthorsLimitOf(int limit) {
+        return Math.max(1, Math.min(limit, maxCoAuthorsLimit));
+    }
+
+    /**
+     * Utility method to publish {@Code AuthorChangedEvent} with ids of documents of the author and 
+     * ids of other authors of those documents
+     * 
+     * @param changeType what happened to the author
+     * @param authorId id of changed author
+     * @param documents documents the author is part of
+     */
+    private void publishAuthorChanged(ChangeType changeType, long authorId, List<Document> documents) {
+        Set<Long> documentIds = new HashSet<>();
+        Set<Long> coAuthorIds = new HashSet<>();
+        documents.forEach(document-> {
+            documentIds.add(document.getId());
+            if(document.getAuthors() != null) {
+                document.getAuthors().forEach(author-> coAuthorIds.add(author.getId()));
+            }
+        });
+        coAuthorIds.remove(authorId);
+        eventPublisher.publishEvent(new AuthorChangedEvent(changeType, authorId, documentIds, coAuthorIds));
+    }
+
     /**
      * Utitlity method to convert {@Code Author} entity to {@Code AuthorDTO} DTO
      * This mehtod will convert all the nested documents {@Code Document} and references {@Code Reference}
@@ -200,6 +500,7 @@ public class AuthorServiceImpl implements AuthorService{
                     }).toList();
         }
         AuthorDTO authorDto = new AuthorDTO(authorEntity.getId(), authorEntity.getFirstName(), authorEntity.getLastName(),documentDtos);
+        authorDto.setVersionTag(versionTagOf(authorEntity));
         return authorDto;
     }
 }
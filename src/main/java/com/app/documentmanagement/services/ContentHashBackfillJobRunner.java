@@ -0,0 +1,152 @@
+package com.app.documentmanagement.services;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Job;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.exceptions.JobNotFoundException;
+import com.app.documentmanagement.index.ContentHasher;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.JobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@Code ContentHashBackfillJobRunner} runs {@Code Job} of type CONTENT_HASH_BACKFILL on application task 
+ * executor. Documents without content hash are read {@Code documentmanagement.jobs.backfill.chunk.size} at a 
+ * time in id order, so each chunk is a short transaction that touches only its own rows and table is never 
+ * locked as a whole. Hash is set with update statement that does not increment version, so ETags of documents
+ * stay valid. Each chunk and job checkpoint are committed together, so a restarted job continues after last 
+ * committed chunk. Document whose content is the same as of an earlier document keeps no hash and is 
+ * reported in log, it is left for manual cleanup. Same content may also be saved by a concurrent request
+ * after chunk checked hashes, then chunk is rolled back and hashed again one document per transaction,
+ * so only the colliding document is skipped
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Component
+public class ContentHashBackfillJobRunner {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${documentmanagement.jobs.backfill.chunk.size}")
+    private int chunkSize = 500;
+
+    /**
+     * Runs job until it completes or fails. Job that is changed by another runner meanwhile is left to
+     * that runner, failed job is counted and retried by {@Code JobService}
+     * 
+     * @param jobId id of job
+     */
+    @Async
+    public void run(long jobId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        log.info(String.format("Content Hash Backfill Job %s: Started", jobId));
+        try {
+            Boolean finished;
+            do {
+                try {
+                    finished = transactionTemplate.execute(status-> runChunk(jobId, false));
+                } catch (DataIntegrityViolationException exception) {
+                    log.warn(String.format("Content Hash Backfill Job %s: Same content was saved concurrently, hashing chunk one document at a time", jobId));
+                    finished = transactionTemplate.execute(status-> runChunk(jobId, true));
+                }
+            } while (!Boolean.TRUE.equals(finished));
+            log.info(String.format("Content Hash Backfill Job %s: Completed", jobId));
+        } catch (OptimisticLockingFailureException exception) {
+            log.info(String.format("Content Hash Backfill Job %s: Stopped, job is run by another runner", jobId));
+        } catch (Exception exception) {
+            log.error(String.format("Content Hash Backfill Job %s: Failed = %s", jobId, exception.getMessage()));
+            transactionTemplate.executeWithoutResult(status-> jobRepository.findById(jobId)
+                            .filter(job-> job.getStatus() != Job.Status.COMPLETED).ifPresent(job-> {
+                job.setStatus(Job.Status.FAILED);
+                job.setAttempts(job.getAttempts() + 1);
+                job.setError(exception.getMessage() == null ? exception.getClass().getSimpleName() 
+                                : exception.getMessage().substring(0, Math.min(1000, exception.getMessage().length())));
+                job.setUpdatedAt(Instant.now());
+            }));
+        }
+    }
+
+    /**
+     * Hashes next chunk of documents and moves checkpoint, or completes job when no document is left
+     * 
+     * @param jobId id of job
+     * @param oneByOne if {@Code true} every hash is set in a transaction of its own and document whose
+     * content was saved meanwhile by another request is skipped
+     * @return {@Code true} if job is finished
+     */
+    private boolean runChunk(long jobId, boolean oneByOne) {
+        Job job = jobRepository.findById(jobId).orElseThrow(()-> new JobNotFoundException("No Such Job Exists with id "+jobId));
+        if (job.getStatus() == Job.Status.COMPLETED || job.getStatus() == Job.Status.FAILED) {
+            return true;
+        }
+        job.setStatus(Job.Status.RUNNING);
+        List<Document> documents = documentRepository.findByContentHashIsNullAndIdGreaterThanOrderByIdAsc(job.getCheckpoint(), Limit.of(chunkSize));
+        if (documents.isEmpty()) {
+            job.setStatus(Job.Status.COMPLETED);
+        } else {
+            List<String> contentHashes = documents.stream().map(this::contentHashOf).toList();
+            Set<String> usedContentHashes = new HashSet<>(documentRepository.findContentHashesIn(contentHashes));
+            for (int i = 0; i < documents.size(); i++) {
+                long documentId = documents.get(i).getId();
+                if (!usedContentHashes.add(contentHashes.get(i))) {
+                    log.warn(String.format("Content Hash Backfill Job %s: Document with id %s has same content as another document, it is left without hash", 
+                                    jobId, documentId));
+                } else if (!oneByOne) {
+                    documentRepository.setContentHashIfAbsent(documentId, contentHashes.get(i));
+                } else {
+                    setContentHashAlone(jobId, documentId, contentHashes.get(i));
+                }
+            }
+            job.setProcessed(job.getProcessed() + documents.size());
+            job.setCheckpoint(documents.get(documents.size() - 1).getId());
+        }
+        job.setUpdatedAt(Instant.now());
+        jobRepository.save(job);
+        return job.getStatus() == Job.Status.COMPLETED;
+    }
+
+    /**
+     * Sets content hash in a new transaction, so unique violation rolls back only this document
+     */
+    private void setContentHashAlone(long jobId, long documentId, String contentHash) {
+        TransactionTemplate documentTemplate = new TransactionTemplate(transactionManager);
+        documentTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            documentTemplate.executeWithoutResult(status-> documentRepository.setContentHashIfAbsent(documentId, contentHash));
+        } catch (DataIntegrityViolationException exception) {
+            log.warn(String.format("Content Hash Backfill Job %s: Document with id %s has same content as a document saved meanwhile, it is left without hash", 
+                            jobId, documentId));
+        }
+    }
+
+    private String contentHashOf(Document document) {
+        List<String> references = document.getReferences() == null ? List.of() 
+                        : document.getReferences().stream().map(Reference::getReference).toList();
+        return ContentHasher.hash(document.getTitle(), document.getBody(), references);
+    }
+}
@@ -1,9 +1,20 @@
 package com.app.documentmanagement.services;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
 
+import com.app.documentmanagement.dto.BatchResultDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
+import com.app.documentmanagement.dto.RelatedDocumentDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
 import com.app.documentmanagement.entities.Document;
+import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * This {@Code DocumentService} interface provides methods for database operations
@@ -24,9 +35,20 @@ public interface DocumentService {
      * @return {@Code DocumentDTO} that is returned from database repository
      * @throws DocumentNullValueException if any of the title, body, references or authors are null or empty
      * @throws AuthorNotFoundException if any of authors provided does not exists in system
+     * @throws DocumentAlreadyExistsException if document with same normalized content already exists
      */
     DocumentDTO saveDocument(DocumentDTO documentDto);
 
+    /**
+     * This method will save many new {@Code Document} into database in one request. Every item is validated
+     * like in {@Code saveDocument}, but invalid item does not fail the whole batch, its error is reported in result
+     * 
+     * @param documentDtos {@Code List} of {@Code DocumentDTO} that will be saved into database
+     * @return {@Code BatchResultDTO} with result of every item in the order of request
+     * @throws BatchTooLargeException if more documents are provided than allowed in one batch
+     */
+    BatchResultDTO saveDocuments(List<DocumentDTO> documentDtos);
+
     /**
      * This method will return {@Code List} of {@Code DocumentDTO} from database using {@Code DocumentRepository} if 
      * there is no data then it will return empty list. 
@@ -35,6 +57,47 @@ public interface DocumentService {
      */
     List<DocumentDTO> getAllDocuments();
 
+    /**
+     * This method will return one page of {@Code DocumentDTO} ordered by id, starting right after
+     * the provided cursor. Pages are read with a seek query so the cost does not grow with page number.
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with documents and cursor for next page
+     */
+    KeysetPageDTO<DocumentDTO> getDocumentsPage(long after, int limit);
+
+    /**
+     * This method will return one page of {@Code DocumentSummaryDTO} ordered by id, starting right after
+     * the provided cursor. Only id and title are read from database
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with document summaries and cursor for next page
+     */
+    KeysetPageDTO<DocumentSummaryDTO> getDocumentSummariesPage(long after, int limit);
+
+    /**
+     * This method will search title, body and references of documents and return one page of hits
+     * ranked by relevance. Search uses in memory index, database is not queried
+     * 
+     * @param query text to search, documents containing any of its words are matched
+     * @param offset number of best hits to skip
+     * @param limit maximum number of hits in page, it will be capped by configured max limit
+     * @return {@Code SearchPageDTO} with hits and total number of matched documents
+     */
+    SearchPageDTO searchDocuments(String query, int offset, int limit);
+
+    /**
+     * This method will write all the documents as newline delimited JSON (one {@Code DocumentDTO} per line)
+     * into provided {@Code OutputStream}. Documents are written as they are read from database cursor, 
+     * so memory usage does not depend on number of documents
+     * 
+     * @param outputStream stream where documents will be written
+     * @throws IOException if writing to stream fails
+     */
+    void exportDocuments(OutputStream outputStream) throws IOException;
+
     /**
      * This method will return {@Code DocumentDTO} from database using provided id
      * 
@@ -44,6 +107,43 @@ public interface DocumentService {
      */
     DocumentDTO getDocumentById(long id);
 
+    /**
+     * This method will return many {@Code DocumentDTO} with one query. Documents are returned in the order
+     * of provided ids, repeated ids are returned once and ids that do not exist are reported as missing
+     * 
+     * @param ids ids of documents to be found
+     * @return {@Code MultiGetDTO} with found documents and missing ids
+     * @throws BatchTooLargeException if more ids are provided than configured max limit
+     */
+    MultiGetDTO<DocumentDTO> getDocumentsByIds(List<Long> ids);
+
+    /**
+     * This method will check that {@Code Document} exists without loading it
+     * 
+     * @param id id of document
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    void ensureDocumentExists(long id);
+
+    /**
+     * This method will return existing documents that are near duplicates of a document
+     * 
+     * @param id id of document
+     * @return {@Code List} of {@Code DuplicateDTO}, most similar first
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    List<DuplicateDTO> getDuplicates(long id);
+
+    /**
+     * This method will return other documents that cite the same works as a document
+     * 
+     * @param id id of document
+     * @param limit maximum number of documents, it will be capped by configured max limit
+     * @return {@Code List} of {@Code RelatedDocumentDTO}, documents sharing most references first
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    List<RelatedDocumentDTO> getRelatedDocuments(long id, int limit);
+
     /**
      * Update the {@Code Document} data into database using {@Code DocumentRepository} if data provided is valid.
      * 
@@ -55,6 +155,37 @@ public interface DocumentService {
      */
     DocumentDTO updateDocument(long id, DocumentDTO documentDto);
 
+    /**
+     * Update the {@Code Document} data into database only if its current version tag matches one of 
+     * the tags provided in {@Code If-Match} header.
+     * 
+     * @param id id for {@Code Document} that needs to be updated
+     * @param documentDto DTO object that will be updated into database
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} document is updated unconditionally
+     * @return {@Code DocumentDTO} that is returned from database repository
+     * @throws DocumentNotFoundException if id provided does not exists in database
+     * @throws AuthorNotFoundException if any {@Code Author} from the list provided does not exists in database
+     * @throws PreconditionFailedException if document was modified after client read it
+     * @throws DocumentAlreadyExistsException if another document has the same content after change
+     */
+    DocumentDTO updateDocument(long id, DocumentDTO documentDto, String ifMatch);
+
+    /**
+     * Apply JSON Merge Patch (RFC 7396) to {@Code Document}. Only title, body and authors can be patched,
+     * members that are not present in patch are left unchanged
+     * 
+     * @param id id for {@Code Document} that needs to be patched
+     * @param mergePatch JSON object with members that need to be changed
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} document is patched unconditionally
+     * @return {@Code DocumentDTO} after patch is applied
+     * @throws DocumentNotFoundException if id provided does not exists in database
+     * @throws AuthorNotFoundException if any {@Code Author} from the list provided does not exists in database
+     * @throws InvalidPatchException if patch is not an object or contains member that can not be patched
+     * @throws PreconditionFailedException if document was modified after client read it
+     * @throws DocumentAlreadyExistsException if another document has the same content after change
+     */
+    DocumentDTO patchDocument(long id, JsonNode mergePatch, String ifMatch);
+
     /**
      * Delete the {@Code Document} from database using provided id. 
      * 
@@ -64,6 +195,23 @@ public interface DocumentService {
      */
     boolean deleteDocumentById(long id);
 
+    /**
+     * Delete many {@Code Document} from database with set based statements in one transaction.
+     * Ids that do not exist are ignored
+     * 
+     * @param ids ids of {@Code Document} that need to be deleted
+     * @return number of deleted documents
+     */
+    int deleteDocumentsByIds(Collection<Long> ids);
+
+    /**
+     * Delete all {@Code Document} attached to any of provided authors with set based statements in one transaction
+     * 
+     * @param authorIds ids of {@Code Author} whose documents need to be deleted
+     * @return number of deleted documents
+     */
+    int deleteDocumentsByAuthorIds(Collection<Long> authorIds);
+
     /**
      * Utitlity method to convert {@Code Document} entity to {@Code DocumentDTO} DTO
      * This mehtod will convert all the nested authors {@Code Author} and references {@Code Reference}
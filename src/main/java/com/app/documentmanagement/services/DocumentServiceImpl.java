@@ -1,24 +1,74 @@
 package com.app.documentmanagement.services;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.app.documentmanagement.cache.CacheConfig;
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.BatchItemResultDTO;
+import com.app.documentmanagement.dto.BatchResultDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.dto.RelatedDocumentDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
 import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.entities.Document;
 import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.events.DocumentChangedEvent;
 import com.app.documentmanagement.exceptions.AuthorNotFoundException;
+import com.app.documentmanagement.exceptions.AuthorNullValueException;
+import com.app.documentmanagement.exceptions.BatchTooLargeException;
+import com.app.documentmanagement.exceptions.DocumentAlreadyExistsException;
+import com.app.documentmanagement.exceptions.DocumentManagementException;
 import com.app.documentmanagement.exceptions.DocumentNotFoundException;
 import com.app.documentmanagement.exceptions.DocumentNullValueException;
+import com.app.documentmanagement.exceptions.InvalidPatchException;
+import com.app.documentmanagement.exceptions.PreconditionFailedException;
+import com.app.documentmanagement.index.CitationIndex;
+import com.app.documentmanagement.index.ContentHasher;
+import com.app.documentmanagement.index.DocumentSearchIndex;
+import com.app.documentmanagement.index.DuplicateDetector;
+import com.app.documentmanagement.index.ExistingIdFilters;
 import com.app.documentmanagement.repositories.AuthorRepository;
 import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.ReferenceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -48,6 +98,13 @@ public class DocumentServiceImpl implements DocumentService{
     @Autowired
     private AuthorRepository authorRepository;
 
+    /**
+     * {@Code ReferenceRepository} to find and clean up citations shared by documents.
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ReferenceRepository referenceRepository;
+
     /**
      * {@Code ModelMapper} to map object properties from database entities to data transfer objects
      * It will be auto wired by spring boot framework
@@ -55,59 +112,451 @@ public class DocumentServiceImpl implements DocumentService{
     @Autowired
     private ModelMapper modelMapper;
 
+    /**
+     * {@Code ObjectMapper} to write documents as JSON while exporting
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * {@Code ExistingIdFilters} to reject ids that surely do not exist without database query
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ExistingIdFilters existingIdFilters;
+
+    /**
+     * {@Code DocumentSearchIndex} to search documents without scanning documents table
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private DocumentSearchIndex documentSearchIndex;
+
+    /**
+     * {@Code DuplicateDetector} to find near duplicates of documents
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private DuplicateDetector duplicateDetector;
+
+    /**
+     * {@Code CitationIndex} to find documents that cite the same works
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private CitationIndex citationIndex;
+
+    /**
+     * {@Code ApplicationEventPublisher} to notify listeners (e.g. cache eviction) about changed documents
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@Code PlatformTransactionManager} to save every chunk of a batch in its own transaction
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * {@Code EntityManager} to detach exported documents from persistence context
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Number of rows fetched by JDBC driver in one round trip while exporting
+     */
+    @Value("${documentmanagement.export.fetch.size:500}")
+    private int exportFetchSize = 500;
+
+    /**
+     * Number of exported documents after which persistence context is cleared and output is flushed
+     */
+    @Value("${documentmanagement.export.chunk.size:500}")
+    private int exportChunkSize = 500;
+
+    /**
+     * Number of documents of a batch that are saved in one transaction
+     */
+    @Value("${documentmanagement.batch.chunk.size:500}")
+    private int batchChunkSize = 500;
+
+    /**
+     * Maximum number of documents accepted in one batch request
+     */
+    @Value("${documentmanagement.batch.max.size:10000}")
+    private int batchMaxSize = 10000;
+
+    /**
+     * Maximum number of documents that can be requested in one page
+     */
+    @Value("${documentmanagement.pagination.max.limit:500}")
+    private int maxPageLimit = 500;
+
+    /**
+     * What to do when saved document is near duplicate of an existing document
+     */
+    @Value("${documentmanagement.duplicates.mode:REJECT}")
+    private DuplicateDetector.Mode duplicateMode = DuplicateDetector.Mode.REJECT;
+
+    /**
+     * Maximum number of related documents that can be requested in one request
+     */
+    @Value("${documentmanagement.citations.max.limit:100}")
+    private int maxCitationsLimit = 100;
+
     /**
      * This method will save {@Code Document} data into database using {@Code DocumentRepository} if 
      * data provided is valid. 
      * Returns {@Code DocumentDTO} after saving data into database. If the any of the property is not 
-     * provided, then there will be an error 
+     * provided, then there will be an error. Exact copy of existing document, after normalization of title, 
+     * body and references, is always rejected using indexed content hash. Title and body are then compared 
+     * with existing documents and near duplicate is rejected or flagged, depending on 
+     * {@Code documentmanagement.duplicates.mode}. 
+     * If a citation of document is created by a concurrent request after it was looked up, document is saved
+     * again once in a new transaction, which then finds that citation
      * 
      * @param documentDto {@Code DocumentDTO} object that will be saved into database
      * @return {@Code DocumentDTO} that is returned from database repository
      * @throws DocumentNullValueException if any of the title, body, references or authors are null or empty
      * @throws AuthorNotFoundException if any of authors provided does not exists in system
+     * @throws DocumentAlreadyExistsException if document with same content exists, or near duplicates are rejected and document has one
      */
     public DocumentDTO saveDocument(DocumentDTO documentDto){
+        return retryOnCitationConflict(new TransactionTemplate(transactionManager), status-> persistDocument(documentDto));
+    }
+
+    /**
+     * Utility method to save new {@Code Document}, it must be called inside a transaction
+     * 
+     * @param documentDto {@Code DocumentDTO} that needs to be saved
+     * @return {@Code DocumentDTO} of saved document
+     */
+    private DocumentDTO persistDocument(DocumentDTO documentDto) {
         log.info("Document Save: Started");
-        if(documentDto.getTitle() == null || documentDto.getBody() == null) {
-            throw new DocumentNullValueException("Title and body must be provided");
-        }
-        if(documentDto.getReferences() == null || documentDto.getReferences().size() == 0){
-            throw new DocumentNullValueException("References must be provided");
-        }
-        if(documentDto.getAuthors() != null && documentDto.getAuthors().size() > 0) {
-            documentDto.getAuthors().forEach(author-> authorRepository.findById(author.getId())
-                        .orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+author.getId())));
-        } else {
-            throw new DocumentNullValueException("Authors must be provided");
+        validateDocument(documentDto);
+        String contentHash = contentHashOf(documentDto);
+        ensureContentIsUnique(contentHash, 0);
+        List<DuplicateDTO> duplicates = duplicateMode == DuplicateDetector.Mode.OFF ? List.of()
+                        : duplicateDetector.findDuplicates(documentDto.getTitle(), documentDto.getBody());
+        if (!duplicates.isEmpty() && duplicateMode == DuplicateDetector.Mode.REJECT) {
+            throw new DocumentAlreadyExistsException(nearDuplicateMessage(duplicates));
         }
+        documentDto.getAuthors().forEach(author-> {
+            if (!authorRepository.existsById(author.getId())) {
+                throw new AuthorNotFoundException("No Such Author Exists with id "+author.getId());
+            }
+        });
         Document document = convertToDocumentEntityFromDoucmentDTO(documentDto);
+        List<String> referenceTexts = referenceTextsOf(documentDto);
+        document.setReferences(citationsOf(referenceTexts, findCitations(referenceTexts)));
+        document.setContentHash(contentHash);
+        Document savedDocument = documentRepository.save(document);
+        flushContent();
+        eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.CREATED, savedDocument.getId(), authorIdsOf(savedDocument)));
         log.info("Document Save: Completed");
-        return convertEntityToDTO(documentRepository.save(document));
+        DocumentDTO savedDocumentDto = convertEntityToDTO(savedDocument);
+        if (!duplicates.isEmpty()) {
+            log.warn(String.format("Document with id %s is a near duplicate of %s documents", savedDocument.getId(), duplicates.size()));
+            savedDocumentDto.setPossibleDuplicates(duplicates);
+        }
+        return savedDocumentDto;
 
         // TODO: findout later on why modelMapper injection not working in test cases
         //Document document = modelMapper.map(documentDto, Document.class);
         //return modelMapper.map(documentRepository.save(document),DocumentDTO.class);
     }
 
+    /**
+     * This method will save many new {@Code Document} into database in one request. All the authors of batch
+     * are checked with a single query, then valid documents are saved in chunks, one transaction per chunk, 
+     * so ids come from pooled sequence and inserts of documents, references and authors are sent in JDBC batches.
+     * If a chunk fails, its documents are saved again one by one so only the failing ones are reported.
+     * Content hashes of whole batch are checked with a single query, so exact copies of existing documents
+     * or of earlier documents of the same batch are reported as failed. Every item is then compared with existing 
+     * documents the same way as a single document, and near duplicate is reported as failed or flagged in its result, 
+     * depending on {@Code documentmanagement.duplicates.mode}.
+     * Ids provided for documents and references are ignored, batch only creates new documents
+     * 
+     * @param documentDtos {@Code List} of {@Code DocumentDTO} that will be saved into database
+     * @return {@Code BatchResultDTO} with result of every item in the order of request
+     * @throws BatchTooLargeException if more documents are provided than allowed in one batch
+     */
+    public BatchResultDTO saveDocuments(List<DocumentDTO> documentDtos) {
+        log.info(String.format("Document Batch Save: Started, %s documents", documentDtos.size()));
+        if (documentDtos.size() > batchMaxSize) {
+            throw new BatchTooLargeException("Batch can not contain more than "+batchMaxSize+" documents");
+        }
+        BatchItemResultDTO[] results = new BatchItemResultDTO[documentDtos.size()];
+        Set<Long> requestedAuthorIds = documentDtos.stream()
+                        .filter(documentDto-> documentDto != null && documentDto.getAuthors() != null)
+                        .flatMap(documentDto-> documentDto.getAuthors().stream())
+                        .filter(Objects::nonNull).map(AuthorDTO::getId).collect(Collectors.toSet());
+        Set<Long> existingAuthorIds = authorRepository.findAllById(requestedAuthorIds).stream()
+                        .map(Author::getId).collect(Collectors.toSet());
+
+        List<Integer> validIndexes = new ArrayList<>();
+        String[] contentHashes = new String[documentDtos.size()];
+        Map<String, Integer> firstIndexByContentHash = new HashMap<>();
+        for (int index = 0; index < documentDtos.size(); index++) {
+            try {
+                validateDocument(documentDtos.get(index));
+                documentDtos.get(index).getAuthors().stream().map(AuthorDTO::getId)
+                        .filter(authorId-> !existingAuthorIds.contains(authorId)).findFirst()
+                        .ifPresent(authorId-> {
+                            throw new AuthorNotFoundException("No Such Author Exists with id "+authorId);
+                        });
+                contentHashes[index] = contentHashOf(documentDtos.get(index));
+                Integer firstIndex = firstIndexByContentHash.putIfAbsent(contentHashes[index], index);
+                if (firstIndex != null) {
+                    throw new DocumentAlreadyExistsException("Document with same content is already in batch at index "+firstIndex);
+                }
+                validIndexes.add(index);
+            } catch (DocumentManagementException exception) {
+                results[index] = BatchItemResultDTO.failed(index, exception.getMessage());
+            }
+        }
+        if (!firstIndexByContentHash.isEmpty()) {
+            Set<String> existingContentHashes = new HashSet<>(documentRepository.findContentHashesIn(firstIndexByContentHash.keySet()));
+            validIndexes.removeIf(index-> {
+                if (!existingContentHashes.contains(contentHashes[index])) {
+                    return false;
+                }
+                results[index] = BatchItemResultDTO.failed(index, "Document with same content already exists");
+                return true;
+            });
+        }
+        Map<Integer, List<DuplicateDTO>> duplicatesByIndex = new HashMap<>();
+        if (duplicateMode != DuplicateDetector.Mode.OFF) {
+            validIndexes.removeIf(index-> {
+                List<DuplicateDTO> duplicates = duplicateDetector.findDuplicates(documentDtos.get(index).getTitle(), documentDtos.get(index).getBody());
+                if (duplicates.isEmpty()) {
+                    return false;
+                }
+                if (duplicateMode == DuplicateDetector.Mode.REJECT) {
+                    results[index] = BatchItemResultDTO.failed(index, nearDuplicateMessage(duplicates));
+                    return true;
+                }
+                duplicatesByIndex.put(index, duplicates);
+                return false;
+            });
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < validIndexes.size(); from += batchChunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + batchChunkSize, validIndexes.size()));
+            try {
+                List<Long> ids = transactionTemplate.execute(status-> {
+                    Map<String, Reference> citations = findCitations(chunk.stream()
+                                    .flatMap(index-> referenceTextsOf(documentDtos.get(index)).stream()).toList());
+                    return chunk.stream().map(index-> persistNewDocument(documentDtos.get(index), contentHashes[index], citations)).toList();
+                });
+                for (int i = 0; i < chunk.size(); i++) {
+                    results[chunk.get(i)] = BatchItemResultDTO.created(chunk.get(i), ids.get(i), duplicatesByIndex.get(chunk.get(i)));
+                }
+            } catch (RuntimeException chunkException) {
+                log.warn(String.format("Document Batch Save: Chunk of %s documents failed, saving them one by one -- Message: %s", 
+                                chunk.size(), chunkException.getMessage()));
+                for (Integer index : chunk) {
+                    try {
+                        Long id = retryOnCitationConflict(transactionTemplate, status-> persistNewDocument(documentDtos.get(index), 
+                                        contentHashes[index], findCitations(referenceTextsOf(documentDtos.get(index)))));
+                        results[index] = BatchItemResultDTO.created(index, id, duplicatesByIndex.get(index));
+                    } catch (RuntimeException itemException) {
+                        results[index] = BatchItemResultDTO.failed(index, batchItemError(index, itemException));
+                    }
+                }
+            }
+        }
+
+        List<BatchItemResultDTO> items = Arrays.asList(results);
+        int created = (int) items.stream().filter(item-> item.getStatus() == BatchItemResultDTO.Status.CREATED).count();
+        log.info(String.format("Document Batch Save: Completed, %s created, %s failed", created, items.size() - created));
+        return new BatchResultDTO(items.size(), created, items.size() - created, items);
+    }
+
     /**
      * This method will return {@Code List} of {@Code DocumentDTO} from database using {@Code DocumentRepository} if 
      * there is no data then it will return empty list. 
      * 
      * @return {@Code List} of {@Code DocumentDTO} that is returned from database repository 
      */
+    @Transactional(readOnly = true)
     public List<DocumentDTO> getAllDocuments() {
         return documentRepository.findAll().stream().map(document-> convertEntityToDTO(document)).toList();
     }
 
     /**
-     * This method will return {@Code DocumentDTO} from database using provided id
+     * This method will return one page of {@Code DocumentDTO} ordered by id, starting right after
+     * the provided cursor. Pages are read with a seek query so the cost does not grow with page number.
+     * One extra row is read to find out if there is a next page.
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with documents and cursor for next page
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<DocumentDTO> getDocumentsPage(long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        List<Document> documents = documentRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(pageSize + 1));
+        List<DocumentDTO> documentDtos = documents.stream().limit(pageSize)
+                        .map(document-> convertEntityToDTO(document)).toList();
+        Long nextCursor = documents.size() > pageSize ? documentDtos.get(pageSize - 1).getId() : null;
+        return new KeysetPageDTO<>(documentDtos, pageSize, nextCursor);
+    }
+
+    /**
+     * This method will return one page of {@Code DocumentSummaryDTO} ordered by id, starting right after
+     * the provided cursor. Only id and title are read from database using projection query
+     * 
+     * @param after id of last document of previous page, 0 for first page
+     * @param limit maximum number of documents in page, it will be capped by configured max limit
+     * @return {@Code KeysetPageDTO} with document summaries and cursor for next page
+     */
+    public KeysetPageDTO<DocumentSummaryDTO> getDocumentSummariesPage(long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        List<DocumentSummaryDTO> summaries = documentRepository.findSummariesByIdGreaterThan(after, Limit.of(pageSize + 1));
+        Long nextCursor = summaries.size() > pageSize ? summaries.get(pageSize - 1).getId() : null;
+        return new KeysetPageDTO<>(summaries.stream().limit(pageSize).toList(), pageSize, nextCursor);
+    }
+
+    /**
+     * This method will search title, body and references of documents and return one page of hits
+     * ranked with BM25. Hits are read from in memory {@Code DocumentSearchIndex}, database is not queried
+     * 
+     * @param query text to search, documents containing any of its words are matched
+     * @param offset number of best hits to skip
+     * @param limit maximum number of hits in page, it will be capped by configured max limit
+     * @return {@Code SearchPageDTO} with hits and total number of matched documents
+     */
+    public SearchPageDTO searchDocuments(String query, int offset, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageLimit));
+        return documentSearchIndex.search(query, Math.max(0, offset), pageSize);
+    }
+
+    /**
+     * This method will write all the documents as newline delimited JSON (one {@Code DocumentDTO} per line)
+     * into provided {@Code OutputStream}. Documents are read from database cursor in chunks, authors and references 
+     * of a chunk are batch loaded and persistence context is cleared after every chunk, so memory usage does not 
+     * depend on number of documents
+     * 
+     * @param outputStream stream where documents will be written
+     * @throws IOException if writing to stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportDocuments(OutputStream outputStream) throws IOException {
+        log.info("Document Export: Started");
+        long exported = 0;
+        List<Document> chunk = new ArrayList<>(exportChunkSize);
+        try (Stream<Document> documents = documentRepository.streamAll(exportFetchSize)) {
+            Iterator<Document> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == exportChunkSize || !iterator.hasNext()) {
+                    // whole chunk is in persistence context, so authors and references are batch loaded
+                    for (Document document : chunk) {
+                        outputStream.write(objectMapper.writeValueAsBytes(convertEntityToDTO(document)));
+                        outputStream.write('\n');
+                    }
+                    exported += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                    outputStream.flush();
+                }
+            }
+        }
+        log.info(String.format("Document Export: Completed, %s documents exported", exported));
+    }
+
+    /**
+     * This method will return {@Code DocumentDTO} from database using provided id.
+     * Result is cached, cached entry is evicted when document or any of its authors is changed
      * 
      * @param id id of document to be found
      * @return {@Code DocumentDTO} that is returned from database repository
      * @throws DocumentNotFoundException if id provided does not exists
      */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.DOCUMENTS_CACHE, sync = true)
     public DocumentDTO getDocumentById(long id) {
-        return documentRepository.findById(id).map(document-> convertEntityToDTO(document)).orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id));
+        if (existingIdFilters.isDocumentDefinitelyAbsent(id)) {
+            throw DocumentNotFoundException.forId(id);
+        }
+        return documentRepository.findById(id).map(document-> convertEntityToDTO(document)).orElseThrow(()-> DocumentNotFoundException.forId(id));
+    }
+
+    /**
+     * This method will return many {@Code DocumentDTO} with one query. Documents are returned in the order
+     * of provided ids, repeated ids are returned once and ids that do not exist are reported as missing
+     * 
+     * @param ids ids of documents to be found
+     * @return {@Code MultiGetDTO} with found documents and missing ids
+     * @throws BatchTooLargeException if more ids are provided than configured max limit
+     */
+    @Transactional(readOnly = true)
+    public MultiGetDTO<DocumentDTO> getDocumentsByIds(List<Long> ids) {
+        List<Long> requestedIds = ids.stream().distinct().toList();
+        if (requestedIds.size() > maxPageLimit) {
+            throw new BatchTooLargeException("Can not get more than "+maxPageLimit+" documents in one request");
+        }
+        List<Long> candidateIds = requestedIds.stream().filter(id-> !existingIdFilters.isDocumentDefinitelyAbsent(id)).toList();
+        Map<Long, Document> documentsById = (candidateIds.isEmpty() ? List.<Document>of() : documentRepository.findWithAuthorsByIdIn(candidateIds)).stream()
+                        .collect(Collectors.toMap(Document::getId, document-> document));
+        List<DocumentDTO> documentDtos = new ArrayList<>(documentsById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            Document document = documentsById.get(id);
+            if (document == null) {
+                missingIds.add(id);
+            } else {
+                documentDtos.add(convertEntityToDTO(document));
+            }
+        }
+        return new MultiGetDTO<>(documentDtos, missingIds);
+    }
+
+    /**
+     * This method will check that {@Code Document} exists without loading it
+     * 
+     * @param id id of document
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    public void ensureDocumentExists(long id) {
+        if (existingIdFilters.isDocumentDefinitelyAbsent(id) || !documentRepository.existsById(id)) {
+            throw DocumentNotFoundException.forId(id);
+        }
+    }
+
+    /**
+     * This method will return existing documents that are near duplicates of a document, by estimated
+     * Jaccard similarity of title and body
+     * 
+     * @param id id of document
+     * @return {@Code List} of {@Code DuplicateDTO}, most similar first
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    public List<DuplicateDTO> getDuplicates(long id) {
+        ensureDocumentExists(id);
+        return duplicateDetector.findDuplicates(id);
+    }
+
+    /**
+     * This method will return other documents that cite the same works as a document, ranked by number of
+     * shared references. References are compared in canonical form and read from in memory {@Code CitationIndex}, 
+     * so references table is not scanned
+     * 
+     * @param id id of document
+     * @param limit maximum number of documents, it will be capped by configured max limit
+     * @return {@Code List} of {@Code RelatedDocumentDTO}, documents sharing most references first
+     * @throws DocumentNotFoundException if id provided does not exists
+     */
+    public List<RelatedDocumentDTO> getRelatedDocuments(long id, int limit) {
+        ensureDocumentExists(id);
+        return citationIndex.related(id, Math.max(1, Math.min(limit, maxCitationsLimit)));
     }
 
     /**
@@ -119,10 +568,35 @@ public class DocumentServiceImpl implements DocumentService{
      * @throws DocumentNotFoundException if id provided does not exists in database
      * @throws AuthorNotFoundException if any {@Code Author} from the list provided does not exists in database
      */
+    @Transactional
     public DocumentDTO updateDocument(long id, DocumentDTO documentDto) {
+        return updateDocument(id, documentDto, null);
+    }
+
+    /**
+     * Update the {@Code Document} data into database only if its current version tag matches one of 
+     * the tags provided in {@Code If-Match} header. Tag is compared with the loaded document, and
+     * version column guards the update statement, so change made by another request after this check
+     * fails with {@Code OptimisticLockingFailureException}
+     * 
+     * @param id id for {@Code Document} that needs to be updated
+     * @param documentDto DTO object that will be updated into database
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} document is updated unconditionally
+     * @return {@Code DocumentDTO} that is returned from database repository
+     * @throws DocumentNotFoundException if id provided does not exists in database
+     * @throws AuthorNotFoundException if any {@Code Author} from the list provided does not exists in database
+     * @throws PreconditionFailedException if document was modified after client read it
+     * @throws DocumentAlreadyExistsException if another document has the same content after update
+     */
+    @Transactional
+    public DocumentDTO updateDocument(long id, DocumentDTO documentDto, String ifMatch) {
         log.info("Document Update: Started");
         Document originalDocument = documentRepository.findById(id)
                                 .orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id));
+        if (ifMatch != null && !EntityTags.matches(ifMatch, versionTagOf(originalDocument))) {
+            throw new PreconditionFailedException("Document with id "+id+" has been modified");
+        }
+        Set<Long> affectedAuthorIds = authorIdsOf(originalDocument);
         if (Objects.nonNull(documentDto.getTitle()) && !"".equalsIgnoreCase(documentDto.getTitle())) {
             originalDocument.setTitle(documentDto.getTitle());
         }
@@ -130,17 +604,69 @@ public class DocumentServiceImpl implements DocumentService{
             originalDocument.setBody(documentDto.getBody());
         }
         if(Objects.nonNull(documentDto.getAuthors()) && documentDto.getAuthors().size()>0) {
-            List<Author> authors = documentDto.getAuthors().stream()
-                        .map(author-> authorRepository.findById(author.getId())
-                        .orElseThrow(()-> new AuthorNotFoundException("No Such Author Exists with id "+author.getId())))
-                        .toList();
+            List<Author> authors = existingAuthors(documentDto.getAuthors().stream().map(AuthorDTO::getId).toList());
             if(authors != null && authors.size()>0){
-                originalDocument.getAuthors().clear();
-                originalDocument.getAuthors().addAll(authors);
+                replaceAuthors(originalDocument, authors);
             }
         }
+        updateContentHash(originalDocument);
+        Document savedDocument = documentRepository.save(originalDocument);
+        flushContent();
+        affectedAuthorIds.addAll(authorIdsOf(savedDocument));
+        eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.UPDATED, id, affectedAuthorIds));
         log.info("Document Update: Completed");
-        return convertEntityToDTO(documentRepository.save(originalDocument));
+        return convertEntityToDTO(savedDocument);
+    }
+
+    /**
+     * Apply JSON Merge Patch (RFC 7396) to {@Code Document}. Only title, body and authors can be patched,
+     * members that are not present in patch are left unchanged. Document is updated with dynamic update, 
+     * so only columns changed by patch are written, and only added or removed authors are written to join table
+     * 
+     * @param id id for {@Code Document} that needs to be patched
+     * @param mergePatch JSON object with members that need to be changed
+     * @param ifMatch value of {@Code If-Match} header, if {@Code null} document is patched unconditionally
+     * @return {@Code DocumentDTO} after patch is applied
+     * @throws DocumentNotFoundException if id provided does not exists in database
+     * @throws AuthorNotFoundException if any {@Code Author} from the list provided does not exists in database
+     * @throws InvalidPatchException if patch is not an object or contains member that can not be patched
+     * @throws PreconditionFailedException if document was modified after client read it
+     * @throws DocumentAlreadyExistsException if another document has the same content after patch
+     */
+    @Transactional
+    public DocumentDTO patchDocument(long id, JsonNode mergePatch, String ifMatch) {
+        log.info("Document Patch: Started");
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        Document originalDocument = documentRepository.findById(id)
+                                .orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id));
+        if (ifMatch != null && !EntityTags.matches(ifMatch, versionTagOf(originalDocument))) {
+            throw new PreconditionFailedException("Document with id "+id+" has been modified");
+        }
+        Set<Long> affectedAuthorIds = authorIdsOf(originalDocument);
+        Iterator<Map.Entry<String, JsonNode>> members = mergePatch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            JsonNode value = member.getValue();
+            switch (member.getKey()) {
+                case "title" -> originalDocument.setTitle(requiredText("title", value));
+                case "body" -> originalDocument.setBody(requiredText("body", value));
+                case "authors" -> replaceAuthors(originalDocument, requiredAuthors(value));
+                case "id" -> {
+                    if (!value.canConvertToLong() || value.asLong() != id) {
+                        throw new InvalidPatchException("id can not be changed");
+                    }
+                }
+                default -> throw new InvalidPatchException("Field "+member.getKey()+" can not be patched");
+            }
+        }
+        updateContentHash(originalDocument);
+        flushContent();
+        affectedAuthorIds.addAll(authorIdsOf(originalDocument));
+        eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.UPDATED, id, affectedAuthorIds));
+        log.info("Document Patch: Completed");
+        return convertEntityToDTO(originalDocument);
     }
 
     /**
@@ -150,11 +676,16 @@ public class DocumentServiceImpl implements DocumentService{
      * @return {@Code true} if {@Code Document} deleted successfully
      * @throws DocumentNotFoundException if id provided does not exists in database
      */
+    @Transactional
     public boolean deleteDocumentById(long id){
         log.info("Document Delete: Started");
-        Document document = documentRepository.findById(id).orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id));
+        Document document = documentRepository.findWithReferencesById(id).orElseThrow(()-> new DocumentNotFoundException("No Such Document Exists with id "+id));
         if(document != null){
-            documentRepository.deleteById(id);
+            Set<Long> authorIds = authorIdsOf(document);
+            List<Long> referenceIds = document.getReferences().stream().map(Reference::getId).distinct().toList();
+            documentRepository.delete(document);
+            deleteUnusedCitations(referenceIds);
+            eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.DELETED, id, authorIds));
             log.info("Document Delete: Completed");
             return true;
         }
@@ -162,6 +693,387 @@ public class DocumentServiceImpl implements DocumentService{
         return false;
     }
     
+    /**
+     * Utility method to change authors of managed {@Code Document} to provided authors. Authors that
+     * are already attached are kept, so hibernate writes only rows of removed and added authors
+     * 
+     * @param document managed {@Code Document} whose authors will be changed
+     * @param authors new authors of document
+     */
+    private void replaceAuthors(Document document, List<Author> authors) {
+        Set<Long> requestedAuthorIds = authors.stream().map(Author::getId).collect(Collectors.toSet());
+        document.getAuthors().removeIf(author-> !requestedAuthorIds.contains(author.getId()));
+        Set<Long> currentAuthorIds = authorIdsOf(document);
+        authors.stream().filter(author-> currentAuthorIds.add(author.getId())).forEach(document.getAuthors()::add);
+    }
+
+    /**
+     * Utility method to read mandatory text member of merge patch
+     * 
+     * @param name name of member
+     * @param value value of member
+     * @return text value
+     * @throws InvalidPatchException if value is null, not a string or empty
+     */
+    private String requiredText(String name, JsonNode value) {
+        if (!value.isTextual() || value.asText().isBlank()) {
+            throw new InvalidPatchException(name+" must be a non empty string");
+        }
+        return value.asText();
+    }
+
+    /**
+     * Utility method to read authors member of merge patch, it is an array of objects with id of author
+     * 
+     * @param value value of authors member
+     * @return {@Code List} of {@Code Author} loaded from database
+     * @throws InvalidPatchException if value is not a non empty array of objects with id
+     * @throws AuthorNotFoundException if any author does not exists in database
+     */
+    private List<Author> requiredAuthors(JsonNode value) {
+        if (!value.isArray() || value.isEmpty()) {
+            throw new InvalidPatchException("authors must be a non empty array");
+        }
+        List<Long> authorIds = new ArrayList<>();
+        for (JsonNode authorNode : value) {
+            if (!authorNode.path("id").canConvertToLong()) {
+                throw new InvalidPatchException("every author must have an id");
+            }
+            authorIds.add(authorNode.path("id").asLong());
+        }
+        return existingAuthors(authorIds);
+    }
+
+    /**
+     * Utility method to read authors with provided ids in one query, documents of authors are not loaded
+     * 
+     * @param authorIds ids of authors
+     * @return {@Code List} of {@Code Author} in order of provided ids
+     * @throws AuthorNotFoundException if any author does not exists in database
+     */
+    private List<Author> existingAuthors(List<Long> authorIds) {
+        Map<Long, Author> authorsById = authorRepository.findAllById(authorIds).stream()
+                        .collect(Collectors.toMap(Author::getId, author-> author));
+        List<Author> authors = new ArrayList<>();
+        for (Long authorId : authorIds) {
+            if (!authorsById.containsKey(authorId)) {
+                throw new AuthorNotFoundException("No Such Author Exists with id "+authorId);
+            }
+            authors.add(authorsById.get(authorId));
+        }
+        return authors;
+    }
+
+    /**
+     * Utility method to check that all mandatory fields of {@Code DocumentDTO} are provided
+     * 
+     * @param documentDto {@Code DocumentDTO} that needs to be validated
+     * @throws DocumentNullValueException if any of the title, body, references or authors are null or empty
+     * @throws AuthorNullValueException if any author is null
+     */
+    private void validateDocument(DocumentDTO documentDto) {
+        if(documentDto == null) {
+            throw new DocumentNullValueException("Document must be provided");
+        }
+        if(documentDto.getTitle() == null || documentDto.getBody() == null) {
+            throw new DocumentNullValueException("Title and body must be provided");
+        }
+        if(documentDto.getReferences() == null || documentDto.getReferences().size() == 0){
+            throw new DocumentNullValueException("References must be provided");
+        }
+        if(documentDto.getAuthors() == null || documentDto.getAuthors().size() == 0) {
+            throw new DocumentNullValueException("Authors must be provided");
+        }
+        if(documentDto.getReferences().stream().anyMatch(Objects::isNull)) {
+            throw new DocumentNullValueException("References must not contain null");
+        }
+        if(documentDto.getAuthors().stream().anyMatch(Objects::isNull)) {
+            throw new AuthorNullValueException("Authors must not contain null");
+        }
+    }
+
+    /**
+     * Utility method to persist new {@Code Document} of a batch, it must be called inside a transaction.
+     * Authors are attached as references by id, they were already checked and are not loaded again.
+     * Citations found for the whole chunk are reused and new ones are added to the map, so documents 
+     * of a chunk share them too
+     * 
+     * @param documentDto {@Code DocumentDTO} that needs to be saved
+     * @param contentHash content hash computed by {@Code ContentHasher}
+     * @param citations citations of the chunk by hash of their text
+     * @return id assigned to saved document
+     */
+    private Long persistNewDocument(DocumentDTO documentDto, String contentHash, Map<String, Reference> citations) {
+        List<Reference> references = citationsOf(referenceTextsOf(documentDto), citations);
+        List<Author> authors = documentDto.getAuthors().stream().map(AuthorDTO::getId).distinct()
+                        .map(authorId-> authorRepository.getReferenceById(authorId))
+                        .collect(Collectors.toList());
+        Document document = new Document(documentDto.getTitle(), documentDto.getBody(), references);
+        document.setAuthors(authors);
+        document.setContentHash(contentHash);
+        Document savedDocument = documentRepository.save(document);
+        eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.CREATED, savedDocument.getId(), authorIdsOf(savedDocument)));
+        return savedDocument.getId();
+    }
+
+    /**
+     * Utility method to compute version tag of loaded {@Code Document}. Tag is made of version of document
+     * and sum of versions of its authors, because {@Code DocumentDTO} embeds author names
+     * 
+     * @param document {@Code Document} with its authors
+     * @return version tag of document
+     */
+    private String versionTagOf(Document document) {
+        long authorVersions = document.getAuthors() == null ? 0 
+                        : document.getAuthors().stream().mapToLong(Author::getVersion).sum();
+        return document.getVersion() + "." + authorVersions;
+    }
+
+    /**
+     * Utility method to collect ids of authors attached to {@Code Document}
+     * 
+     * @param document {@Code Document} whose authors are needed
+     * @return mutable {@Code Set} of author ids
+     */
+    private Set<Long> authorIdsOf(Document document) {
+        if (document.getAuthors() == null) {
+            return new HashSet<>();
+        }
+        return document.getAuthors().stream().map(Author::getId).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Utility method to read reference texts of new document
+     * 
+     * @param documentDto validated {@Code DocumentDTO}
+     * @return {@Code List} of reference texts in order of document
+     */
+    private List<String> referenceTextsOf(DocumentDTO documentDto) {
+        return documentDto.getReferences().stream().map(ReferenceDTO::getReference).toList();
+    }
+
+    /**
+     * Utility method to find existing citations of provided reference texts with one query. Found citations
+     * are locked until commit, so they can not be deleted as unused before document is linked to them
+     * 
+     * @param referenceTexts reference texts, may repeat
+     * @return mutable {@Code Map} of existing {@Code Reference} by hash of text
+     */
+    private Map<String, Reference> findCitations(Collection<String> referenceTexts) {
+        Set<String> hashes = referenceTexts.stream().map(Reference::hashOf).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<String, Reference> citations = new HashMap<>();
+        if (!hashes.isEmpty()) {
+            referenceRepository.lockByHashIn(hashes).forEach(citation-> citations.put(citation.getHash(), citation));
+        }
+        return citations;
+    }
+
+    /**
+     * Utility method to turn reference texts into citations, existing citation is reused and new one
+     * is created for text that is cited first time and remembered in provided map
+     * 
+     * @param referenceTexts reference texts in order of document
+     * @param citations citations by hash of their text
+     * @return mutable {@Code List} of {@Code Reference} in order of texts
+     */
+    private List<Reference> citationsOf(List<String> referenceTexts, Map<String, Reference> citations) {
+        return referenceTexts.stream()
+                        .map(text-> text == null ? new Reference(text) : citations.computeIfAbsent(Reference.hashOf(text), hash-> new Reference(text)))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Utility method to delete citations that are no longer cited. Citations are locked first, so a document
+     * that is being linked to one of them meanwhile is committed before it is checked
+     * 
+     * @param referenceIds ids of citations whose links were removed in current transaction
+     */
+    private void deleteUnusedCitations(List<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return;
+        }
+        List<Long> lockedIds = referenceRepository.lockIdsByIdIn(referenceIds);
+        if (!lockedIds.isEmpty()) {
+            referenceRepository.deleteUnusedByIdIn(lockedIds);
+        }
+    }
+
+    /**
+     * Utility method to run saving of new documents in a transaction, and run it once more if a citation
+     * it creates was created by a concurrent request after lookup. Conflicting request has committed by then,
+     * so lookup of second run finds its citation
+     * 
+     * @param transactionTemplate template of transaction that saves documents
+     * @param action saving of documents
+     * @return result of action
+     */
+    private <T> T retryOnCitationConflict(TransactionTemplate transactionTemplate, TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(action);
+        } catch (DataIntegrityViolationException exception) {
+            if (!isViolationOf(exception, "uk_references_hash")) {
+                throw exception;
+            }
+            log.warn("Document Save: Citation was created by a concurrent request, saving again");
+            return transactionTemplate.execute(action);
+        }
+    }
+
+    /**
+     * Utility method to check which unique index was violated
+     * 
+     * @param exception exception thrown by insert or update
+     * @param indexName name of unique index
+     * @return {@Code true} if exception is a violation of provided index
+     */
+    private boolean isViolationOf(DataIntegrityViolationException exception, String indexName) {
+        String message = NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(indexName);
+    }
+
+    /**
+     * Utility method to turn failure of a batch item into the error returned to client. Database errors are
+     * not returned as they are, only logged
+     * 
+     * @param index position of item in request
+     * @param exception exception thrown while saving item
+     * @return reason why item was not created
+     */
+    private String batchItemError(int index, RuntimeException exception) {
+        if (exception instanceof DocumentManagementException) {
+            return exception.getMessage();
+        }
+        if (exception instanceof DataIntegrityViolationException violation && isViolationOf(violation, "uk_documents_content_hash")) {
+            return "Document with same content already exists";
+        }
+        log.error(String.format("Document Batch Save: Item at index %s failed -- Message: %s", 
+                        index, NestedExceptionUtils.getMostSpecificCause(exception).getMessage()));
+        return "Document could not be saved";
+    }
+
+    /**
+     * Utility method to describe most similar of near duplicates
+     * 
+     * @param duplicates near duplicates, most similar first
+     * @return reason why document is rejected
+     */
+    private String nearDuplicateMessage(List<DuplicateDTO> duplicates) {
+        return String.format("Document is a near duplicate of document with id %s, similarity %.2f",
+                        duplicates.get(0).getId(), duplicates.get(0).getSimilarity());
+    }
+
+    /**
+     * Utility method to compute content hash of new document
+     * 
+     * @param documentDto validated {@Code DocumentDTO}
+     * @return content hash computed by {@Code ContentHasher}
+     */
+    private String contentHashOf(DocumentDTO documentDto) {
+        return ContentHasher.hash(documentDto.getTitle(), documentDto.getBody(), referenceTextsOf(documentDto));
+    }
+
+    /**
+     * Utility method to recompute content hash of changed {@Code Document}. Hash is checked against other
+     * documents only when content has really changed
+     * 
+     * @param document managed {@Code Document}
+     * @throws DocumentAlreadyExistsException if another document has the same content
+     */
+    private void updateContentHash(Document document) {
+        List<String> references = document.getReferences() == null ? List.of() 
+                        : document.getReferences().stream().map(Reference::getReference).toList();
+        String contentHash = ContentHasher.hash(document.getTitle(), document.getBody(), references);
+        if (!contentHash.equals(document.getContentHash())) {
+            ensureContentIsUnique(contentHash, document.getId());
+            document.setContentHash(contentHash);
+        }
+    }
+
+    /**
+     * Utility method to reject content that another document already has, with one lookup of unique index
+     * 
+     * @param contentHash content hash computed by {@Code ContentHasher}
+     * @param id id of document that is checked, it is not compared with itself
+     * @throws DocumentAlreadyExistsException if another document has the same content
+     */
+    private void ensureContentIsUnique(String contentHash, long id) {
+        documentRepository.findIdByContentHash(contentHash).filter(existingId-> existingId != id)
+                        .ifPresent(existingId-> {
+                            throw new DocumentAlreadyExistsException("Document with same content already exists with id "+existingId);
+                        });
+    }
+
+    /**
+     * Utility method to flush pending insert or update, so document with the same content saved by 
+     * a concurrent request after the lookup is reported as {@Code DocumentAlreadyExistsException} 
+     * instead of failing at commit
+     * 
+     * @throws DocumentAlreadyExistsException if unique index on content hash is violated
+     */
+    private void flushContent() {
+        try {
+            documentRepository.flush();
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, "uk_documents_content_hash")) {
+                throw new DocumentAlreadyExistsException("Document with same content already exists");
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Delete many {@Code Document} from database with set based statements in one transaction. 
+     * Rows of join tables, documents and citations no other document uses are each deleted with one statement, 
+     * whatever the number of documents is. Ids that do not exist are ignored. Documents are locked before
+     * anything is read, so change events are published only for documents this call deleted
+     * 
+     * @param ids ids of {@Code Document} that need to be deleted
+     * @return number of deleted documents
+     */
+    @Transactional
+    public int deleteDocumentsByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        log.info(String.format("Document Bulk Delete: Started, %s ids", ids.size()));
+        // rows are locked first, so documents deleted by an overlapping delete are not reported deleted twice
+        List<Long> existingIds = documentRepository.lockIdsByIdIn(ids);
+        if (existingIds.isEmpty()) {
+            log.info("Document Bulk Delete: Completed, no document found");
+            return 0;
+        }
+        Map<Long, Set<Long>> authorIdsByDocumentId = new HashMap<>();
+        documentRepository.findAuthorIdsByDocumentIdIn(existingIds).forEach(row-> {
+            Set<Long> authorIds = authorIdsByDocumentId.computeIfAbsent((Long) row[0], documentId-> new HashSet<>());
+            if (row[1] != null) {
+                authorIds.add((Long) row[1]);
+            }
+        });
+        List<Long> referenceIds = documentRepository.findReferenceIdsByDocumentIdIn(authorIdsByDocumentId.keySet());
+        documentRepository.deleteAuthorLinksByDocumentIdIn(authorIdsByDocumentId.keySet());
+        documentRepository.deleteReferenceLinksByDocumentIdIn(authorIdsByDocumentId.keySet());
+        deleteUnusedCitations(referenceIds);
+        int deleted = documentRepository.deleteByIdIn(authorIdsByDocumentId.keySet());
+        authorIdsByDocumentId.forEach((documentId, authorIds)-> 
+                        eventPublisher.publishEvent(new DocumentChangedEvent(ChangeType.DELETED, documentId, authorIds)));
+        log.info(String.format("Document Bulk Delete: Completed, %s documents deleted", deleted));
+        return deleted;
+    }
+    
+    /**
+     * Delete all {@Code Document} attached to any of provided authors with set based statements in one transaction
+     * 
+     * @param authorIds ids of {@Code Author} whose documents need to be deleted
+     * @return number of deleted documents
+     */
+    @Transactional
+    public int deleteDocumentsByAuthorIds(Collection<Long> authorIds) {
+        if (authorIds == null || authorIds.isEmpty()) {
+            return 0;
+        }
+        return deleteDocumentsByIds(documentRepository.findIdsByAuthorIdIn(authorIds));
+    }
+
     /**
      * Utitlity method to convert {@Code Document} entity to {@Code DocumentDTO} DTO
      * This mehtod will convert all the nested authors {@Code Author} and references {@Code Reference}
@@ -179,6 +1091,7 @@ public class DocumentServiceImpl implements DocumentService{
                         .toList();
         DocumentDTO documentDto = new DocumentDTO(documentEntity.getId(), documentEntity.getTitle(),
                                 documentEntity.getBody(), referenceDtos, authorDtos);
+        documentDto.setVersionTag(versionTagOf(documentEntity));
         return documentDto;
     }
 
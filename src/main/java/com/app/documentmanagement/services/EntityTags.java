@@ -0,0 +1,38 @@
+package com.app.documentmanagement.services;
+
+/**
+ * Utility class to compare version tags of entities with value of {@Code If-Match} request header.
+ * Comparison is strong, as required for {@Code If-Match}, so weak tags never match
+ * 
+ * @author Zeeshan Hanif
+ */
+final class EntityTags {
+
+    private EntityTags() {}
+
+    /**
+     * Checks if any of the entity tags listed in {@Code If-Match} header matches the current version tag
+     * 
+     * @param ifMatch value of {@Code If-Match} header, e.g. {@Code "3.7"}, {@Code "1.0", "2.0"} or {@Code *}
+     * @param versionTag current version tag of entity without quotes
+     * @return {@Code true} if header matches current version
+     */
+    static boolean matches(String ifMatch, String versionTag) {
+        if ("*".equals(ifMatch.trim())) {
+            return true;
+        }
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                continue;
+            }
+            if (candidate.length() >= 2 && candidate.startsWith("\"") && candidate.endsWith("\"")) {
+                candidate = candidate.substring(1, candidate.length() - 1);
+            }
+            if (candidate.equals(versionTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
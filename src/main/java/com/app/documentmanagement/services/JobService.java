@@ -0,0 +1,48 @@
+package com.app.documentmanagement.services;
+
+import com.app.documentmanagement.dto.JobDTO;
+
+/**
+ * This {@Code JobService} interface is used to start and track long running background jobs
+ * 
+ * @author Zeeshan Hanif
+ */
+public interface JobService {
+
+    /**
+     * Returns progress of {@Code Job}
+     * 
+     * @param id id of job
+     * @return {@Code JobDTO} with status and progress of job
+     * @throws JobNotFoundException if id provided does not exists
+     */
+    JobDTO getJobById(long id);
+
+    /**
+     * Starts background job that deletes {@Code Author} with all of its documents in chunks. If such job 
+     * is already running for the author, that job is returned
+     * 
+     * @param authorId id of author that needs to be deleted
+     * @return {@Code JobDTO} of started job
+     * @throws AuthorNotFoundException if author provided does not exists
+     */
+    JobDTO startAuthorDeleteJob(long authorId);
+
+    /**
+     * Starts background job that computes content hash of documents that have none, in chunks. If such job
+     * is already running, that job is returned
+     * 
+     * @return {@Code JobDTO} of started job
+     */
+    JobDTO startContentHashBackfillJob();
+
+    /**
+     * Starts again jobs that were not finished when application stopped
+     */
+    void resumeUnfinishedJobs();
+
+    /**
+     * Runs again failed jobs that have attempts left
+     */
+    void retryFailedJobs();
+}
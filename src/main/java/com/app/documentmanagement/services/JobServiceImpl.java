@@ -0,0 +1,159 @@
+package com.app.documentmanagement.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.dto.JobDTO;
+import com.app.documentmanagement.entities.Job;
+import com.app.documentmanagement.exceptions.AuthorNotFoundException;
+import com.app.documentmanagement.exceptions.JobNotFoundException;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.JobRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * This {@Code JobServiceImpl} class implements {@Code JobService}. Job rows are committed before
+ * job is handed to its runner, so runner thread always finds the job it was given
+ * 
+ * @author Zeeshan Hanif
+ */
+@Slf4j
+@Service
+public class JobServiceImpl implements JobService {
+
+    private static final List<Job.Status> UNFINISHED = List.of(Job.Status.PENDING, Job.Status.RUNNING);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorDeleteJobRunner authorDeleteJobRunner;
+
+    @Autowired
+    private ContentHashBackfillJobRunner contentHashBackfillJobRunner;
+
+    @Value("${documentmanagement.jobs.max.attempts}")
+    private int maxAttempts = 3;
+
+    /**
+     * Returns progress of {@Code Job}
+     * 
+     * @param id id of job
+     * @return {@Code JobDTO} with status and progress of job
+     * @throws JobNotFoundException if id provided does not exists
+     */
+    public JobDTO getJobById(long id) {
+        return jobRepository.findById(id).map(this::convertJobEntityToJobDTO)
+                        .orElseThrow(()-> new JobNotFoundException("No Such Job Exists with id "+id));
+    }
+
+    /**
+     * Starts background job that deletes {@Code Author} with all of its documents in chunks. If such job 
+     * is already running for the author, that job is returned
+     * 
+     * @param authorId id of author that needs to be deleted
+     * @return {@Code JobDTO} of started job
+     * @throws AuthorNotFoundException if author provided does not exists
+     */
+    public JobDTO startAuthorDeleteJob(long authorId) {
+        if (!authorRepository.existsById(authorId)) {
+            throw new AuthorNotFoundException("No Such Author Exists with id "+authorId);
+        }
+        Job runningJob = jobRepository.findFirstByTypeAndTargetIdAndStatusIn(Job.Type.AUTHOR_DELETE, authorId, UNFINISHED).orElse(null);
+        if (runningJob != null) {
+            return convertJobEntityToJobDTO(runningJob);
+        }
+        Job job = new Job(Job.Type.AUTHOR_DELETE, authorId);
+        job.setTotal(documentRepository.countByAuthors_Id(authorId));
+        job = jobRepository.save(job);
+        log.info(String.format("Author Delete Job %s: Created for author %s with %s documents", job.getId(), authorId, job.getTotal()));
+        authorDeleteJobRunner.run(job.getId());
+        return convertJobEntityToJobDTO(job);
+    }
+
+    /**
+     * Starts background job that computes content hash of documents that have none, in chunks. If such job
+     * is already running, that job is returned
+     * 
+     * @return {@Code JobDTO} of started job
+     */
+    public JobDTO startContentHashBackfillJob() {
+        Job runningJob = jobRepository.findFirstByTypeAndTargetIdAndStatusIn(Job.Type.CONTENT_HASH_BACKFILL, 0, UNFINISHED).orElse(null);
+        if (runningJob != null) {
+            return convertJobEntityToJobDTO(runningJob);
+        }
+        Job job = new Job(Job.Type.CONTENT_HASH_BACKFILL, 0);
+        job.setTotal(documentRepository.countByContentHashIsNull());
+        job = jobRepository.save(job);
+        log.info(String.format("Content Hash Backfill Job %s: Created for %s documents", job.getId(), job.getTotal()));
+        contentHashBackfillJobRunner.run(job.getId());
+        return convertJobEntityToJobDTO(job);
+    }
+
+    /**
+     * Starts again jobs that were not finished when application stopped. Each job continues 
+     * after its last committed chunk
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        jobRepository.findByStatusIn(UNFINISHED).forEach(job-> {
+            log.info(String.format("Job %s: Resuming from checkpoint %s", job.getId(), job.getCheckpoint()));
+            run(job);
+        });
+    }
+
+    /**
+     * Runs again failed jobs that have attempts left, every {@Code documentmanagement.jobs.retry.interval} 
+     * milliseconds. Each job continues after its last committed chunk. Job is moved back to PENDING
+     * with optimistic lock, so only one instance retries it
+     */
+    @Scheduled(initialDelayString = "${documentmanagement.jobs.retry.interval}", fixedDelayString = "${documentmanagement.jobs.retry.interval}")
+    public void retryFailedJobs() {
+        jobRepository.findByStatusAndAttemptsLessThan(Job.Status.FAILED, maxAttempts).forEach(job-> {
+            job.setStatus(Job.Status.PENDING);
+            job.setUpdatedAt(Instant.now());
+            try {
+                job = jobRepository.save(job);
+            } catch (OptimisticLockingFailureException exception) {
+                log.info(String.format("Job %s: Already retried by another runner", job.getId()));
+                return;
+            }
+            log.info(String.format("Job %s: Retrying attempt %s from checkpoint %s", job.getId(), job.getAttempts() + 1, job.getCheckpoint()));
+            run(job);
+        });
+    }
+
+    private void run(Job job) {
+        switch (job.getType()) {
+            case AUTHOR_DELETE -> authorDeleteJobRunner.run(job.getId());
+            case CONTENT_HASH_BACKFILL -> contentHashBackfillJobRunner.run(job.getId());
+        }
+    }
+
+    /**
+     * Utitlity method to convert {@Code Job} entity to {@Code JobDTO} DTO
+     * 
+     * @param job entity object
+     * @return {@Code JobDTO} DTO object
+     */
+    private JobDTO convertJobEntityToJobDTO(Job job) {
+        return new JobDTO(job.getId(), job.getType().name(), job.getStatus().name(), job.getTargetId(), job.getTotal(),
+                        job.getProcessed(), job.getError(), job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.app.documentmanagement.services;
+
+import java.util.List;
+
+import com.app.documentmanagement.dto.CitedReferenceDTO;
+
+/**
+ * This {@Code ReferenceService} interface is used to look at works cited by documents
+ * 
+ * @author Zeeshan Hanif
+ */
+public interface ReferenceService {
+
+    /**
+     * This method will return works cited by most documents
+     * 
+     * @param limit maximum number of works, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CitedReferenceDTO}, most cited first
+     */
+    List<CitedReferenceDTO> getTopReferences(int limit);
+}
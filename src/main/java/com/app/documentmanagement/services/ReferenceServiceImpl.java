@@ -0,0 +1,46 @@
+package com.app.documentmanagement.services;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.app.documentmanagement.dto.CitedReferenceDTO;
+import com.app.documentmanagement.index.CitationIndex;
+
+/**
+ * This {@Code ReferenceServiceImpl} class provides implementation for the methods {@Code ReferenceService}.
+ * Works are read from in memory {@Code CitationIndex}, database is not queried
+ * 
+ * @author Zeeshan Hanif
+ * @see ReferenceService
+ */
+@Service
+public class ReferenceServiceImpl implements ReferenceService {
+
+    /**
+     * {@Code CitationIndex} to count citations of works without scanning references table
+     * It will be auto wired by spring boot framework
+     */
+    @Autowired
+    private CitationIndex citationIndex;
+
+    /**
+     * Maximum number of works that can be requested in one request
+     */
+    @Value("${documentmanagement.citations.max.limit:100}")
+    private int maxCitationsLimit = 100;
+
+    /**
+     * This method will return works cited by most documents. References that differ only in case, 
+     * accents or punctuation are counted as the same work
+     * 
+     * @param limit maximum number of works, it will be capped by configured max limit
+     * @return {@Code List} of {@Code CitedReferenceDTO}, most cited first
+     */
+    @Override
+    public List<CitedReferenceDTO> getTopReferences(int limit) {
+        return citationIndex.mostCited(Math.max(1, Math.min(limit, maxCitationsLimit)));
+    }
+}
@@ -0,0 +1,12 @@
+package com.app.documentmanagement.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PlatformThreadsBenchmarkTest extends RequestThroughputBenchmark {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
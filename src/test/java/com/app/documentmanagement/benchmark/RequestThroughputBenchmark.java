@@ -0,0 +1,148 @@
+package com.app.documentmanagement.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires many concurrent requests at a database bound endpoint and reports throughput and latency.
+ * Documents with authors and references are seeded first and every request reads a page of them after
+ * a random cursor, so each request holds a pooled connection while its page, authors and references
+ * are loaded. Subclasses start the application in platform and virtual thread mode, run both with 
+ * {@Code ./gradlew benchmark} and compare the logged lines
+ */
+@Slf4j
+@Tag("benchmark")
+public abstract class RequestThroughputBenchmark {
+
+    private static final int CONCURRENT_CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int AUTHOR_COUNT = 100;
+    private static final int DOCUMENT_COUNT = 5000;
+    private static final int PAGE_SIZE = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    private List<Author> authors;
+    private long firstDocumentId;
+    private long lastDocumentId;
+
+    protected abstract String mode();
+
+    @BeforeEach
+    public void seed() {
+        authors = new ArrayList<>();
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            authors.add(new Author("Benchmark", "Author "+i));
+        }
+        authors = authorRepository.saveAll(authors);
+        // references are shared between documents, as citations are stored once
+        List<Reference> references = new ArrayList<>();
+        for (int i = 0; i <= DOCUMENT_COUNT; i++) {
+            references.add(new Reference("Benchmark reference "+i));
+        }
+        List<Reference> sharedReferences = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            sharedReferences.add(new Reference("Shared benchmark reference "+i));
+        }
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            Document document = new Document("Benchmark document "+i, "Body of benchmark document "+i, 
+                            new ArrayList<>(List.of(references.get(i), references.get(i + 1), sharedReferences.get(i % 10))));
+            document.setAuthors(new ArrayList<>(List.of(authors.get(i % AUTHOR_COUNT), authors.get((i * 7 + 1) % AUTHOR_COUNT))));
+            documents.add(document);
+        }
+        documents = documentRepository.saveAll(documents);
+        firstDocumentId = documents.get(0).getId();
+        lastDocumentId = documents.get(documents.size() - 1).getId();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        documentService.deleteDocumentsByAuthorIds(authors.stream().map(Author::getId).toList());
+        authorRepository.deleteAll(authors);
+    }
+
+    private HttpRequest randomPageRequest() {
+        long after = ThreadLocalRandom.current().nextLong(firstDocumentId - 1, lastDocumentId - PAGE_SIZE);
+        return HttpRequest.newBuilder(URI.create("http://localhost:"+port+"/api/documents?after="+after+"&limit="+PAGE_SIZE)).GET().build();
+    }
+
+    @Test
+    public void measureThroughput() throws Exception {
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+
+        // warm up
+        for (int i = 0; i < 200; i++) {
+            client.send(randomPageRequest(), HttpResponse.BodyHandlers.discarding());
+        }
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                futures.add(clients.submit(()-> {
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        long requestStarted = System.nanoTime();
+                        HttpResponse<Void> response = client.send(randomPageRequest(), HttpResponse.BodyHandlers.discarding());
+                        latencies.add(System.nanoTime() - requestStarted);
+                        if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        log.info(String.format("Benchmark %s threads: %s requests in %s ms, %.0f req/s, p50 %s ms, p99 %s ms, %s rejected",
+                        mode(), sorted.size(), elapsed / 1_000_000, sorted.size() * 1e9 / elapsed,
+                        sorted.get(sorted.size() / 2) / 1_000_000, sorted.get((int) (sorted.size() * 0.99)) / 1_000_000, rejected.get()));
+        assertThat(sorted).hasSize(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT);
+    }
+}
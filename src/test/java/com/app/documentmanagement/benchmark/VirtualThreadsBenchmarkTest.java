@@ -0,0 +1,14 @@
+package com.app.documentmanagement.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class VirtualThreadsBenchmarkTest extends RequestThroughputBenchmark {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
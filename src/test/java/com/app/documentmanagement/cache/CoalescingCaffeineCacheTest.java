@@ -0,0 +1,122 @@
+package com.app.documentmanagement.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import com.app.documentmanagement.exceptions.DocumentNotFoundException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CoalescingCaffeineCacheTest {
+
+    private static final int CALLERS = 50;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger coalesced = new AtomicInteger();
+
+    private final CoalescingCaffeineCache cache = new CoalescingCaffeineCache("documents", Caffeine.newBuilder().build(), false,
+                        new SingleFlight(new SingleFlight.Listener() {
+                            @Override
+                            public void onLoad() {
+                                loads.incrementAndGet();
+                            }
+
+                            @Override
+                            public void onCoalesced() {
+                                coalesced.incrementAndGet();
+                            }
+                        }));
+
+    private List<Future<Object>> callConcurrently(CountDownLatch release, Object result, RuntimeException failure) throws InterruptedException {
+        AtomicInteger queries = new AtomicInteger();
+        List<Future<Object>> futures = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(()-> {
+                    started.countDown();
+                    return cache.get(1L, ()-> {
+                        queries.incrementAndGet();
+                        release.await(5, TimeUnit.SECONDS);
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        return result;
+                    });
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            // give every caller time to reach the cache before the load finishes
+            Thread.sleep(200);
+            release.countDown();
+        }
+        assertThat(queries.get()).isEqualTo(1);
+        return futures;
+    }
+
+    @Test
+    public void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        List<Future<Object>> futures = callConcurrently(new CountDownLatch(1), "document", null);
+
+        for (Future<Object> future : futures) {
+            assertThat(future.get()).isEqualTo("document");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalesced.get()).isEqualTo(CALLERS - 1);
+        assertThat(cache.get(1L).get()).isEqualTo("document");
+    }
+
+    @Test
+    public void shouldShareExceptionOfLoadBetweenConcurrentCallers() throws Exception {
+        List<Future<Object>> futures = callConcurrently(new CountDownLatch(1), null, new DocumentNotFoundException("No Such Document Exists with id 1"));
+
+        for (Future<Object> future : futures) {
+            assertThatThrownBy(future::get).hasRootCauseInstanceOf(DocumentNotFoundException.class);
+        }
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    public void shouldNotLoadWhenValueIsCached() {
+        cache.put(2L, "cached");
+
+        Object value = cache.get(2L, ()-> "loaded");
+
+        assertThat(value).isEqualTo("cached");
+        assertThat(loads.get()).isZero();
+        assertThatThrownBy(()-> cache.get(3L, ()-> { throw new DocumentNotFoundException("missing"); }))
+                        .isInstanceOf(Cache.ValueRetrievalException.class);
+    }
+
+    @Test
+    public void shouldNotKeepValueLoadedBeforeEviction() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Object> stale = executor.submit(()-> cache.get(1L, ()-> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "old document";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            cache.evict(1L);
+            release.countDown();
+
+            assertThat(stale.get()).isEqualTo("old document");
+        }
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, ()-> "new document")).isEqualTo("new document");
+        assertThat(cache.get(1L).get()).isEqualTo("new document");
+    }
+}
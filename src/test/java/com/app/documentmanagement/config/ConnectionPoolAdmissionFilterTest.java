@@ -0,0 +1,103 @@
+package com.app.documentmanagement.config;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs {@Code ConnectionPoolAdmissionFilter} with one permit in front of endpoints that block until
+ * released, so a second request finds every permit taken
+ */
+public class ConnectionPoolAdmissionFilterTest {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MockMvc mockMvc;
+
+    @RestController
+    class BlockingController {
+
+        @GetMapping("/api/blocking")
+        public String blocking() throws InterruptedException {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "done";
+        }
+
+        @GetMapping("/api/streaming")
+        public Callable<String> streaming() {
+            return ()-> {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "done";
+            };
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        ConnectionPoolAdmissionFilter filter = new ConnectionPoolAdmissionFilter(1, 1, Duration.ofMillis(100), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(new BlockingController()).addFilters(filter).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    public void shouldRejectRequestWhenAllPermitsAreTaken() throws Exception {
+        CompletableFuture<Integer> admitted = CompletableFuture.supplyAsync(()-> {
+            try {
+                return mockMvc.perform(get("/api/blocking")).andReturn().getResponse().getStatus();
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        mockMvc.perform(get("/api/blocking"))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                        .andExpect(jsonPath("$.statusCode").value(503));
+
+        release.countDown();
+        assertThat(admitted.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+        mockMvc.perform(get("/api/blocking")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldKeepPermitUntilAsyncRequestCompletes() throws Exception {
+        MvcResult streaming = mockMvc.perform(get("/api/streaming")).andExpect(request().asyncStarted()).andReturn();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        mockMvc.perform(get("/api/blocking")).andExpect(status().isServiceUnavailable());
+
+        release.countDown();
+        streaming.getAsyncResult(5000);
+        streaming.getRequest().getAsyncContext().complete();
+        mockMvc.perform(get("/api/blocking")).andExpect(status().isOk());
+    }
+}
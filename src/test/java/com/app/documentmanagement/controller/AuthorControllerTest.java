@@ -7,6 +7,8 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -26,11 +28,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.CollaborationPathDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
 import com.app.documentmanagement.dto.ReferenceDTO;
 import com.app.documentmanagement.entities.Author;
@@ -89,6 +95,70 @@ public class AuthorControllerTest {
             objectMapper.writeValueAsString(expectedAuthorDtos));
     }
 
+    @Test
+    public void shouldReturnAuthorsInRequestOrderWhenIdsProvided() throws Exception {
+        List<AuthorDTO> expectedAuthorDtos = authors.stream()
+                        .map(author-> convertEntityToDTO(author)).collect(Collectors.toList());
+        MultiGetDTO<AuthorDTO> expectedResult = new MultiGetDTO<>(List.of(expectedAuthorDtos.get(2), expectedAuthorDtos.get(0)), List.of(99L));
+        given(authorService.getAuthorsByIds(List.of(3L, 1L, 99L))).willReturn(expectedResult);
+
+        mockMvc.perform(get(API_URL).param("ids", "3,1,99").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].firstName").value(expectedAuthorDtos.get(2).getFirstName()))
+                .andExpect(jsonPath("$.items[1].firstName").value("Zeeshan"))
+                .andExpect(jsonPath("$.missingIds[0]").value(99));
+    }
+
+    @Test
+    public void shouldReturnSuggestedAuthorsWithDefaultLimit() throws Exception {
+        given(authorService.suggestAuthors("han", 10)).willReturn(List.of(new AuthorDTO(2, "Zain", "Hanif"), new AuthorDTO(1, "Zeeshan", "Hanif")));
+
+        mockMvc.perform(get(API_URL+"/suggest").param("prefix", "han").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].firstName").value("Zain"))
+                .andExpect(jsonPath("$[1].firstName").value("Zeeshan"))
+                .andExpect(jsonPath("$[0].documents").doesNotExist());
+    }
+
+    @Test
+    public void shouldReturnCollaborationPathBetweenAuthors() throws Exception {
+        given(authorService.getCollaborationPath(1, 3)).willReturn(new CollaborationPathDTO(List.of(1L, 2L, 3L), 2));
+        given(authorService.getCollaborationPath(1, 4)).willReturn(new CollaborationPathDTO(List.of(), null));
+
+        mockMvc.perform(get(API_URL+"/1/path/3").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authorIds[1]").value(2))
+                .andExpect(jsonPath("$.hops").value(2));
+        mockMvc.perform(get(API_URL+"/1/path/4").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authorIds.length()").value(0))
+                .andExpect(jsonPath("$.hops").doesNotExist());
+    }
+
+    @Test
+    public void shouldReturnAuthorsPageWhenCursorProvided() throws Exception {
+        List<AuthorDTO> expectedAuthorDtos = authors.stream()
+                        .map(author-> convertEntityToDTO(author)).collect(Collectors.toList());
+        KeysetPageDTO<AuthorDTO> expectedPage = new KeysetPageDTO<>(expectedAuthorDtos.subList(2, 5), 3, null);
+        given(authorService.getAuthorsPage(2, 3)).willReturn(expectedPage);
+
+        mockMvc.perform(get(API_URL).param("after", "2").param("limit", "3").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].firstName").value("Inam"))
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    public void shouldReturnPageWithDefaultLimitWhenOnlyCursorProvided() throws Exception {
+        given(authorService.getAuthorsPage(500, 100)).willReturn(new KeysetPageDTO<>(List.of(), 100, null));
+
+        mockMvc.perform(get(API_URL).param("after", "500").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(100));
+        verify(authorService, never()).getAllAuthors();
+    }
+
     @Test
     public void shouldReturnAuthorWhenValidIdProvided() throws Exception {
         List<AuthorDTO> expectedAuthorDtos = authors.stream()
@@ -117,6 +187,16 @@ public class AuthorControllerTest {
                 .andExpect(jsonPath("$.message").value("No Such Author Exists with id "+authorIdToFind));
     }
 
+    @Test
+    public void shouldReturnNotModifiedWhenAuthorETagMatches() throws Exception {
+        AuthorDTO authorDto = new AuthorDTO(1, "Zeeshan", "Hanif");
+        authorDto.setVersionTag("0.3.3.6.1");
+        given(authorService.getAuthorById(1)).willReturn(authorDto);
+
+        mockMvc.perform(get(API_URL+"/{id}",1).header(HttpHeaders.IF_NONE_MATCH, "\"0.3.3.6.1\""))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     public void shouldDeleteAuthorWhenValidIdProvided() throws Exception {
         long authorId = 1;
@@ -205,7 +285,7 @@ public class AuthorControllerTest {
 
         expectedAuthorDto.setFirstName("Shan");
 
-        given(authorService.updateAuthor(authorId,expectedAuthorDto)).willReturn(expectedAuthorDto);
+        given(authorService.updateAuthor(authorId,expectedAuthorDto,null)).willReturn(expectedAuthorDto);
         
         MvcResult mvcResult = mockMvc.perform(put(API_URL+"/{id}",authorId).contentType(MediaType.APPLICATION_JSON)
                                             .content(objectMapper.writeValueAsString(expectedAuthorDto)))
@@ -1,5 +1,6 @@
 package com.app.documentmanagement.controller;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Arrays;
 import java.util.ArrayList;
@@ -7,13 +8,20 @@ import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,18 +32,29 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.BatchItemResultDTO;
+import com.app.documentmanagement.dto.BatchResultDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
 import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.dto.RelatedDocumentDTO;
+import com.app.documentmanagement.dto.SearchHitDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
 import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.entities.Document;
 import com.app.documentmanagement.entities.Reference;
 import com.app.documentmanagement.exceptions.DocumentNotFoundException;
 import com.app.documentmanagement.exceptions.DocumentNullValueException;
+import com.app.documentmanagement.exceptions.PreconditionFailedException;
 import com.app.documentmanagement.services.DocumentServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -83,6 +102,98 @@ public class DocumentControllerTest {
             objectMapper.writeValueAsString(expectedDocumentDtos));
     }
 
+    @Test
+    public void shouldReturnDocumentsPageWhenLimitProvided() throws Exception {
+        List<DocumentDTO> expectedDocumentDtos = documents.stream()
+                        .map(document-> convertEntityToDTO(document)).collect(Collectors.toList());
+        KeysetPageDTO<DocumentDTO> expectedPage = new KeysetPageDTO<>(expectedDocumentDtos.subList(0, 2), 2, 2L);
+        given(documentService.getDocumentsPage(0, 2)).willReturn(expectedPage);
+
+        mockMvc.perform(get(API_URL).param("limit", "2").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value(expectedDocumentDtos.get(0).getTitle()))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.limit").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    @Test
+    public void shouldReturnPageWithDefaultLimitWhenOnlyCursorProvided() throws Exception {
+        given(documentService.getDocumentsPage(500, 100)).willReturn(new KeysetPageDTO<>(List.of(), 100, null));
+
+        mockMvc.perform(get(API_URL).param("after", "500").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(100));
+        verify(documentService, never()).getAllDocuments();
+    }
+
+    @Test
+    public void shouldReturnDocumentsInRequestOrderWhenIdsProvided() throws Exception {
+        List<DocumentDTO> expectedDocumentDtos = documents.stream()
+                        .map(document-> convertEntityToDTO(document)).collect(Collectors.toList());
+        MultiGetDTO<DocumentDTO> expectedResult = new MultiGetDTO<>(List.of(expectedDocumentDtos.get(1), expectedDocumentDtos.get(0)), List.of(99L));
+        given(documentService.getDocumentsByIds(List.of(2L, 99L, 1L))).willReturn(expectedResult);
+
+        mockMvc.perform(get(API_URL).param("ids", "2,99,1").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value(expectedDocumentDtos.get(1).getTitle()))
+                .andExpect(jsonPath("$.items[1].title").value(expectedDocumentDtos.get(0).getTitle()))
+                .andExpect(jsonPath("$.missingIds[0]").value(99));
+    }
+
+    @Test
+    public void shouldReturnSearchHitsWithDefaultPage() throws Exception {
+        SearchPageDTO expectedPage = new SearchPageDTO(List.of(new SearchHitDTO(1, 2.5, "The Future of <em>Artificial</em> Intelligence", "...<em>artificial</em> intelligence...")), 1, 0, 20);
+        given(documentService.searchDocuments("artificial", 0, 20)).willReturn(expectedPage);
+
+        mockMvc.perform(get(API_URL+"/search").param("q", "artificial").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("The Future of <em>Artificial</em> Intelligence"));
+    }
+
+    @Test
+    public void shouldReturnDocumentSummariesWhenSummaryViewRequested() throws Exception {
+        List<DocumentSummaryDTO> expectedSummaries = List.of(
+            new DocumentSummaryDTO(1, documents.get(0).getTitle()),
+            new DocumentSummaryDTO(2, documents.get(1).getTitle()));
+        given(documentService.getDocumentSummariesPage(0, 100)).willReturn(new KeysetPageDTO<>(expectedSummaries, 100, null));
+
+        mockMvc.perform(get(API_URL).param("view", "summary").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].title").value(documents.get(0).getTitle()))
+                .andExpect(jsonPath("$.items[0].body").doesNotExist())
+                .andExpect(jsonPath("$.items[1].title").value(documents.get(1).getTitle()));
+    }
+
+    @Test
+    public void shouldExportDocumentsAsNewlineDelimitedJson() throws Exception {
+        List<DocumentDTO> expectedDocumentDtos = documents.stream()
+                        .map(document-> convertEntityToDTO(document)).collect(Collectors.toList());
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            for (DocumentDTO documentDto : expectedDocumentDtos) {
+                outputStream.write(objectMapper.writeValueAsBytes(documentDto));
+                outputStream.write('\n');
+            }
+            return null;
+        }).given(documentService).exportDocuments(Mockito.any(OutputStream.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(API_URL+"/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String actualResponseAsString = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = actualResponseAsString.split("\n");
+
+        assertThat(lines).hasSize(expectedDocumentDtos.size());
+        assertThat(lines[0]).isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(expectedDocumentDtos.get(0)));
+    }
+
     @Test
     public void shouldReturnDocumentWhenValidIdProvided() throws Exception {
         List<DocumentDTO> expectedDocumentDtos = documents.stream()
@@ -111,6 +222,76 @@ public class DocumentControllerTest {
                 .andExpect(jsonPath("$.message").value("No Such Document Exists with id "+documentId));
     }
 
+    @Test
+    public void shouldReturnNearDuplicatesOfDocument() throws Exception {
+        given(documentService.getDuplicates(1)).willReturn(List.of(new DuplicateDTO(3, 0.91), new DuplicateDTO(2, 0.84)));
+
+        mockMvc.perform(get(API_URL+"/{id}/duplicates",1).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[0].similarity").value(0.91))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    public void shouldReturnRelatedDocuments() throws Exception {
+        given(documentService.getRelatedDocuments(1, 5)).willReturn(List.of(new RelatedDocumentDTO(4, 3), new RelatedDocumentDTO(2, 1)));
+
+        mockMvc.perform(get(API_URL+"/{id}/related",1).param("limit", "5").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(4))
+                .andExpect(jsonPath("$[0].sharedReferences").value(3))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    public void shouldReturnETagWithDocument() throws Exception {
+        DocumentDTO documentDto = convertEntityToDTO(documents.get(0));
+        documentDto.setVersionTag("2.5");
+        given(documentService.getDocumentById(1)).willReturn(documentDto);
+
+        mockMvc.perform(get(API_URL+"/{id}",1).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2.5\""));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        DocumentDTO documentDto = convertEntityToDTO(documents.get(0));
+        documentDto.setVersionTag("2.5");
+        given(documentService.getDocumentById(1)).willReturn(documentDto);
+
+        mockMvc.perform(get(API_URL+"/{id}",1).header(HttpHeaders.IF_NONE_MATCH, "\"2.5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void shouldReturnPreconditionFailedWhenIfMatchIsStale() throws Exception {
+        DocumentDTO documentDto = DocumentDTO.builder().title("Update AI").build();
+        given(documentService.updateDocument(Mockito.eq(1L), Mockito.any(DocumentDTO.class), Mockito.eq("\"1.5\"")))
+                        .willThrow(new PreconditionFailedException("Document with id 1 has been modified"));
+
+        mockMvc.perform(put(API_URL+"/{id}",1).header(HttpHeaders.IF_MATCH, "\"1.5\"")
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(documentDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.statusCode").value(412));
+    }
+
+    @Test
+    public void shouldPatchDocumentWithMergePatch() throws Exception {
+        DocumentDTO patchedDocumentDto = convertEntityToDTO(documents.get(0));
+        patchedDocumentDto.setTitle("The Future of AI");
+        given(documentService.patchDocument(Mockito.eq(1L), Mockito.any(), Mockito.isNull())).willReturn(patchedDocumentDto);
+
+        mockMvc.perform(patch(API_URL+"/{id}",1).contentType("application/merge-patch+json")
+                                            .content("{\"title\":\"The Future of AI\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("The Future of AI"))
+                .andExpect(jsonPath("$.body").value(patchedDocumentDto.getBody()));
+    }
+
     @Test
     public void shouldDeleteDocumentWhenValidIdProvided() throws Exception {
         long documentId = 1;
@@ -155,6 +336,23 @@ public class DocumentControllerTest {
         assertThat(actualDocument.getBody()).isEqualTo(expectedDocumentDto.getBody());       
     }
 
+    @Test
+    public void shouldSaveDocumentsInBatchAndReportEveryItem() throws Exception {
+        List<DocumentDTO> documentDtos = documents.stream().map(document-> convertEntityToDTO(document)).toList();
+        BatchResultDTO batchResult = new BatchResultDTO(3, 2, 1, List.of(BatchItemResultDTO.created(0, 101),
+                        BatchItemResultDTO.created(1, 102), BatchItemResultDTO.failed(2, "No Such Author Exists with id 8")));
+        given(documentService.saveDocuments(Mockito.anyList())).willReturn(batchResult);
+
+        mockMvc.perform(post(API_URL+"/batch").contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(documentDtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(102))
+                .andExpect(jsonPath("$.items[2].status").value("FAILED"))
+                .andExpect(jsonPath("$.items[2].error").value("No Such Author Exists with id 8"));
+    }
+
     @Test
     public void shouldFailSaveAuthorWhenInvalidDataProvided() throws Exception {
         DocumentDTO expectedDocumentDto = new DocumentDTO();
@@ -216,7 +414,7 @@ public class DocumentControllerTest {
 
         expectedDocumentDto.setTitle("Update AI");
 
-        given(documentService.updateDocument(documentId,expectedDocumentDto)).willReturn(expectedDocumentDto);
+        given(documentService.updateDocument(documentId,expectedDocumentDto,null)).willReturn(expectedDocumentDto);
         
         MvcResult mvcResult = mockMvc.perform(put(API_URL+"/{id}", documentId).contentType(MediaType.APPLICATION_JSON)
                                             .content(objectMapper.writeValueAsString(expectedDocumentDto)))
@@ -0,0 +1,71 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.events.AuthorChangedEvent;
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.repositories.AuthorRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+public class AuthorNameIndexTest {
+
+    private final AuthorRepository authorRepository = Mockito.mock(AuthorRepository.class);
+    private final AuthorNameIndex authorNameIndex = new AuthorNameIndex(authorRepository, Mockito.mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    public void setup() {
+        given(authorRepository.findNamesByIdGreaterThan(anyLong(), any(Limit.class))).willReturn(List.of(
+            new AuthorDTO(1, "Zeeshan", "Hanif"),
+            new AuthorDTO(2, "Zain", "Hanif"),
+            new AuthorDTO(3, "Inam", "ul Haq"),
+            new AuthorDTO(4, "Zoë", "Ålander"),
+            new AuthorDTO(5, "Ali", "Khan"),
+            new AuthorDTO(6, "Alice", "Zed")));
+        authorNameIndex.rebuild();
+    }
+
+    private List<Long> suggestedIds(String prefix, int limit) {
+        return authorNameIndex.suggest(prefix, limit).stream().map(AuthorDTO::getId).toList();
+    }
+
+    @Test
+    public void shouldMatchFirstOrLastNameInAlphabeticalOrder() {
+        assertThat(suggestedIds("z", 10)).containsExactly(2L, 6L, 1L, 4L);
+        assertThat(suggestedIds("hanif", 10)).containsExactly(2L, 1L);
+        assertThat(suggestedIds("hanif z", 10)).containsExactly(2L, 1L);
+        assertThat(suggestedIds("zeeshan h", 10)).containsExactly(1L);
+        assertThat(suggestedIds("z", 2)).containsExactly(2L, 6L);
+    }
+
+    @Test
+    public void shouldIgnoreCaseAccentsAndPunctuation() {
+        assertThat(suggestedIds("ZOE a", 10)).containsExactly(4L);
+        assertThat(suggestedIds("alander", 10)).containsExactly(4L);
+        assertThat(suggestedIds("ul-haq", 10)).containsExactly(3L);
+        assertThat(suggestedIds("ali ", 10)).containsExactly(5L);
+        assertThat(suggestedIds("  ", 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldFollowRenamesAndDeletes() {
+        given(authorRepository.findNameById(2)).willReturn(Optional.of(new AuthorDTO(2, "Zain", "Ahmed")));
+        authorNameIndex.onAuthorChanged(new AuthorChangedEvent(ChangeType.UPDATED, 2, Set.of(), Set.of()));
+        authorNameIndex.onAuthorChanged(new AuthorChangedEvent(ChangeType.DELETED, 1, Set.of(), Set.of()));
+
+        assertThat(suggestedIds("hanif", 10)).isEmpty();
+        assertThat(suggestedIds("ahmed", 10)).containsExactly(2L);
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.documentmanagement.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Bm25IndexTest {
+
+    private final Bm25Index index = new Bm25Index(1.2, 0.75);
+
+    private void put(long id, String text) {
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.tokenize(text);
+        Map<String, Float> frequencies = new HashMap<>();
+        tokens.forEach(token-> frequencies.merge(token.getTerm(), 1f, Float::sum));
+        index.put(id, frequencies, tokens.size());
+    }
+
+    @Test
+    public void shouldRankRareTermsAndShortDocumentsFirst() {
+        put(1, "artificial intelligence and the future of work and more words about work");
+        put(2, "artificial intelligence");
+        put(3, "the future of cloud computing");
+
+        Bm25Index.Hits hits = index.search(List.of("intelligence", "future"), 0, 10);
+
+        assertThat(hits.getTotal()).isEqualTo(3);
+        assertThat(hits.getHits()).extracting(Bm25Index.Hit::getId).containsExactly(1L, 2L, 3L);
+        assertThat(index.search(List.of("artificial"), 0, 10).getHits()).extracting(Bm25Index.Hit::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    public void shouldReturnRequestedPage() {
+        for (long id = 1; id <= 30; id++) {
+            put(id, "common " + "word ".repeat((int) id));
+        }
+
+        Bm25Index.Hits firstPage = index.search(List.of("common"), 0, 10);
+        Bm25Index.Hits secondPage = index.search(List.of("common"), 10, 10);
+
+        assertThat(firstPage.getTotal()).isEqualTo(30);
+        assertThat(firstPage.getHits()).extracting(Bm25Index.Hit::getId).startsWith(1L, 2L).hasSize(10);
+        assertThat(secondPage.getHits()).extracting(Bm25Index.Hit::getId).startsWith(11L, 12L).hasSize(10);
+        assertThat(index.search(List.of("common"), 40, 10).getHits()).isEmpty();
+    }
+
+    @Test
+    public void shouldForgetReplacedAndRemovedEntries() {
+        put(1, "old title");
+        put(1, "new title");
+        put(2, "another title");
+        index.remove(2);
+
+        assertThat(index.search(List.of("old"), 0, 10).getTotal()).isZero();
+        assertThat(index.search(List.of("title"), 0, 10).getHits()).extracting(Bm25Index.Hit::getId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldMatchTermsRegardlessOfCaseAndAccents() {
+        assertThat(TextAnalyzer.terms("Résumé, RESUME and naïve-café")).containsExactly("resume", "and", "naive", "cafe");
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CitationGraphTest {
+
+    private static final String NIELSEN = "Nielsen, M. A., & Chuang, I. L. (2010). Quantum Computation and Quantum Information.";
+    private static final String PRESKILL = "Preskill, J. (2018). Quantum Computing in the NISQ era and beyond.";
+    private static final String SHOR = "Shor, P. W. (1997). Polynomial-Time Algorithms for Prime Factorization.";
+
+    private final CitationGraph graph = new CitationGraph();
+
+    @Test
+    public void shouldRankDocumentsBySharedReferences() {
+        graph.put(1, List.of(NIELSEN, PRESKILL, SHOR));
+        graph.put(2, List.of(NIELSEN.toUpperCase().replace(",", ""), "Unrelated work"));
+        graph.put(3, List.of(PRESKILL, SHOR));
+        graph.put(4, List.of("Unrelated work"));
+
+        assertThat(graph.related(1, 10)).extracting(CitationGraph.Related::getDocumentId).containsExactly(3L, 2L);
+        assertThat(graph.related(1, 10)).extracting(CitationGraph.Related::getSharedReferences).containsExactly(2, 1);
+        assertThat(graph.related(1, 1)).extracting(CitationGraph.Related::getDocumentId).containsExactly(3L);
+        assertThat(graph.related(5, 10)).isEmpty();
+    }
+
+    @Test
+    public void shouldCountCitationsOfCanonicalWorks() {
+        graph.put(1, List.of(NIELSEN, PRESKILL));
+        graph.put(2, List.of(NIELSEN.toLowerCase(), SHOR));
+        graph.put(3, List.of(" " + NIELSEN, PRESKILL, PRESKILL));
+
+        List<CitationGraph.CitedWork> top = graph.mostCited(2);
+
+        assertThat(graph.workCount()).isEqualTo(3);
+        assertThat(top).extracting(CitationGraph.CitedWork::getReference).containsExactly(NIELSEN, PRESKILL);
+        assertThat(top).extracting(CitationGraph.CitedWork::getCitations).containsExactly(3, 2);
+    }
+
+    @Test
+    public void shouldFollowReplacedAndRemovedDocuments() {
+        graph.put(1, List.of(NIELSEN, PRESKILL));
+        graph.put(2, List.of(PRESKILL));
+        graph.put(2, List.of(SHOR));
+        graph.remove(1);
+
+        assertThat(graph.related(2, 10)).isEmpty();
+        assertThat(graph.workCount()).isEqualTo(1);
+        assertThat(graph.mostCited(10)).extracting(CitationGraph.CitedWork::getReference).containsExactly(SHOR);
+
+        graph.put(3, List.of(NIELSEN, SHOR));
+        assertThat(graph.related(3, 10)).extracting(CitationGraph.Related::getDocumentId).containsExactly(2L);
+        assertThat(graph.mostCited(10)).extracting(CitationGraph.CitedWork::getCitations).containsExactly(2, 1);
+    }
+}
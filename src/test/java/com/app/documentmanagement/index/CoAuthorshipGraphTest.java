@@ -0,0 +1,65 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoAuthorshipGraphTest {
+
+    private final CoAuthorshipGraph graph = new CoAuthorshipGraph();
+
+    @Test
+    public void shouldRankCoAuthorsBySharedDocuments() {
+        graph.put(1, List.of(10L, 20L, 30L));
+        graph.put(2, List.of(10L, 30L));
+        graph.put(3, List.of(40L));
+
+        assertThat(graph.coAuthors(10, 10)).extracting(CoAuthorshipGraph.CoAuthor::getAuthorId).containsExactly(30L, 20L);
+        assertThat(graph.coAuthors(10, 10)).extracting(CoAuthorshipGraph.CoAuthor::getSharedDocuments).containsExactly(2, 1);
+        assertThat(graph.coAuthors(10, 1)).extracting(CoAuthorshipGraph.CoAuthor::getAuthorId).containsExactly(30L);
+        assertThat(graph.coAuthors(40, 10)).isEmpty();
+        assertThat(graph.coAuthors(50, 10)).isEmpty();
+        assertThat(graph.mostConnected(2)).extracting(CoAuthorshipGraph.Collaborator::getAuthorId).containsExactly(10L, 20L);
+        assertThat(graph.linkCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldFindComponentsAndShortestPath() {
+        graph.put(1, List.of(1L, 2L));
+        graph.put(2, List.of(2L, 3L));
+        graph.put(3, List.of(3L, 4L));
+        graph.put(4, List.of(1L, 5L));
+        graph.put(5, List.of(5L, 4L));
+        graph.put(6, List.of(7L, 8L));
+        graph.put(7, List.of(9L));
+
+        assertThat(graph.components(10)).extracting(CoAuthorshipGraph.Component::getSize).containsExactly(5, 2, 1);
+        assertThat(graph.components(10)).extracting(CoAuthorshipGraph.Component::getAuthorId).containsExactly(1L, 7L, 9L);
+        assertThat(graph.path(1, 4)).containsExactly(1L, 5L, 4L);
+        assertThat(graph.path(2, 2)).containsExactly(2L);
+        assertThat(graph.path(1, 8)).isEmpty();
+    }
+
+    @Test
+    public void shouldFollowChangedDocumentsBeforeAndAfterCompaction() {
+        graph.put(1, List.of(1L, 2L));
+        graph.put(2, List.of(2L, 3L));
+        graph.compact();
+
+        graph.put(2, List.of(2L, 4L));
+        graph.remove(1);
+        graph.put(3, List.of(1L, 4L));
+
+        assertThat(graph.coAuthors(2, 10)).extracting(CoAuthorshipGraph.CoAuthor::getAuthorId).containsExactly(4L);
+        assertThat(graph.coAuthors(3, 10)).isEmpty();
+        assertThat(graph.path(2, 1)).containsExactly(2L, 4L, 1L);
+        assertThat(graph.authorCount()).isEqualTo(3);
+
+        graph.compact();
+        assertThat(graph.coAuthors(4, 10)).extracting(CoAuthorshipGraph.CoAuthor::getAuthorId).containsExactly(1L, 2L);
+        assertThat(graph.components(10)).extracting(CoAuthorshipGraph.Component::getSize).containsExactly(3);
+        assertThat(graph.linkCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContentHasherTest {
+
+    @Test
+    public void shouldIgnoreCaseAccentsPunctuationAndReferenceOrder() {
+        String hash = ContentHasher.hash("Résumé Writing", "How to write a résumé, step by step.", 
+                        List.of("First reference", "Second reference"));
+
+        assertThat(hash).hasSize(64);
+        assertThat(ContentHasher.hash("resume writing", "How  to write a RESUME step by step", 
+                        List.of("second reference", "First Reference."))).isEqualTo(hash);
+    }
+
+    @Test
+    public void shouldDifferWhenContentOrFieldBoundaryDiffers() {
+        String hash = ContentHasher.hash("Title", "Body text", List.of("Reference"));
+
+        assertThat(ContentHasher.hash("Title", "Body text", List.of("Other reference"))).isNotEqualTo(hash);
+        assertThat(ContentHasher.hash("Title Body", "text", List.of("Reference"))).isNotEqualTo(hash);
+        assertThat(ContentHasher.hash("Title", "Body text", List.of())).isNotEqualTo(hash);
+    }
+}
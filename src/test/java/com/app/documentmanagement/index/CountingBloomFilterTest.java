@@ -0,0 +1,60 @@
+package com.app.documentmanagement.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountingBloomFilterTest {
+
+    private static final int IDS = 10000;
+
+    @Test
+    public void shouldNeverReportAddedIdAsAbsent() {
+        CountingBloomFilter filter = new CountingBloomFilter(IDS, 0.01);
+        for (long id = 1; id <= IDS; id++) {
+            filter.add(id);
+        }
+
+        for (long id = 1; id <= IDS; id++) {
+            assertThat(filter.isDefinitelyAbsent(id)).isFalse();
+        }
+    }
+
+    @Test
+    public void shouldKeepFalsePositivesNearConfiguredProbability() {
+        CountingBloomFilter filter = new CountingBloomFilter(IDS, 0.01);
+        for (long id = 1; id <= IDS; id++) {
+            filter.add(id);
+        }
+
+        int falsePositives = 0;
+        for (long id = IDS + 1; id <= 2 * IDS; id++) {
+            if (!filter.isDefinitelyAbsent(id)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(IDS / 50);
+    }
+
+    @Test
+    public void shouldReportRemovedIdAsAbsentAndKeepOthers() {
+        CountingBloomFilter filter = new CountingBloomFilter(IDS, 0.01);
+        for (long id = 1; id <= IDS; id++) {
+            filter.add(id);
+        }
+        for (long id = 1; id <= IDS; id += 2) {
+            filter.remove(id);
+        }
+
+        for (long id = 2; id <= IDS; id += 2) {
+            assertThat(filter.isDefinitelyAbsent(id)).isFalse();
+        }
+        int stillPresent = 0;
+        for (long id = 1; id <= IDS; id += 2) {
+            if (!filter.isDefinitelyAbsent(id)) {
+                stillPresent++;
+            }
+        }
+        assertThat(stillPresent).isLessThan(IDS / 50);
+    }
+}
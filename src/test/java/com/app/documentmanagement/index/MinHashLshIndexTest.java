@@ -0,0 +1,60 @@
+package com.app.documentmanagement.index;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MinHashLshIndexTest {
+
+    private static final String ORIGINAL = "The Future of Artificial Intelligence. Artificial intelligence is transforming industries "
+                    + "from healthcare to finance. This document explores the current state of AI technology, its potential impacts "
+                    + "on society, and ethical considerations surrounding its development and deployment in the coming decade.";
+
+    private static final String EDITED = "The Future of Artificial Intelligence. Artificial intelligence is transforming industries "
+                    + "from healthcare to finance. This document explores the current state of AI technology, its potential impact "
+                    + "on society, and ethical considerations surrounding its development and deployment in the coming decade.";
+
+    private static final String UNRELATED = "Exploring Quantum Computing. Quantum computing is poised to revolutionize fields ranging "
+                    + "from cryptography to complex system simulations, using superposition and entanglement.";
+
+    private final MinHasher minHasher = new MinHasher(128, 3);
+    private final MinHashLshIndex index = new MinHashLshIndex(128, 16);
+
+    @Test
+    public void shouldFindNearDuplicateAndIgnoreUnrelatedDocument() {
+        index.put(1, minHasher.signature(ORIGINAL));
+        index.put(2, minHasher.signature(UNRELATED));
+
+        List<MinHashLshIndex.Match> matches = index.similar(minHasher.signature(EDITED), 0.8, 0);
+
+        assertThat(matches).extracting(MinHashLshIndex.Match::getId).containsExactly(1L);
+        assertThat(matches.get(0).getSimilarity()).isGreaterThan(0.8).isLessThan(1.0);
+    }
+
+    @Test
+    public void shouldNotSignTextWithoutTerms() {
+        assertThat(minHasher.signature("")).isNull();
+        assertThat(minHasher.signature(" ... !!! ")).isNull();
+        assertThat(minHasher.signature(ORIGINAL)).hasSize(128);
+    }
+
+    @Test
+    public void shouldIgnoreCaseAndPunctuationAndExcludeItself() {
+        index.put(1, minHasher.signature(ORIGINAL));
+
+        assertThat(index.similar(minHasher.signature(ORIGINAL.toUpperCase().replace(",", "")), 0.8, 0))
+                        .extracting(MinHashLshIndex.Match::getSimilarity).containsExactly(1.0);
+        assertThat(index.similar(index.signature(1), 0.8, 1)).isEmpty();
+    }
+
+    @Test
+    public void shouldForgetRemovedDocument() {
+        index.put(1, minHasher.signature(ORIGINAL));
+        index.remove(1);
+
+        assertThat(index.similar(minHasher.signature(ORIGINAL), 0.8, 0)).isEmpty();
+        assertThat(index.signature(1)).isNull();
+    }
+}
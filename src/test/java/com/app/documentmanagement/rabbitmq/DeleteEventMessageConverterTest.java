@@ -0,0 +1,62 @@
+package com.app.documentmanagement.rabbitmq;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DeleteEventMessageConverterTest {
+
+    private final DeleteEventMessageConverter converter = new DeleteEventMessageConverter();
+
+    @Test
+    public void shouldWriteAndReadDeleteEvent() {
+        DeleteEvent event = DeleteEvent.of(DeleteEvent.EntityType.AUTHOR, List.of(1L, 300L, Long.MAX_VALUE));
+
+        Message message = converter.toMessage(event, new MessageProperties());
+        DeleteEvent result = (DeleteEvent) converter.fromMessage(message);
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(DeleteEventMessageConverter.CONTENT_TYPE);
+        assertThat(message.getMessageProperties().getMessageId()).isEqualTo(event.getEventId().toString());
+        assertThat(result.getEventId()).isEqualTo(event.getEventId());
+        assertThat(result.getType()).isEqualTo(DeleteEvent.EntityType.AUTHOR);
+        assertThat(result.getTimestamp()).isEqualTo(event.getTimestamp());
+        assertThat(result.getIds()).containsExactly(1L, 300L, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldWriteSingleIdEventInFewBytes() {
+        Message message = converter.toMessage(DeleteEvent.of(DeleteEvent.EntityType.DOCUMENT, List.of(12345L)), new MessageProperties());
+
+        assertThat(message.getBody()).hasSizeLessThan(32);
+    }
+
+    @Test
+    public void shouldReadLegacyJsonMessage() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", "com.app.documentmanagement.dto.AuthorDTO");
+        String body = "{\"id\":7,\"firstName\":\"Legacy\",\"lastName\":\"Author\",\"documents\":[{\"id\":3}]}";
+
+        DeleteEvent result = (DeleteEvent) converter.fromMessage(new Message(body.getBytes(StandardCharsets.UTF_8), properties));
+
+        assertThat(result.getType()).isEqualTo(DeleteEvent.EntityType.AUTHOR);
+        assertThat(result.getIds()).containsExactly(7L);
+    }
+
+    @Test
+    public void shouldRejectUnknownFormatVersion() {
+        Message message = new Message(new byte[] { 9, 'D' }, new MessageProperties());
+
+        assertThatThrownBy(()-> converter.fromMessage(message)).isInstanceOf(MessageConversionException.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.dto.JobDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Job;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.JobRepository;
+import com.app.documentmanagement.services.DocumentService;
+import com.app.documentmanagement.services.JobService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs author delete job against database with small chunks, so the author's documents are deleted
+ * over several committed chunks
+ */
+@SpringBootTest(properties = "documentmanagement.jobs.delete.chunk.size=10")
+public class AuthorDeleteJobTest {
+
+    private static final int DOCUMENT_COUNT = 25;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author;
+    private Author coAuthor;
+
+    @BeforeEach
+    public void setup() {
+        author = authorRepository.save(new Author("Deleted", "Author"));
+        coAuthor = authorRepository.save(new Author("Kept", "CoAuthor"));
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            Document document = new Document("Job document "+i, "Body of job document "+i,
+                            new ArrayList<>(List.of(new Reference("Job reference "+i))));
+            document.setAuthors(List.of(author, coAuthor));
+            documents.add(document);
+        }
+        documentRepository.saveAll(documents);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jobRepository.deleteAll();
+        documentService.deleteDocumentsByAuthorIds(List.of(author.getId(), coAuthor.getId()));
+        authorRepository.findById(author.getId()).ifPresent(authorRepository::delete);
+        authorRepository.deleteById(coAuthor.getId());
+    }
+
+    private JobDTO awaitFinished(long jobId) throws InterruptedException {
+        JobDTO job = jobService.getJobById(jobId);
+        for (int i = 0; i < 100 && !job.getStatus().equals("COMPLETED") && !job.getStatus().equals("FAILED"); i++) {
+            Thread.sleep(100);
+            job = jobService.getJobById(jobId);
+        }
+        return job;
+    }
+
+    @Test
+    public void shouldDeleteAuthorWithDocumentsInChunks() throws InterruptedException {
+        JobDTO started = jobService.startAuthorDeleteJob(author.getId());
+
+        JobDTO finished = awaitFinished(started.getId());
+
+        assertThat(started.getTotal()).isEqualTo(DOCUMENT_COUNT);
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getProcessed()).isEqualTo(DOCUMENT_COUNT);
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(documentRepository.countByAuthors_Id(coAuthor.getId())).isZero();
+        assertThat(authorRepository.existsById(coAuthor.getId())).isTrue();
+    }
+
+    @Test
+    public void shouldResumeUnfinishedJobFromCheckpoint() throws InterruptedException {
+        Job job = new Job(Job.Type.AUTHOR_DELETE, author.getId());
+        job.setStatus(Job.Status.RUNNING);
+        job.setTotal(DOCUMENT_COUNT);
+        job.setProcessed(5);
+        job = jobRepository.save(job);
+
+        jobService.resumeUnfinishedJobs();
+        JobDTO finished = awaitFinished(job.getId());
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getProcessed()).isEqualTo(5 + DOCUMENT_COUNT);
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+    }
+
+    @Test
+    public void shouldRetryFailedJobOnlyWhileItHasAttemptsLeft() throws InterruptedException {
+        Job exhaustedJob = new Job(Job.Type.AUTHOR_DELETE, coAuthor.getId());
+        exhaustedJob.setStatus(Job.Status.FAILED);
+        exhaustedJob.setAttempts(3);
+        exhaustedJob = jobRepository.save(exhaustedJob);
+        Job job = new Job(Job.Type.AUTHOR_DELETE, author.getId());
+        job.setStatus(Job.Status.FAILED);
+        job.setAttempts(1);
+        job.setTotal(DOCUMENT_COUNT);
+        job = jobRepository.save(job);
+
+        jobService.retryFailedJobs();
+        JobDTO finished = awaitFinished(job.getId());
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(authorRepository.existsById(author.getId())).isFalse();
+        assertThat(jobService.getJobById(exhaustedJob.getId()).getStatus()).isEqualTo("FAILED");
+        assertThat(authorRepository.existsById(coAuthor.getId())).isTrue();
+    }
+
+    @Test
+    public void shouldReturnRunningJobInsteadOfStartingAnother() {
+        Job job = new Job(Job.Type.AUTHOR_DELETE, author.getId());
+        job = jobRepository.save(job);
+
+        JobDTO started = jobService.startAuthorDeleteJob(author.getId());
+
+        assertThat(started.getId()).isEqualTo(job.getId());
+    }
+}
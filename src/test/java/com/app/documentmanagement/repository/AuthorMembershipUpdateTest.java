@@ -0,0 +1,89 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards writes to document_author join table. Changing authors of a document must write only 
+ * added or removed rows, and keeping the same authors must not write anything
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class AuthorMembershipUpdateTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private List<Author> savedAuthors;
+    private Document savedDocument;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        savedAuthors = authorRepository.saveAll(List.of(new Author("Membership", "One"), new Author("Membership", "Two"),
+                        new Author("Membership", "Three")));
+        Document document = new Document("Membership document", "Body of membership document", 
+                        new ArrayList<>(List.of(new Reference("Membership reference"))));
+        document.setAuthors(savedAuthors.subList(0, 2));
+        savedDocument = documentRepository.save(document);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    public void shouldWriteOnlyAddedAuthorRow() {
+        documentService.updateDocument(savedDocument.getId(), DocumentDTO.builder().authors(authorDtos(savedAuthors)).build());
+        entityManager.flush();
+
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotWriteJoinTableWhenAuthorsAreUnchanged() {
+        documentService.updateDocument(savedDocument.getId(), DocumentDTO.builder().authors(authorDtos(savedAuthors.subList(0, 2))).build());
+        entityManager.flush();
+
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+    }
+
+    private List<AuthorDTO> authorDtos(List<Author> authors) {
+        return authors.stream().map(author-> new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())).toList();
+    }
+}
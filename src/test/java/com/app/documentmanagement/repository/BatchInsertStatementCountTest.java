@@ -0,0 +1,112 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.BatchItemResultDTO;
+import com.app.documentmanagement.dto.BatchResultDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards batch creation of documents by counting SQL statements. Ids come from pooled sequences and
+ * inserts are sent in JDBC batches, so number of statements is a small fraction of number of rows
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BatchInsertStatementCountTest {
+
+    private static final int DOCUMENT_COUNT = 100;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Author> savedAuthors;
+    private List<Long> createdDocumentIds;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        savedAuthors = authorRepository.saveAll(List.of(new Author("Batch", "Insert"), new Author("Statement", "Batch")));
+        createdDocumentIds = new ArrayList<>();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        documentService.deleteDocumentsByIds(createdDocumentIds);
+        authorRepository.deleteAll(savedAuthors);
+    }
+
+    @Test
+    public void shouldInsertBatchWithFewStatements() {
+        List<AuthorDTO> authorDtos = savedAuthors.stream()
+                        .map(author-> new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())).toList();
+        List<DocumentDTO> documentDtos = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            DocumentDTO documentDto = new DocumentDTO(0, "Batch document "+i, "Body of batch document "+i,
+                            List.of(new ReferenceDTO("First reference "+i), new ReferenceDTO("Second reference "+i)));
+            documentDto.setAuthors(authorDtos);
+            documentDtos.add(documentDto);
+        }
+
+        BatchResultDTO result = documentService.saveDocuments(documentDtos);
+        result.getItems().forEach(item-> createdDocumentIds.add(item.getId()));
+
+        assertThat(result.getCreated()).isEqualTo(DOCUMENT_COUNT);
+        assertThat(result.getItems()).allMatch(item-> item.getStatus() == BatchItemResultDTO.Status.CREATED);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(DOCUMENT_COUNT * 3);
+        // 1 author, content and citation lookup each, a few sequence calls, 2 to 4 batches per table and
+        // 1 re-read per in memory index instead of 500 single statements
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+    }
+
+    @Test
+    public void shouldReportInvalidDocumentsWithoutFailingBatch() {
+        AuthorDTO authorDto = new AuthorDTO(savedAuthors.get(0).getId(), "Batch", "Insert");
+        DocumentDTO validDocument = new DocumentDTO(0, "Valid batch document", "Body of valid batch document",
+                        List.of(new ReferenceDTO("Valid reference")));
+        validDocument.setAuthors(List.of(authorDto));
+        DocumentDTO documentWithoutReferences = new DocumentDTO(0, "Invalid batch document", "Body of invalid batch document");
+        documentWithoutReferences.setAuthors(List.of(authorDto));
+        DocumentDTO documentWithTooLongBody = new DocumentDTO(0, "Too long batch document", "x".repeat(1001),
+                        List.of(new ReferenceDTO("Too long reference")));
+        documentWithTooLongBody.setAuthors(List.of(authorDto));
+
+        BatchResultDTO result = documentService.saveDocuments(List.of(validDocument, documentWithoutReferences, documentWithTooLongBody));
+        result.getItems().stream().filter(item-> item.getId() != null).forEach(item-> createdDocumentIds.add(item.getId()));
+
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(BatchItemResultDTO.Status.CREATED);
+        assertThat(result.getItems().get(1).getError()).isEqualTo("References must be provided");
+        assertThat(result.getItems().get(2).getStatus()).isEqualTo(BatchItemResultDTO.Status.FAILED);
+        assertThat(documentRepository.existsById(result.getItems().get(0).getId())).isTrue();
+    }
+}
@@ -0,0 +1,90 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards bulk delete of documents used by batched delete consumer. Join table rows, unused citations
+ * and documents are each removed with one statement, and authors are kept
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BulkDeleteStatementCountTest {
+
+    private static final int DOCUMENT_COUNT = 50;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Author> savedAuthors;
+    private List<Long> documentIds;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        savedAuthors = authorRepository.saveAll(List.of(new Author("Bulk", "Delete"), new Author("Statement", "Delete")));
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            Document document = new Document("Bulk document "+i, "Body of bulk document "+i,
+                            new ArrayList<>(List.of(new Reference("First reference "+i), new Reference("Second reference "+i))));
+            document.setAuthors(savedAuthors);
+            documents.add(document);
+        }
+        documentIds = documentRepository.saveAll(documents).stream().map(Document::getId).toList();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        documentService.deleteDocumentsByIds(documentIds);
+        authorRepository.deleteAll(savedAuthors);
+    }
+
+    @Test
+    public void shouldDeleteDocumentsWithFewStatements() {
+        List<Long> idsToDelete = new ArrayList<>(documentIds);
+        idsToDelete.add(-1L);
+
+        int deleted = documentService.deleteDocumentsByIds(idsToDelete);
+
+        assertThat(deleted).isEqualTo(DOCUMENT_COUNT);
+        // 2 row locks, 1 membership lookup, 1 citation lookup and 4 delete statements instead of loading and deleting every document
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(documentRepository.findAllById(documentIds)).isEmpty();
+        assertThat(authorRepository.findAllById(savedAuthors.stream().map(Author::getId).toList())).hasSize(2);
+    }
+
+    @Test
+    public void shouldIgnoreUnknownIds() {
+        assertThat(documentService.deleteDocumentsByIds(List.of(-1L, -2L))).isZero();
+        assertThat(documentRepository.findAllById(documentIds)).hasSize(DOCUMENT_COUNT);
+    }
+}
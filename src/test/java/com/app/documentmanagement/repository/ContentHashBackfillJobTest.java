@@ -0,0 +1,112 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.JobDTO;
+import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.exceptions.DocumentAlreadyExistsException;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.JobRepository;
+import com.app.documentmanagement.services.DocumentService;
+import com.app.documentmanagement.services.JobService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs content hash backfill job against documents saved without hash, with small chunks so the 
+ * documents are hashed over several committed chunks
+ */
+@SpringBootTest(properties = "documentmanagement.jobs.backfill.chunk.size=2")
+public class ContentHashBackfillJobTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author;
+    private List<Document> documents;
+
+    @BeforeEach
+    public void setup() {
+        author = authorRepository.save(new Author("Backfill", "Author"));
+        documents = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            documents.add(newDocument("Backfill document "+i, "Body of backfill document "+i, "Backfill reference "+i));
+        }
+        documents.add(newDocument("BACKFILL document 0", "Body of backfill document 0.", "backfill reference 0"));
+        documents = documentRepository.saveAll(documents);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jobRepository.deleteAll();
+        documentService.deleteDocumentsByAuthorIds(List.of(author.getId()));
+        authorRepository.deleteById(author.getId());
+    }
+
+    private Document newDocument(String title, String body, String reference) {
+        Document document = new Document(title, body, new ArrayList<>(List.of(new Reference(reference))));
+        document.setAuthors(List.of(author));
+        return document;
+    }
+
+    private JobDTO awaitFinished(long jobId) throws InterruptedException {
+        JobDTO job = jobService.getJobById(jobId);
+        for (int i = 0; i < 100 && !job.getStatus().equals("COMPLETED") && !job.getStatus().equals("FAILED"); i++) {
+            Thread.sleep(100);
+            job = jobService.getJobById(jobId);
+        }
+        return job;
+    }
+
+    @Test
+    public void shouldHashExistingDocumentsWithoutChangingVersion() throws InterruptedException {
+        JobDTO started = jobService.startContentHashBackfillJob();
+
+        JobDTO finished = awaitFinished(started.getId());
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        List<Document> hashed = documents.stream().map(document-> documentRepository.findById(document.getId()).orElseThrow()).toList();
+        assertThat(hashed.subList(0, 3)).allMatch(document-> document.getContentHash() != null && document.getVersion() == 0);
+        assertThat(hashed.get(3).getContentHash()).isNull();
+    }
+
+    @Test
+    public void shouldRejectCopyOfBackfilledDocument() throws InterruptedException {
+        awaitFinished(jobService.startContentHashBackfillJob().getId());
+        DocumentDTO copy = new DocumentDTO(0, "backfill Document 1", "Body of backfill document 1", 
+                        List.of(new ReferenceDTO("Backfill reference 1")));
+        copy.setAuthors(List.of(new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())));
+
+        DocumentAlreadyExistsException exception = assertThrows(DocumentAlreadyExistsException.class, ()-> {
+            documentService.saveDocument(copy);
+        });
+
+        assertThat(exception.getMessage()).contains("with id "+documents.get(1).getId());
+    }
+}
@@ -0,0 +1,103 @@
+package com.app.documentmanagement.repository;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.dto.SearchHitDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards that search index follows documents saved, updated and deleted through {@Code DocumentService}
+ */
+@SpringBootTest
+public class DocumentSearchIndexTest {
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author;
+    private DocumentDTO savedDocument;
+
+    @BeforeEach
+    public void setup() {
+        author = authorRepository.save(new Author("Search", "Index"));
+        DocumentDTO documentDto = new DocumentDTO(0, "Quantum zebrafish navigation", 
+                        "Zebrafish larvae navigate using a quantum compass, a surprising finding for biology.",
+                        List.of(new ReferenceDTO("Smith, J. (2020). Magnetoreception in zebrafish. Nature.")));
+        documentDto.setAuthors(List.of(new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())));
+        savedDocument = documentService.saveDocument(documentDto);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        documentService.deleteDocumentsByIds(List.of(savedDocument.getId()));
+        authorRepository.delete(author);
+    }
+
+    @Test
+    public void shouldFindSavedDocumentWithHighlightedSnippet() {
+        SearchPageDTO result = documentService.searchDocuments("zebrafish compass", 0, 10);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getId()).isEqualTo(savedDocument.getId());
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("Quantum <em>zebrafish</em> navigation");
+        assertThat(result.getItems().get(0).getSnippet()).contains("<em>Zebrafish</em>", "<em>compass</em>");
+    }
+
+    @Test
+    public void shouldEscapeMarkupOfDocumentInHighlights() {
+        DocumentDTO documentDto = new DocumentDTO(0, "<b>Scripted</b> xylophone", 
+                        "Body with <script>alert('xylophone')</script> inside & more text.",
+                        List.of(new ReferenceDTO("Doe, J. (2021). Markup in documents. Web.")));
+        documentDto.setAuthors(List.of(new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())));
+        DocumentDTO scriptedDocument = documentService.saveDocument(documentDto);
+        try {
+            SearchHitDTO hit = documentService.searchDocuments("xylophone", 0, 10).getItems().get(0);
+
+            assertThat(hit.getTitle()).isEqualTo("&lt;b&gt;Scripted&lt;/b&gt; <em>xylophone</em>");
+            assertThat(hit.getSnippet()).contains("&lt;script&gt;alert(&#39;<em>xylophone</em>&#39;)&lt;/script&gt;", "&amp;")
+                            .doesNotContain("<script>");
+        } finally {
+            documentService.deleteDocumentsByIds(List.of(scriptedDocument.getId()));
+        }
+    }
+
+    @Test
+    public void shouldFindDocumentByReference() {
+        SearchPageDTO result = documentService.searchDocuments("magnetoreception", 0, 10);
+
+        assertThat(result.getItems()).extracting(SearchHitDTO::getId).containsExactly(savedDocument.getId());
+        assertThat(result.getItems().get(0).getSnippet()).contains("<em>Magnetoreception</em>");
+    }
+
+    @Test
+    public void shouldFollowUpdatesAndDeletes() {
+        DocumentDTO update = new DocumentDTO(savedDocument.getId(), "Quantum starling navigation", savedDocument.getBody(), savedDocument.getReferences());
+        update.setAuthors(savedDocument.getAuthors());
+        documentService.updateDocument(savedDocument.getId(), update);
+
+        assertThat(documentService.searchDocuments("starling", 0, 10).getTotal()).isEqualTo(1);
+        assertThat(documentService.searchDocuments("quantum zebrafish", 0, 10).getItems().get(0).getTitle())
+                        .isEqualTo("<em>Quantum</em> starling navigation");
+
+        documentService.deleteDocumentById(savedDocument.getId());
+
+        assertThat(documentService.searchDocuments("starling", 0, 10).getTotal()).isZero();
+    }
+}
@@ -0,0 +1,171 @@
+package com.app.documentmanagement.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
+import com.app.documentmanagement.dto.MultiGetDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Document;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.services.AuthorService;
+import com.app.documentmanagement.services.DocumentService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards fetch plans of {@Code DocumentRepository} and {@Code AuthorRepository} by counting SQL statements
+ * that every use case runs. Number of statements must not grow with number of documents or authors, 
+ * so N+1 selects will fail these tests
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class FetchPlanStatementCountTest {
+
+    private static final int DOCUMENT_COUNT = 20;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Author sharedAuthor;
+    private List<Document> savedDocuments;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        sharedAuthor = authorRepository.save(new Author("Fetch", "Plan"));
+        Author coAuthor = authorRepository.save(new Author("Statement", "Count"));
+        savedDocuments = new ArrayList<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            List<Reference> references = new ArrayList<>(List.of(new Reference("First reference "+i), new Reference("Second reference "+i)));
+            Document document = new Document("Fetch plan document "+i, "Body of fetch plan document "+i, references);
+            document.setAuthors(new ArrayList<>(List.of(sharedAuthor, coAuthor)));
+            savedDocuments.add(documentRepository.save(document));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    public void shouldGetSingleDocumentWithTwoStatements() {
+        DocumentDTO documentDto = documentService.getDocumentById(savedDocuments.get(0).getId());
+
+        assertThat(documentDto.getAuthors()).hasSize(2);
+        assertThat(documentDto.getReferences()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldListAllDocumentsWithConstantStatements() {
+        List<DocumentDTO> documentDtos = documentService.getAllDocuments();
+
+        assertThat(documentDtos).hasSizeGreaterThanOrEqualTo(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldReadDocumentsPageWithConstantStatements() {
+        KeysetPageDTO<DocumentDTO> page = documentService.getDocumentsPage(0, 50);
+
+        assertThat(page.getItems()).hasSizeGreaterThanOrEqualTo(DOCUMENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldGetManyDocumentsInRequestOrderWithConstantStatements() {
+        List<Long> ids = List.of(savedDocuments.get(5).getId(), -1L, savedDocuments.get(0).getId(), savedDocuments.get(5).getId());
+
+        MultiGetDTO<DocumentDTO> result = documentService.getDocumentsByIds(ids);
+
+        assertThat(result.getItems()).extracting(DocumentDTO::getId)
+                        .containsExactly(savedDocuments.get(5).getId(), savedDocuments.get(0).getId());
+        assertThat(result.getItems().get(0).getReferences()).hasSize(2);
+        assertThat(result.getMissingIds()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void shouldGetManyAuthorsWithConstantStatements() {
+        MultiGetDTO<AuthorDTO> result = authorService.getAuthorsByIds(List.of(sharedAuthor.getId(), -1L));
+
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getDocuments()).hasSize(DOCUMENT_COUNT);
+        assertThat(result.getMissingIds()).containsExactly(-1L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldGetAuthorWithDocumentsWithConstantStatements() {
+        AuthorDTO authorDto = authorService.getAuthorById(sharedAuthor.getId());
+
+        assertThat(authorDto.getDocuments()).hasSize(DOCUMENT_COUNT);
+        assertThat(authorDto.getDocuments().get(0).getAuthors()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldListAllAuthorsWithConstantStatements() {
+        List<AuthorDTO> authorDtos = authorService.getAllAuthors();
+
+        assertThat(authorDtos).hasSizeGreaterThanOrEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldLoadDocumentsOfUpdatedAuthorWithConstantStatements() {
+        Author author = authorRepository.save(new Author("Updated", "Author"));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        List<DocumentDTO> documentDtos = savedDocuments.stream()
+                        .map(document-> new DocumentDTO(document.getId(), document.getTitle(), document.getBody())).toList();
+
+        authorService.updateAuthor(author.getId(), new AuthorDTO(author.getId(), "Updated", "Author", documentDtos));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(documentRepository.findById(savedDocuments.get(DOCUMENT_COUNT - 1).getId()).orElseThrow().getAuthors())
+                        .extracting(Author::getId).contains(author.getId());
+    }
+
+    @Test
+    public void shouldLoadDocumentWithReferencesInOneStatementBeforeDelete() {
+        boolean isDeleted = documentService.deleteDocumentById(savedDocuments.get(0).getId());
+
+        assertThat(isDeleted).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,59 @@
+package com.app.documentmanagement.repository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.entities.ProcessedEvent;
+import com.app.documentmanagement.rabbitmq.service.consumer.ProcessedEventStore;
+import com.app.documentmanagement.repositories.ProcessedEventRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class ProcessedEventStoreTest {
+
+    @Autowired
+    private ProcessedEventStore processedEventStore;
+
+    @Autowired
+    private ProcessedEventRepository processedEventRepository;
+
+    @AfterEach
+    public void tearDown() {
+        processedEventRepository.deleteAll();
+    }
+
+    @Test
+    public void shouldRememberProcessedEventsInMemoryAndTable() {
+        UUID eventId = UUID.randomUUID();
+
+        processedEventStore.markProcessed(List.of(eventId));
+        processedEventStore.markProcessed(List.of(eventId));
+
+        assertThat(processedEventStore.isProcessed(eventId)).isTrue();
+        assertThat(processedEventStore.isProcessed(UUID.randomUUID())).isFalse();
+        assertThat(processedEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldWarmUpFromTableAndPruneExpiredEvents() {
+        UUID recentEventId = UUID.randomUUID();
+        UUID expiredEventId = UUID.randomUUID();
+        processedEventRepository.saveAll(List.of(new ProcessedEvent(recentEventId, Instant.now()), 
+                        new ProcessedEvent(expiredEventId, Instant.now().minus(30, ChronoUnit.DAYS))));
+
+        processedEventStore.warmUp();
+        processedEventStore.prune();
+
+        assertThat(processedEventStore.isProcessed(recentEventId)).isTrue();
+        assertThat(processedEventStore.isProcessed(expiredEventId)).isFalse();
+        assertThat(processedEventRepository.findAll()).extracting(ProcessedEvent::getEventId).containsExactly(recentEventId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.documentmanagement.repository;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.BatchResultDTO;
+import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.entities.Author;
+import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.repositories.AuthorRepository;
+import com.app.documentmanagement.repositories.ReferenceRepository;
+import com.app.documentmanagement.services.DocumentService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves documents citing the same work and checks that the citation is stored once, and removed
+ * only when last document citing it is deleted
+ */
+@SpringBootTest
+public class SharedReferenceStorageTest {
+
+    private static final String SHARED = "Knuth, D. E. (1997). The Art of Computer Programming, Volume 1. Addison-Wesley.";
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private ReferenceRepository referenceRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author;
+
+    @BeforeEach
+    public void setup() {
+        author = authorRepository.save(new Author("Shared", "Reference"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        documentService.deleteDocumentsByAuthorIds(List.of(author.getId()));
+        authorRepository.delete(author);
+    }
+
+    private DocumentDTO newDocument(String title, String body, String... references) {
+        DocumentDTO documentDto = new DocumentDTO(0, title, body, List.of(references).stream().map(ReferenceDTO::new).toList());
+        documentDto.setAuthors(List.of(new AuthorDTO(author.getId(), author.getFirstName(), author.getLastName())));
+        return documentDto;
+    }
+
+    private List<Reference> citations(String... references) {
+        return referenceRepository.findByHashIn(List.of(references).stream().map(Reference::hashOf).toList());
+    }
+
+    @Test
+    public void shouldStoreSharedCitationOnceAndRemoveItWithLastDocument() {
+        DocumentDTO first = documentService.saveDocument(newDocument("Sorting with heaps", 
+                        "Heaps give a simple in place sorting algorithm.", SHARED, "Williams, J. W. J. (1964). Algorithm 232: Heapsort."));
+        DocumentDTO second = documentService.saveDocument(newDocument("Balanced search trees", 
+                        "Red black trees keep search logarithmic after every insert.", "Bayer, R. (1972). Symmetric binary B-Trees.", SHARED));
+
+        assertThat(citations(SHARED)).hasSize(1);
+        assertThat(first.getReferences().get(0).getId()).isEqualTo(second.getReferences().get(1).getId());
+        assertThat(documentService.getDocumentById(second.getId()).getReferences()).extracting(ReferenceDTO::getReference)
+                        .containsExactly("Bayer, R. (1972). Symmetric binary B-Trees.", SHARED);
+
+        documentService.deleteDocumentById(first.getId());
+        assertThat(citations(SHARED)).hasSize(1);
+        assertThat(citations("Williams, J. W. J. (1964). Algorithm 232: Heapsort.")).isEmpty();
+
+        documentService.deleteDocumentsByIds(List.of(second.getId()));
+        assertThat(citations(SHARED, "Bayer, R. (1972). Symmetric binary B-Trees.")).isEmpty();
+    }
+
+    @Test
+    public void shouldShareCitationsWithinBatch() {
+        BatchResultDTO result = documentService.saveDocuments(List.of(
+                        newDocument("Graph search", "Breadth first search visits nodes level by level.", SHARED),
+                        newDocument("Dynamic programming", "Overlapping subproblems are solved once and reused.", SHARED, SHARED)));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(citations(SHARED)).hasSize(1);
+        assertThat(documentService.getDocumentById(result.getItems().get(1).getId()).getReferences()).hasSize(2);
+    }
+}
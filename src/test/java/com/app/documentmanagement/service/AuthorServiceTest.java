@@ -9,6 +9,9 @@ import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.exceptions.AuthorAlreadyExistsException;
 import com.app.documentmanagement.exceptions.AuthorNotFoundException;
 import com.app.documentmanagement.exceptions.AuthorNullValueException;
+import com.app.documentmanagement.index.AuthorNameIndex;
+import com.app.documentmanagement.index.CoAuthorshipIndex;
+import com.app.documentmanagement.index.ExistingIdFilters;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,7 @@ import org.mockito.Mockito;
 import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 
 import com.app.documentmanagement.repositories.AuthorRepository;
@@ -52,6 +56,18 @@ public class AuthorServiceTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ExistingIdFilters existingIdFilters;
+
+    @Mock
+    private AuthorNameIndex authorNameIndex;
+
+    @Mock
+    private CoAuthorshipIndex coAuthorshipIndex;
+
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -69,7 +85,7 @@ public class AuthorServiceTest {
 
     @Test
     public void shouldReturnAuthors() {
-        given(authorRepository.findAll()).willReturn(authors);
+        given(authorRepository.findAllWithDocumentsBy()).willReturn(authors);
         List<AuthorDTO> retrievedAuthors = authorService.getAllAuthors();
 
         assertThat(retrievedAuthors).isNotNull().isNotEmpty()
@@ -80,7 +96,7 @@ public class AuthorServiceTest {
 
     @Test
     public void shouldReturnValidAuthorByAuthorId() {
-        given(authorRepository.findById(Long.valueOf(2))).willReturn(Optional.of(authors.get(1)));
+        given(authorRepository.findWithDocumentsById(Long.valueOf(2))).willReturn(Optional.of(authors.get(1)));
         AuthorDTO retrievedAuthor = authorService.getAuthorById(2);
 
         assertThat(retrievedAuthor).isNotNull();
@@ -90,7 +106,7 @@ public class AuthorServiceTest {
 
     @Test
     public void shouldFailOnNonExistentId() {
-        given(authorRepository.findById(Long.valueOf(12))).willThrow(new AuthorNotFoundException("No Such Author Exists with id 12"));
+        given(authorRepository.findWithDocumentsById(Long.valueOf(12))).willThrow(new AuthorNotFoundException("No Such Author Exists with id 12"));
         assertThrows(AuthorNotFoundException.class, ()-> {
             authorService.getAuthorById(2);
         });
@@ -99,7 +115,7 @@ public class AuthorServiceTest {
     @Test
     public void shouldDeleteAuthorById() {
         long authorId = 1;
-        given(authorRepository.findById(Long.valueOf(authorId))).willReturn(Optional.of(authors.get(0)));
+        given(authorRepository.findWithDocumentsById(Long.valueOf(authorId))).willReturn(Optional.of(authors.get(0)));
 
         willDoNothing().given(authorRepository).deleteById(Long.valueOf(authorId));
 
@@ -162,7 +178,7 @@ public class AuthorServiceTest {
     public void shouldUpdateAuthorWithValidData() {
         Author initialStateAuthor = authors.get(0);
         
-        given(authorRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateAuthor));
+        given(authorRepository.findWithDocumentsById(Long.valueOf(1))).willReturn(Optional.of(initialStateAuthor));
         
         initialStateAuthor.setFirstName("Haseeb");
 
@@ -0,0 +1,79 @@
+package com.app.documentmanagement.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.message.DeleteEventMessageConverter;
+import com.app.documentmanagement.rabbitmq.service.consumer.DeleteRetryService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+public class DeleteRetryServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Spy
+    private DeleteEventMessageConverter deleteEventMessageConverter = new DeleteEventMessageConverter();
+
+    @InjectMocks
+    private DeleteRetryService deleteRetryService;
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(deleteRetryService, "deadLetterExchange", "test_dlx");
+        ReflectionTestUtils.setField(deleteRetryService, "retryExchangePrefix", "test_retry");
+        ReflectionTestUtils.setField(deleteRetryService, "retryDelays", List.of(1000L, 10000L));
+    }
+
+    private org.springframework.messaging.Message<DeleteEvent> eventMessage(Integer attempt) {
+        MessageBuilder<DeleteEvent> builder = MessageBuilder.withPayload(DeleteEvent.of(DeleteEvent.EntityType.DOCUMENT, List.of(1L)))
+                        .setHeader(AmqpHeaders.RECEIVED_ROUTING_KEY, "document.key");
+        if (attempt != null) {
+            builder.setHeader(DeleteRetryService.RETRY_ATTEMPT_HEADER, attempt);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void shouldSendFirstFailureToFirstRetryTier() {
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+
+        deleteRetryService.retryOrDeadLetter(eventMessage(null), new RuntimeException("Lock timeout"));
+
+        verify(rabbitTemplate).send(eq("test_retry_1000"), eq("document.key"), captor.capture());
+        assertThat(captor.getValue().getMessageProperties().<Integer>getHeader(DeleteRetryService.RETRY_ATTEMPT_HEADER)).isEqualTo(1);
+        assertThat(captor.getValue().getMessageProperties().<String>getHeader(DeleteRetryService.EXCEPTION_MESSAGE_HEADER)).isEqualTo("Lock timeout");
+    }
+
+    @Test
+    public void shouldBackOffLongerOnNextAttempt() {
+        deleteRetryService.retryOrDeadLetter(eventMessage(1), new RuntimeException("Lock timeout"));
+
+        verify(rabbitTemplate).send(eq("test_retry_10000"), eq("document.key"), any(Message.class));
+    }
+
+    @Test
+    public void shouldDeadLetterWhenRetriesAreExhausted() {
+        deleteRetryService.retryOrDeadLetter(eventMessage(2), new RuntimeException("Lock timeout"));
+
+        verify(rabbitTemplate).send(eq("test_dlx"), eq("document.key"), any(Message.class));
+    }
+}
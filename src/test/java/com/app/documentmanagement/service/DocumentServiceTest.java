@@ -4,34 +4,61 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.app.documentmanagement.dto.AuthorDTO;
+import com.app.documentmanagement.dto.BatchItemResultDTO;
+import com.app.documentmanagement.dto.BatchResultDTO;
 import com.app.documentmanagement.dto.DocumentDTO;
+import com.app.documentmanagement.dto.DocumentSummaryDTO;
+import com.app.documentmanagement.dto.DuplicateDTO;
+import com.app.documentmanagement.dto.KeysetPageDTO;
 import com.app.documentmanagement.dto.ReferenceDTO;
+import com.app.documentmanagement.dto.SearchPageDTO;
 import com.app.documentmanagement.entities.Author;
 import com.app.documentmanagement.entities.Document;
 import com.app.documentmanagement.entities.Reference;
+import com.app.documentmanagement.events.ChangeType;
+import com.app.documentmanagement.events.DocumentChangedEvent;
 import com.app.documentmanagement.exceptions.AuthorNotFoundException;
+import com.app.documentmanagement.exceptions.AuthorNullValueException;
+import com.app.documentmanagement.exceptions.DocumentAlreadyExistsException;
 import com.app.documentmanagement.exceptions.DocumentNotFoundException;
 import com.app.documentmanagement.exceptions.DocumentNullValueException;
+import com.app.documentmanagement.exceptions.InvalidPatchException;
+import com.app.documentmanagement.exceptions.PreconditionFailedException;
+import com.app.documentmanagement.index.CitationIndex;
+import com.app.documentmanagement.index.DocumentSearchIndex;
+import com.app.documentmanagement.index.DuplicateDetector;
+import com.app.documentmanagement.index.ExistingIdFilters;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.app.documentmanagement.repositories.AuthorRepository;
 import com.app.documentmanagement.repositories.DocumentRepository;
+import com.app.documentmanagement.repositories.ReferenceRepository;
 import com.app.documentmanagement.services.AuthorServiceImpl;
 import com.app.documentmanagement.services.DocumentServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -44,6 +71,27 @@ public class DocumentServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private ReferenceRepository referenceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ExistingIdFilters existingIdFilters;
+
+    @Mock
+    private DocumentSearchIndex documentSearchIndex;
+
+    @Mock
+    private DuplicateDetector duplicateDetector;
+
+    @Mock
+    private CitationIndex citationIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private DocumentServiceImpl documentService;
 
@@ -76,6 +124,37 @@ public class DocumentServiceTest {
                         .isNotEmpty().isEqualTo(documents.get(0).getTitle());
     }
 
+    @Test
+    public void shouldReturnDocumentsPageWithNextCursor() {
+        given(documentRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(3))).willReturn(documents);
+        KeysetPageDTO<DocumentDTO> page = documentService.getDocumentsPage(0, 2);
+
+        assertThat(page.getItems()).isNotNull().hasSize(2);
+        assertThat(page.getLimit()).isEqualTo(2);
+        assertThat(page.getNextCursor()).isEqualTo(documents.get(1).getId());
+    }
+
+    @Test
+    public void shouldReturnLastDocumentsPageWithoutNextCursor() {
+        given(documentRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(11))).willReturn(documents);
+        KeysetPageDTO<DocumentDTO> page = documentService.getDocumentsPage(0, 10);
+
+        assertThat(page.getItems()).isNotNull().hasSize(documents.size());
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void shouldReturnDocumentSummariesPage() {
+        List<DocumentSummaryDTO> summaries = List.of(new DocumentSummaryDTO(1, "The Future of Artificial Intelligence"),
+                        new DocumentSummaryDTO(2, "Climate Change: Challenges and Solutions"));
+        given(documentRepository.findSummariesByIdGreaterThan(0, Limit.of(2))).willReturn(summaries);
+        KeysetPageDTO<DocumentSummaryDTO> page = documentService.getDocumentSummariesPage(0, 1);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getTitle()).isEqualTo("The Future of Artificial Intelligence");
+        assertThat(page.getNextCursor()).isEqualTo(1);
+    }
+
     @Test
     public void shouldReturnValidDocumentByDocumentId() {
         given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(documents.get(0)));
@@ -95,12 +174,33 @@ public class DocumentServiceTest {
         });
     }
 
+    @Test
+    public void shouldFailWithoutQueryOnDefinitelyAbsentId() {
+        long documentId = 5;
+        given(existingIdFilters.isDocumentDefinitelyAbsent(documentId)).willReturn(true);
+        DocumentNotFoundException exception = assertThrows(DocumentNotFoundException.class, ()-> {
+            documentService.getDocumentById(documentId);
+        });
+
+        assertThat(exception.getMessage()).isEqualTo("No Such Document Exists with id "+documentId);
+        assertThat(exception.getStackTrace()).isEmpty();
+        Mockito.verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    public void shouldCapSearchLimitAndDelegateToIndex() {
+        SearchPageDTO expectedPage = new SearchPageDTO(List.of(), 0, 0, 500);
+        given(documentSearchIndex.search("quantum", 0, 500)).willReturn(expectedPage);
+
+        assertThat(documentService.searchDocuments("quantum", -5, 10000)).isSameAs(expectedPage);
+    }
+
     @Test
     public void shouldDeleteDocumentById() {
         long doucmentId = 1;
-        given(documentRepository.findById(Long.valueOf(doucmentId))).willReturn(Optional.of(documents.get(0)));
+        given(documentRepository.findWithReferencesById(doucmentId)).willReturn(Optional.of(documents.get(0)));
 
-        willDoNothing().given(documentRepository).deleteById(Long.valueOf(doucmentId));
+        willDoNothing().given(documentRepository).delete(documents.get(0));
 
         boolean isDeleted = documentService.deleteDocumentById(doucmentId);
         
@@ -123,7 +223,7 @@ public class DocumentServiceTest {
     @Test
     public void shouldSaveDocumentWithValidData() {
 
-        given(authorRepository.findById(Long.valueOf(10))).willReturn(Optional.of(authors.get(9)));
+        given(authorRepository.existsById(Long.valueOf(10))).willReturn(true);
 
         DocumentDTO documentDto = populateSingleDocument();
         Document document = documentService.convertToDocumentEntityFromDoucmentDTO(documentDto);
@@ -137,6 +237,109 @@ public class DocumentServiceTest {
         assertThat(savedDocumentDto.getBody()).isEqualTo(documentDto.getBody());
     }
 
+    @Test
+    public void shouldSaveDocumentAgainWhenCitationWasCreatedConcurrently() {
+        given(authorRepository.existsById(Long.valueOf(10))).willReturn(true);
+        DocumentDTO documentDto = populateSingleDocument();
+        given(documentRepository.save(Mockito.any(Document.class))).willReturn(documentService.convertToDocumentEntityFromDoucmentDTO(documentDto));
+        willThrow(new DataIntegrityViolationException("Unique index or primary key violation: \"PUBLIC.UK_REFERENCES_HASH_INDEX_A\""))
+                        .willDoNothing().given(documentRepository).flush();
+
+        DocumentDTO savedDocumentDto = documentService.saveDocument(documentDto);
+
+        assertThat(savedDocumentDto.getTitle()).isEqualTo(documentDto.getTitle());
+        verify(documentRepository, Mockito.times(2)).save(Mockito.any(Document.class));
+        verify(transactionManager).rollback(Mockito.any());
+    }
+
+    @Test
+    public void shouldRejectNearDuplicateDocument() {
+        DocumentDTO documentDto = populateSingleDocument();
+        given(duplicateDetector.findDuplicates(documentDto.getTitle(), documentDto.getBody())).willReturn(List.of(new DuplicateDTO(1, 0.93)));
+
+        DocumentAlreadyExistsException exception = assertThrows(DocumentAlreadyExistsException.class, ()-> {
+            documentService.saveDocument(documentDto);
+        });
+
+        assertThat(exception.getMessage()).contains("document with id 1");
+        verify(documentRepository, Mockito.never()).save(Mockito.any(Document.class));
+    }
+
+    @Test
+    public void shouldRejectDocumentWithSameContent() {
+        DocumentDTO documentDto = populateSingleDocument();
+        given(documentRepository.findIdByContentHash(Mockito.anyString())).willReturn(Optional.of(7L));
+
+        DocumentAlreadyExistsException exception = assertThrows(DocumentAlreadyExistsException.class, ()-> {
+            documentService.saveDocument(documentDto);
+        });
+
+        assertThat(exception.getMessage()).contains("same content already exists with id 7");
+        verify(duplicateDetector, Mockito.never()).findDuplicates(Mockito.anyString(), Mockito.anyString());
+        verify(documentRepository, Mockito.never()).save(Mockito.any(Document.class));
+    }
+
+    @Test
+    public void shouldSaveAndFlagNearDuplicateDocument() {
+        ReflectionTestUtils.setField(documentService, "duplicateMode", DuplicateDetector.Mode.FLAG);
+        given(authorRepository.existsById(Long.valueOf(10))).willReturn(true);
+        DocumentDTO documentDto = populateSingleDocument();
+        given(duplicateDetector.findDuplicates(documentDto.getTitle(), documentDto.getBody())).willReturn(List.of(new DuplicateDTO(1, 0.93)));
+        given(documentRepository.save(Mockito.any(Document.class))).willReturn(documentService.convertToDocumentEntityFromDoucmentDTO(documentDto));
+
+        DocumentDTO savedDocumentDto = documentService.saveDocument(documentDto);
+
+        assertThat(savedDocumentDto.getPossibleDuplicates()).extracting(DuplicateDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void shouldFailSaveDocumentWithNullAuthor() {
+        DocumentDTO documentDto = populateSingleDocument();
+        documentDto.setAuthors(Arrays.asList(new AuthorDTO(10,"Taha","Shahid"), null));
+
+        assertThrows(AuthorNullValueException.class, ()-> {
+            documentService.saveDocument(documentDto);
+        });
+    }
+
+    @Test
+    public void shouldReportNullAuthorAsFailedBatchItem() {
+        DocumentDTO documentDto = populateSingleDocument();
+        documentDto.setAuthors(Arrays.asList((AuthorDTO) null));
+
+        BatchResultDTO result = documentService.saveDocuments(List.of(documentDto));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(BatchItemResultDTO.Status.FAILED);
+        assertThat(result.getItems().get(0).getError()).isEqualTo("Authors must not contain null");
+    }
+
+    @Test
+    public void shouldReportNearDuplicateAsFailedBatchItem() {
+        DocumentDTO documentDto = populateSingleDocument();
+        given(authorRepository.findAllById(Mockito.anyIterable())).willReturn(List.of(new Author(10, "Taha", "Shahid")));
+        given(duplicateDetector.findDuplicates(documentDto.getTitle(), documentDto.getBody())).willReturn(List.of(new DuplicateDTO(1, 0.93)));
+
+        BatchResultDTO result = documentService.saveDocuments(List.of(documentDto));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getError()).contains("document with id 1");
+        verify(documentRepository, Mockito.never()).save(Mockito.any(Document.class));
+    }
+
+    @Test
+    public void shouldNotExposeDatabaseErrorOfBatchItem() {
+        DocumentDTO documentDto = populateSingleDocument();
+        given(authorRepository.findAllById(Mockito.anyIterable())).willReturn(List.of(new Author(10, "Taha", "Shahid")));
+        given(documentRepository.save(Mockito.any(Document.class)))
+                        .willThrow(new DataIntegrityViolationException("Unique index or primary key violation: \"PUBLIC.UK_DOCUMENTS_CONTENT_HASH_INDEX_A\""));
+
+        BatchResultDTO result = documentService.saveDocuments(List.of(documentDto));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getError()).isEqualTo("Document with same content already exists");
+    }
+
     //@Disabled
     @Test
     public void shouldSaveDocumentFailWithInValidData() {
@@ -197,7 +400,7 @@ public class DocumentServiceTest {
     @Test
     public void shouldUpdateDocumentWithValidData() {
         List<Author> authorsSublist = authors.stream().filter(author -> author.getId() <=3).toList();
-        authorsSublist.forEach(author -> given(authorRepository.findById(Long.valueOf(author.getId()))).willReturn(Optional.of(authors.get(0))));
+        given(authorRepository.findAllById(Mockito.anyIterable())).willReturn(authorsSublist);
         
         Document initialStateDocument = documents.get(0);
         given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateDocument));
@@ -216,15 +419,12 @@ public class DocumentServiceTest {
     @Test
     public void shouldAddAuthorInDocumentWithValidData() {
         Document initialStateDocument = documents.get(0);
-        List<Author> documentAuthors = initialStateDocument.getAuthors();
-        documentAuthors.forEach(author -> given(authorRepository.findById(Long.valueOf(author.getId()))).willReturn(Optional.of(author)));
-
-        given(authorRepository.findById(Long.valueOf(10))).willReturn(Optional.of(authors.get(9)));
-        
+        Set<Author> documentAuthors = initialStateDocument.getAuthors();
         given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateDocument));
         
         List<Author> updatedAuthorsList = documentAuthors.stream().map(author-> author).collect(Collectors.toList());
         updatedAuthorsList.add(authors.get(9));
+        given(authorRepository.findAllById(Mockito.anyIterable())).willReturn(List.copyOf(updatedAuthorsList));
 
         initialStateDocument.setAuthors(updatedAuthorsList);
 
@@ -239,6 +439,82 @@ public class DocumentServiceTest {
         assertThat(savedDocumentDto.getAuthors()).isNotNull().isNotEmpty().hasSize(4);
     }
 
+    @Test
+    public void shouldKeepUnchangedAuthorsWhenAuthorListIsUpdated() {
+        Document initialStateDocument = documents.get(1);
+        Author keptAuthor = authors.get(3);
+        given(documentRepository.findById(Long.valueOf(2))).willReturn(Optional.of(initialStateDocument));
+        given(authorRepository.findAllById(List.of(4L, 5L, 6L))).willReturn(List.of(authors.get(3), authors.get(4), authors.get(5)));
+        given(documentRepository.save(initialStateDocument)).willReturn(initialStateDocument);
+
+        List<AuthorDTO> authorDtos = List.of(new AuthorDTO(4,"Rehan","Uddin"), new AuthorDTO(5,"Taha","Ahmed"), new AuthorDTO(6,"Zia","Khan"));
+        documentService.updateDocument(2, DocumentDTO.builder().authors(authorDtos).build());
+
+        assertThat(initialStateDocument.getAuthors()).extracting(Author::getId).containsExactly(4L, 5L, 6L);
+        assertThat(initialStateDocument.getAuthors()).anyMatch(author-> author == keptAuthor);
+    }
+
+    @Test
+    public void shouldPatchOnlyFieldsPresentInMergePatch() throws Exception {
+        Document initialStateDocument = documents.get(0);
+        String originalBody = initialStateDocument.getBody();
+        given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateDocument));
+
+        DocumentDTO patchedDocument = documentService.patchDocument(1, new ObjectMapper().readTree("{\"title\":\"The Future of AI\"}"), null);
+
+        assertThat(patchedDocument.getTitle()).isEqualTo("The Future of AI");
+        assertThat(patchedDocument.getBody()).isEqualTo(originalBody);
+        assertThat(patchedDocument.getAuthors()).hasSize(3);
+    }
+
+    @Test
+    public void shouldRejectMergePatchOfReferences() throws Exception {
+        given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(documents.get(0)));
+
+        assertThrows(InvalidPatchException.class, ()-> documentService.patchDocument(1, 
+                        new ObjectMapper().readTree("{\"references\":[]}"), null));
+    }
+
+    @Test
+    public void shouldUpdateDocumentWhenIfMatchIsCurrent() {
+        Document initialStateDocument = documents.get(0);
+        initialStateDocument.setVersion(2);
+        given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateDocument));
+        given(documentRepository.save(initialStateDocument)).willReturn(initialStateDocument);
+
+        DocumentDTO documentToBeSaved = DocumentDTO.builder().title("The Future of AI").build();
+        DocumentDTO savedDocumentDto = documentService.updateDocument(1, documentToBeSaved, "\"1.0\", \"2.0\"");
+        assertThat(savedDocumentDto.getTitle()).isEqualTo("The Future of AI");
+    }
+
+    @Test
+    public void shouldThrowPreconditionFailedWhenIfMatchIsStale() {
+        Document initialStateDocument = documents.get(0);
+        initialStateDocument.setVersion(2);
+        given(documentRepository.findById(Long.valueOf(1))).willReturn(Optional.of(initialStateDocument));
+
+        DocumentDTO documentToBeSaved = DocumentDTO.builder().title("The Future of AI").build();
+        assertThrows(PreconditionFailedException.class, ()-> documentService.updateDocument(1, documentToBeSaved, "\"1.0\""));
+        assertThat(initialStateDocument.getTitle()).isEqualTo("The Future of Artificial Intelligence");
+    }
+
+    @Test
+    public void shouldPublishChangeEventWithOldAndNewAuthorsOnUpdate() {
+        Document initialStateDocument = documents.get(1);
+        given(documentRepository.findById(Long.valueOf(2))).willReturn(Optional.of(initialStateDocument));
+        given(authorRepository.findAllById(List.of(10L))).willReturn(List.of(authors.get(9)));
+        given(documentRepository.save(initialStateDocument)).willReturn(initialStateDocument);
+
+        DocumentDTO documentToBeSaved = DocumentDTO.builder().authors(List.of(new AuthorDTO(10,"Taha","Shahid"))).build();
+        documentService.updateDocument(2, documentToBeSaved);
+
+        ArgumentCaptor<DocumentChangedEvent> eventCaptor = ArgumentCaptor.forClass(DocumentChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getChangeType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(eventCaptor.getValue().getDocumentId()).isEqualTo(2);
+        assertThat(eventCaptor.getValue().getAuthorIds()).containsExactlyInAnyOrder(3L, 4L, 5L, 10L);
+    }
+
     private List<Author> populateAuthorsList() {
         return Arrays.asList(
             new Author(1, "Zeeshan","Hanif"),
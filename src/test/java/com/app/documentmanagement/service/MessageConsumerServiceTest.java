@@ -0,0 +1,84 @@
+package com.app.documentmanagement.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.app.documentmanagement.rabbitmq.message.DeleteEvent;
+import com.app.documentmanagement.rabbitmq.service.consumer.DeleteRetryService;
+import com.app.documentmanagement.rabbitmq.service.consumer.MessageConsumerService;
+import com.app.documentmanagement.rabbitmq.service.consumer.ProcessedEventStore;
+import com.app.documentmanagement.services.JobService;
+import com.app.documentmanagement.services.DocumentService;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+public class MessageConsumerServiceTest {
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private DeleteRetryService deleteRetryService;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @InjectMocks
+    private MessageConsumerService messageConsumerService;
+
+    private Message<DeleteEvent> documentMessage(UUID eventId, long documentId) {
+        return MessageBuilder.withPayload(new DeleteEvent(eventId, DeleteEvent.EntityType.DOCUMENT, System.currentTimeMillis(), List.of(documentId)))
+                        .setHeader(AmqpHeaders.RECEIVED_ROUTING_KEY, "document.key").build();
+    }
+
+    @Test
+    public void shouldDropProcessedEventsBeforeDeleting() {
+        UUID processedEventId = UUID.randomUUID();
+        UUID newEventId = UUID.randomUUID();
+        given(processedEventStore.isProcessed(processedEventId)).willReturn(true);
+
+        messageConsumerService.consumeDocumentMessages(List.of(documentMessage(processedEventId, 1L), 
+                        documentMessage(newEventId, 2L), documentMessage(newEventId, 2L)));
+
+        verify(documentService).deleteDocumentsByIds(Set.of(2L));
+        verify(processedEventStore).markProcessed(List.of(newEventId));
+    }
+
+    @Test
+    public void shouldNotTouchDatabaseWhenAllEventsAreProcessed() {
+        UUID processedEventId = UUID.randomUUID();
+        given(processedEventStore.isProcessed(processedEventId)).willReturn(true);
+
+        messageConsumerService.consumeDocumentMessages(List.of(documentMessage(processedEventId, 1L)));
+
+        verify(documentService, never()).deleteDocumentsByIds(anyCollection());
+    }
+
+    @Test
+    public void shouldNotMarkEventSentForRetry() {
+        UUID eventId = UUID.randomUUID();
+        given(documentService.deleteDocumentsByIds(anyCollection())).willThrow(new RuntimeException("Lock timeout"));
+
+        messageConsumerService.consumeDocumentMessages(List.of(documentMessage(eventId, 1L)));
+
+        verify(deleteRetryService).retryOrDeadLetter(any(), any());
+        verify(processedEventStore).markProcessed(List.of());
+    }
+}
@@ -0,0 +1,89 @@
+package com.app.documentmanagement.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import com.app.documentmanagement.entities.OutboxEvent;
+import com.app.documentmanagement.rabbitmq.service.producer.OutboxRelayService;
+import com.app.documentmanagement.repositories.OutboxEventRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+public class OutboxRelayServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @InjectMocks
+    private OutboxRelayService outboxRelayService;
+
+    private List<OutboxEvent> outboxEvents() {
+        OutboxEvent first = new OutboxEvent("event-1", "document.key", new byte[] { 1 }, Instant.now());
+        first.setId(1);
+        OutboxEvent second = new OutboxEvent("event-2", "author.key", new byte[] { 2 }, Instant.now());
+        second.setId(2);
+        return List.of(first, second);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void invokeOnTemplate() {
+        given(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).willAnswer(invocation-> 
+                        ((RabbitOperations.OperationsCallback<Object>) invocation.getArgument(0)).doInRabbit(rabbitTemplate));
+    }
+
+    @Test
+    public void shouldPublishBatchAndRemoveItAfterConfirm() {
+        given(outboxEventRepository.findByOrderByIdAsc(any(Limit.class))).willReturn(outboxEvents());
+        invokeOnTemplate();
+
+        int published = outboxRelayService.relayBatch();
+
+        assertThat(published).isEqualTo(2);
+        verify(rabbitTemplate, times(2)).send(any(), anyString(), any(Message.class));
+        verify(rabbitTemplate).waitForConfirmsOrDie(anyLong());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    public void shouldKeepBatchWhenBrokerDoesNotConfirm() {
+        given(outboxEventRepository.findByOrderByIdAsc(any(Limit.class))).willReturn(outboxEvents());
+        invokeOnTemplate();
+        doThrow(new AmqpException("Timed out waiting for confirms")).when(rabbitTemplate).waitForConfirmsOrDie(anyLong());
+
+        int published = outboxRelayService.relayBatch();
+
+        assertThat(published).isZero();
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    public void shouldDoNothingWhenOutboxIsEmpty() {
+        given(outboxEventRepository.findByOrderByIdAsc(any(Limit.class))).willReturn(List.of());
+
+        assertThat(outboxRelayService.relayBatch()).isZero();
+        verify(rabbitTemplate, never()).send(any(), eq("document.key"), any(Message.class));
+    }
+}